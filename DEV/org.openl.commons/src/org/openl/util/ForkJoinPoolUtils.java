@@ -0,0 +1,50 @@
+package org.openl.util;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An util class for the dedicated fork/join pools which split the work by chunks.
+ */
+public final class ForkJoinPoolUtils {
+
+    /**
+     * The number of the chunks per thread of the pool. The smaller chunks balance the load better, because the idle
+     * threads steal the remaining chunks.
+     */
+    static final int CHUNKS_PER_THREAD = 4;
+
+    private ForkJoinPoolUtils() {
+    }
+
+    /**
+     * Creates a fork/join pool with the named threads.
+     *
+     * @param threadNamePrefix the prefix of the names of the threads, the names are numbered from 1.
+     * @param parallelism the number of the threads, or the number of the processors if it is not positive.
+     * @return the new pool.
+     */
+    public static ForkJoinPool newPool(String threadNamePrefix, int parallelism) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+            pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName(threadNamePrefix + "-" + threadNumber.incrementAndGet());
+                return thread;
+            },
+            null,
+            false);
+    }
+
+    /**
+     * Returns the size of the chunks to split the work of the given size on the pool.
+     *
+     * @param pool the pool which does the work.
+     * @param size the number of the items of the work.
+     * @return the positive number of the items of a chunk.
+     */
+    public static int getChunkSize(ForkJoinPool pool, int size) {
+        return Math.max(1, size / (pool.getParallelism() * CHUNKS_PER_THREAD));
+    }
+}
@@ -0,0 +1,45 @@
+package org.openl.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+public class ForkJoinPoolUtilsTest {
+
+    @Test
+    public void testNewPool() {
+        ForkJoinPool pool = ForkJoinPoolUtils.newPool("test-pool", 2);
+        try {
+            assertEquals(2, pool.getParallelism());
+            assertFalse(pool.getAsyncMode());
+            assertEquals("test-pool-1", pool.submit(() -> Thread.currentThread().getName()).join());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testNewPoolWithDefaultParallelism() {
+        ForkJoinPool pool = ForkJoinPoolUtils.newPool("test-pool", 0);
+        try {
+            assertEquals(Runtime.getRuntime().availableProcessors(), pool.getParallelism());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testGetChunkSize() {
+        ForkJoinPool pool = ForkJoinPoolUtils.newPool("test-pool", 2);
+        try {
+            assertEquals(1, ForkJoinPoolUtils.getChunkSize(pool, 0));
+            assertEquals(1, ForkJoinPoolUtils.getChunkSize(pool, 7));
+            assertEquals(12, ForkJoinPoolUtils.getChunkSize(pool, 100));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
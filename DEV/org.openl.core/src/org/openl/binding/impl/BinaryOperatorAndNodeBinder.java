@@ -39,7 +39,7 @@ public class BinaryOperatorAndNodeBinder extends BinaryOperatorNodeBinder {
             return makeErrorNode(message, node, bindingContext);
         }
 
-        return new BinaryOpNode(node, left, right, methodCaller);
+        return DirectBinaryOpNode.create(node, left, right, methodCaller);
     }
 
 }
@@ -40,7 +40,7 @@ public class BinaryOperatorOrNodeBinder extends BinaryOperatorNodeBinder {
             return makeErrorNode(message, node, bindingContext);
         }
 
-        return new BinaryOpNode(node, left, right, methodCaller);
+        return DirectBinaryOpNode.create(node, left, right, methodCaller);
     }
 
 }
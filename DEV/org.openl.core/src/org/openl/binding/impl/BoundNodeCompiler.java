@@ -0,0 +1,493 @@
+package org.openl.binding.impl;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.openl.binding.IBoundNode;
+import org.openl.binding.ILocalVar;
+import org.openl.types.IMethodCaller;
+import org.openl.types.IOpenClass;
+import org.openl.types.IOpenField;
+import org.openl.types.java.JavaOpenMethod;
+import org.openl.util.ClassUtils;
+import org.openl.vm.IRuntimeEnv;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compiles a bound node tree into a JVM class which extends {@link CompiledMethodBody}.
+ * <p>
+ * The following nodes are translated into the byte code: blocks, if-else expressions, literals, reading of local
+ * variables and binary operators which are bound to public static Java methods. The operators are invoked directly
+ * with unboxed arguments. All other nodes are evaluated by the interpreter from the generated code.
+ * <p>
+ * The compilation tier is disabled by default. It is turned on by the {@value #THRESHOLD_PROPERTY} system property
+ * which defines the number of invocations after which a method body is compiled.
+ */
+public final class BoundNodeCompiler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BoundNodeCompiler.class);
+
+    public static final String THRESHOLD_PROPERTY = "org.openl.compiler.threshold";
+
+    private static final int THRESHOLD = initThreshold();
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private static final String CLASS_NAME_PREFIX = "org.openl.binding.impl.compiled.CompiledBody$";
+    private static final String BASE_CLASS = Type.getInternalName(CompiledMethodBody.class);
+    private static final String NODE_CLASS = Type.getInternalName(IBoundNode.class);
+    private static final String NODES_DESC = Type.getDescriptor(IBoundNode[].class);
+    private static final String ENV_CLASS = Type.getInternalName(IRuntimeEnv.class);
+    private static final String ENV_DESC = Type.getDescriptor(IRuntimeEnv.class);
+    private static final String OBJECT_CLASS = Type.getInternalName(Object.class);
+    private static final String OBJECTS_DESC = Type.getDescriptor(Object[].class);
+    private static final String OBJECT_DESC = Type.getDescriptor(Object.class);
+
+    private static final int THIS_VAR = 0;
+    private static final int ENV_VAR = 1;
+    private static final int FRAME_VAR = 2;
+
+    private final ClassLoader classLoader;
+    private final List<IBoundNode> nodes = new ArrayList<>();
+    private final List<Object> constants = new ArrayList<>();
+    private MethodVisitor mv;
+    private int nextLocal = FRAME_VAR + 1;
+    private int compiledNodes;
+
+    private BoundNodeCompiler(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    private static int initThreshold() {
+        String value = System.getProperty(THRESHOLD_PROPERTY);
+        if (value != null) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                LOG.warn("Invalid value '{}' of the '{}' property. The compilation tier is disabled.",
+                    value,
+                    THRESHOLD_PROPERTY);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return the number of invocations after which a method body is compiled, or zero or a negative number if the
+     *         compilation tier is disabled.
+     */
+    public static int getThreshold() {
+        return THRESHOLD;
+    }
+
+    /**
+     * Compiles the given bound node tree.
+     *
+     * @return compiled body or {@code null} if the tree cannot be compiled. In the last case the tree must be evaluated
+     *         by the interpreter.
+     */
+    public static CompiledMethodBody compile(IBoundNode root) {
+        try {
+            return new BoundNodeCompiler(BoundNodeCompiler.class.getClassLoader()).doCompile(root);
+        } catch (Exception | LinkageError e) {
+            LOG.debug("Failed to compile the bound node tree. The interpreter is used.", e);
+            return null;
+        }
+    }
+
+    private CompiledMethodBody doCompile(IBoundNode root) throws Exception {
+        // The root node is always the first one. It is used for the error reporting.
+        nodes.add(root);
+
+        String className = CLASS_NAME_PREFIX + COUNTER.incrementAndGet();
+        String internalName = className.replace('.', '/');
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES) {
+            @Override
+            protected String getCommonSuperClass(String type1, String type2) {
+                // All merged values are used as java.lang.Object only
+                return OBJECT_CLASS;
+            }
+        };
+        cw.visit(Opcodes.V1_8,
+            Opcodes.ACC_PUBLIC + Opcodes.ACC_FINAL + Opcodes.ACC_SUPER,
+            internalName,
+            null,
+            BASE_CLASS,
+            null);
+
+        String constructorDesc = "(" + NODES_DESC + OBJECTS_DESC + ")V";
+        mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", constructorDesc, null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, BASE_CLASS, "<init>", constructorDesc, false);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        mv = cw.visitMethod(Opcodes.ACC_PROTECTED, "doEvaluate", "(" + ENV_DESC + ")" + OBJECT_DESC, null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, ENV_VAR);
+        mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, ENV_CLASS, "getLocalFrame", "()" + OBJECTS_DESC, true);
+        mv.visitVarInsn(Opcodes.ASTORE, FRAME_VAR);
+        emit(root, Object.class);
+        mv.visitInsn(Opcodes.ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+        cw.visitEnd();
+
+        if (compiledNodes == 0) {
+            // Nothing to optimize
+            return null;
+        }
+
+        Class<?> clazz = new CompiledBodyClassLoader(classLoader).define(className, cw.toByteArray());
+        return (CompiledMethodBody) clazz.getConstructor(IBoundNode[].class, Object[].class)
+            .newInstance(nodes.toArray(IBoundNode.EMPTY), constants.toArray());
+    }
+
+    /**
+     * Emits the code which pushes a value of the node to the operand stack. The value is converted to the wanted type.
+     */
+    private void emit(IBoundNode node, Class<?> want) {
+        Class<?> actual = emitNode(node, want);
+        convert(actual, want);
+    }
+
+    /**
+     * Emits the code which pushes a value of the node to the operand stack.
+     *
+     * @return a type of the pushed value
+     */
+    private Class<?> emitNode(IBoundNode node, Class<?> want) {
+        Class<?> nodeClass = node.getClass();
+        if (nodeClass == BinaryOpNode.class || node instanceof DirectBinaryOpNode) {
+            Method method = getStaticOperator((BinaryOpNode) node);
+            if (method != null) {
+                return emitOperator((BinaryOpNode) node, method);
+            }
+        } else if (nodeClass == LiteralBoundNode.class && ((LiteralBoundNode) node).getValue() != null) {
+            return emitLiteral(((LiteralBoundNode) node).getValue(), want);
+        } else if (nodeClass == FieldBoundNode.class && isLocalVar((FieldBoundNode) node)) {
+            return emitLocalVar((ILocalVar) ((FieldBoundNode) node).getBoundField());
+        } else if (nodeClass == BlockNode.class && isCompilable(node.getChildren())) {
+            return emitBlock(node.getChildren(), want);
+        } else if (nodeClass == IfNode.class && isCompilable(node.getChildren())) {
+            return emitIf(node);
+        }
+        return emitInterpreted(node);
+    }
+
+    private static boolean isCompilable(IBoundNode[] children) {
+        if (children == null) {
+            return false;
+        }
+        for (IBoundNode child : children) {
+            if (child == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLocalVar(FieldBoundNode node) {
+        IOpenField field = node.getBoundField();
+        return field instanceof ILocalVar && node.getTargetNode() == null && node.getDims() == 0;
+    }
+
+    private Method getStaticOperator(BinaryOpNode node) {
+        IMethodCaller methodCaller = node.getMethodCaller();
+        if (!(methodCaller instanceof JavaOpenMethod) || node.getChildren().length != 2) {
+            return null;
+        }
+        Method method = ((JavaOpenMethod) methodCaller).getJavaMethod();
+        int modifiers = method.getModifiers();
+        if (!Modifier.isStatic(modifiers) || !Modifier.isPublic(modifiers) || !Modifier
+            .isPublic(method.getDeclaringClass().getModifiers()) || method.isVarArgs()) {
+            return null;
+        }
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        if (parameterTypes.length != 2 || !isVisible(method.getDeclaringClass()) || !isVisible(
+            method.getReturnType()) || !isVisible(parameterTypes[0]) || !isVisible(parameterTypes[1])) {
+            return null;
+        }
+        return method;
+    }
+
+    /**
+     * Checks that the generated class is able to link the given class.
+     */
+    private boolean isVisible(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, classLoader) == type;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private Class<?> emitOperator(BinaryOpNode node, Method method) {
+        compiledNodes++;
+        int index = addNode(node);
+        IBoundNode[] children = node.getChildren();
+        Class<?>[] parameterTypes = method.getParameterTypes();
+
+        int[] slots = new int[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            emit(children[i], parameterTypes[i]);
+            slots[i] = store(parameterTypes[i]);
+        }
+
+        Label start = new Label();
+        Label end = new Label();
+        Label handler = new Label();
+        Label after = new Label();
+        mv.visitTryCatchBlock(start, end, handler, Type.getInternalName(Throwable.class));
+        mv.visitLabel(start);
+        for (int i = 0; i < parameterTypes.length; i++) {
+            load(parameterTypes[i], slots[i]);
+        }
+        Class<?> declaringClass = method.getDeclaringClass();
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC,
+            Type.getInternalName(declaringClass),
+            method.getName(),
+            Type.getMethodDescriptor(method),
+            declaringClass.isInterface());
+        mv.visitLabel(end);
+        mv.visitJumpInsn(Opcodes.GOTO, after);
+
+        // Operand stack: exception
+        mv.visitLabel(handler);
+        mv.visitVarInsn(Opcodes.ALOAD, THIS_VAR);
+        mv.visitInsn(Opcodes.SWAP);
+        pushInt(index);
+        pushInt(parameterTypes.length);
+        mv.visitTypeInsn(Opcodes.ANEWARRAY, OBJECT_CLASS);
+        for (int i = 0; i < parameterTypes.length; i++) {
+            mv.visitInsn(Opcodes.DUP);
+            pushInt(i);
+            load(parameterTypes[i], slots[i]);
+            convert(parameterTypes[i], Object.class);
+            mv.visitInsn(Opcodes.AASTORE);
+        }
+        mv.visitVarInsn(Opcodes.ALOAD, ENV_VAR);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL,
+            BASE_CLASS,
+            "failure",
+            "(" + Type.getDescriptor(Throwable.class) + "I" + OBJECTS_DESC + ENV_DESC + ")" + Type
+                .getDescriptor(RuntimeException.class),
+            false);
+        mv.visitInsn(Opcodes.ATHROW);
+
+        mv.visitLabel(after);
+        Class<?> returnType = method.getReturnType();
+        if (returnType == void.class) {
+            mv.visitInsn(Opcodes.ACONST_NULL);
+            return Object.class;
+        } else if (!returnType.isPrimitive()) {
+            emitNullObject(node.getType());
+        }
+        return returnType;
+    }
+
+    private Class<?> emitLiteral(Object value, Class<?> want) {
+        compiledNodes++;
+        if (want.isPrimitive() && want != boolean.class && want != char.class && ClassUtils
+            .primitiveToWrapper(want) == value.getClass() && value instanceof Number) {
+            if (value instanceof Byte || value instanceof Short) {
+                pushInt(((Number) value).intValue());
+            } else {
+                mv.visitLdcInsn(value);
+            }
+            return want;
+        }
+        loadConstant(value);
+        return Object.class;
+    }
+
+    private Class<?> emitLocalVar(ILocalVar localVar) {
+        compiledNodes++;
+        mv.visitVarInsn(Opcodes.ALOAD, FRAME_VAR);
+        pushInt(localVar.getIndexInLocalFrame());
+        mv.visitInsn(Opcodes.AALOAD);
+        emitNullObject(localVar.getType());
+        return Object.class;
+    }
+
+    private Class<?> emitBlock(IBoundNode[] children, Class<?> want) {
+        if (children.length == 0) {
+            mv.visitInsn(Opcodes.ACONST_NULL);
+            return Object.class;
+        }
+        for (int i = 0; i < children.length - 1; i++) {
+            Class<?> type = emitNode(children[i], Object.class);
+            mv.visitInsn(Type.getType(type).getSize() == 2 ? Opcodes.POP2 : Opcodes.POP);
+        }
+        return emitNode(children[children.length - 1], want);
+    }
+
+    private Class<?> emitIf(IBoundNode node) {
+        compiledNodes++;
+        IBoundNode[] children = node.getChildren();
+        IBoundNode conditionNode = children[0];
+        Label elseLabel = new Label();
+        Label endLabel = new Label();
+
+        // if (condition) { TrueBranch } else { NullOrFalseBranch }
+        if (conditionNode.getType().getInstanceClass() == boolean.class) {
+            emit(conditionNode, boolean.class);
+        } else {
+            mv.visitFieldInsn(Opcodes.GETSTATIC,
+                Type.getInternalName(Boolean.class),
+                "TRUE",
+                Type.getDescriptor(Boolean.class));
+            emit(conditionNode, Object.class);
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL,
+                Type.getInternalName(Boolean.class),
+                "equals",
+                "(" + OBJECT_DESC + ")Z",
+                false);
+        }
+        mv.visitJumpInsn(Opcodes.IFEQ, elseLabel);
+        emit(children[1], Object.class);
+        mv.visitJumpInsn(Opcodes.GOTO, endLabel);
+        mv.visitLabel(elseLabel);
+        if (children.length > 2) {
+            emit(children[2], Object.class);
+        } else {
+            mv.visitInsn(Opcodes.ACONST_NULL);
+        }
+        mv.visitLabel(endLabel);
+        emitNullObject(node.getType());
+        return Object.class;
+    }
+
+    private Class<?> emitInterpreted(IBoundNode node) {
+        int index = addNode(node);
+        mv.visitVarInsn(Opcodes.ALOAD, THIS_VAR);
+        mv.visitFieldInsn(Opcodes.GETFIELD, BASE_CLASS, "nodes", NODES_DESC);
+        pushInt(index);
+        mv.visitInsn(Opcodes.AALOAD);
+        mv.visitVarInsn(Opcodes.ALOAD, ENV_VAR);
+        mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, NODE_CLASS, "evaluate", "(" + ENV_DESC + ")" + OBJECT_DESC, true);
+        return Object.class;
+    }
+
+    /**
+     * Replaces {@code null} on the top of the operand stack with the null object of the given type, in the same way
+     * as {@link ABoundNode#evaluate(IRuntimeEnv)} does.
+     */
+    private void emitNullObject(IOpenClass type) {
+        Object nullObject = type == null ? null : type.nullObject();
+        if (nullObject != null) {
+            Label nonNull = new Label();
+            mv.visitInsn(Opcodes.DUP);
+            mv.visitJumpInsn(Opcodes.IFNONNULL, nonNull);
+            mv.visitInsn(Opcodes.POP);
+            loadConstant(nullObject);
+            mv.visitLabel(nonNull);
+        }
+    }
+
+    private void convert(Class<?> actual, Class<?> want) {
+        if (actual == want) {
+            return;
+        }
+        if (want.isPrimitive()) {
+            if (actual.isPrimitive()) {
+                box(actual);
+            }
+            String name = want.getName();
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC,
+                BASE_CLASS,
+                "to" + Character.toUpperCase(name.charAt(0)) + name.substring(1),
+                "(" + OBJECT_DESC + ")" + Type.getDescriptor(want),
+                false);
+        } else {
+            if (actual.isPrimitive()) {
+                box(actual);
+                actual = ClassUtils.primitiveToWrapper(actual);
+            }
+            if (!want.isAssignableFrom(actual)) {
+                mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(want));
+            }
+        }
+    }
+
+    private void box(Class<?> primitive) {
+        Class<?> wrapper = ClassUtils.primitiveToWrapper(primitive);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC,
+            Type.getInternalName(wrapper),
+            "valueOf",
+            "(" + Type.getDescriptor(primitive) + ")" + Type.getDescriptor(wrapper),
+            false);
+    }
+
+    private int store(Class<?> type) {
+        Type asmType = Type.getType(type);
+        int slot = nextLocal;
+        nextLocal += asmType.getSize();
+        mv.visitVarInsn(asmType.getOpcode(Opcodes.ISTORE), slot);
+        return slot;
+    }
+
+    private void load(Class<?> type, int slot) {
+        mv.visitVarInsn(Type.getType(type).getOpcode(Opcodes.ILOAD), slot);
+    }
+
+    private void loadConstant(Object value) {
+        int index = constants.size();
+        constants.add(value);
+        mv.visitVarInsn(Opcodes.ALOAD, THIS_VAR);
+        mv.visitFieldInsn(Opcodes.GETFIELD, BASE_CLASS, "constants", OBJECTS_DESC);
+        pushInt(index);
+        mv.visitInsn(Opcodes.AALOAD);
+    }
+
+    private int addNode(IBoundNode node) {
+        nodes.add(node);
+        return nodes.size() - 1;
+    }
+
+    private void pushInt(int value) {
+        if (value >= -1 && value <= 5) {
+            mv.visitInsn(Opcodes.ICONST_0 + value);
+        } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(Opcodes.BIPUSH, value);
+        } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            mv.visitIntInsn(Opcodes.SIPUSH, value);
+        } else {
+            mv.visitLdcInsn(value);
+        }
+    }
+
+    /**
+     * Every compiled body is defined in its own class loader, so the class is unloaded together with the bound node
+     * tree.
+     */
+    private static final class CompiledBodyClassLoader extends ClassLoader {
+
+        CompiledBodyClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        Class<?> define(String name, byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.openl.binding.impl;
+
+import org.openl.binding.IBoundNode;
+import org.openl.exception.OpenLRuntimeException;
+import org.openl.vm.IRuntimeEnv;
+
+/**
+ * Base class for the method bodies generated by {@link BoundNodeCompiler}. A generated subclass evaluates the same
+ * expression as the bound node tree it was compiled from, but without walking the tree, so the JIT is able to inline
+ * operators and locals.
+ * <p>
+ * Nodes which cannot be compiled are evaluated by the interpreter via {@link #nodes}. Local variables are read from the
+ * current local frame of the runtime environment, so both compiled and interpreted nodes share the same state.
+ */
+public abstract class CompiledMethodBody {
+
+    protected final IBoundNode[] nodes;
+    protected final Object[] constants;
+
+    protected CompiledMethodBody(IBoundNode[] nodes, Object[] constants) {
+        this.nodes = nodes;
+        this.constants = constants;
+    }
+
+    /**
+     * Evaluates the compiled body in the given environment. The local frame must be already pushed into the
+     * environment.
+     */
+    public final Object evaluate(IRuntimeEnv env) {
+        IBoundNode root = nodes[0];
+        try {
+            Object res = doEvaluate(env);
+            return res != null ? res : root.getType().nullObject();
+        } catch (OpenLRuntimeException | ControlSignal ore) {
+            throw ore;
+        } catch (Exception t) {
+            throw new OpenLRuntimeException(t, root);
+        }
+    }
+
+    protected abstract Object doEvaluate(IRuntimeEnv env);
+
+    /**
+     * Converts a failure of the directly invoked operator to the same exception which is thrown by the interpreter.
+     * Operators are static methods, so the invocation is repeated via the bound method caller to get an identical error
+     * message.
+     */
+    protected final RuntimeException failure(Throwable e, int index, Object[] args, IRuntimeEnv env) {
+        IBoundNode node = nodes[index];
+        try {
+            ((MethodBoundNode) node).getMethodCaller().invoke(null, args, env);
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+        return new OpenLRuntimeException(e, node);
+    }
+
+    public static boolean toBoolean(Object value) {
+        return (Boolean) value;
+    }
+
+    public static char toChar(Object value) {
+        return (Character) value;
+    }
+
+    public static byte toByte(Object value) {
+        return ((Number) value).byteValue();
+    }
+
+    public static short toShort(Object value) {
+        return ((Number) value).shortValue();
+    }
+
+    public static int toInt(Object value) {
+        return ((Number) value).intValue();
+    }
+
+    public static long toLong(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    public static float toFloat(Object value) {
+        return ((Number) value).floatValue();
+    }
+
+    public static double toDouble(Object value) {
+        return ((Number) value).doubleValue();
+    }
+}
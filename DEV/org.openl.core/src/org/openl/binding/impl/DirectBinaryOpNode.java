@@ -0,0 +1,395 @@
+package org.openl.binding.impl;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongBinaryOperator;
+
+import org.openl.binding.IBoundNode;
+import org.openl.binding.impl.operator.Comparison;
+import org.openl.syntax.ISyntaxNode;
+import org.openl.types.IMethodCaller;
+import org.openl.types.IOpenClass;
+import org.openl.types.java.JavaOpenMethod;
+import org.openl.vm.IRuntimeEnv;
+
+/**
+ * Binary operator node which invokes the most used operators directly instead of the reflection. Operands of primitive
+ * types are unboxed and passed to the operator without creation of the arguments array.
+ * <p>
+ * If the operator fails then it is invoked again via the bound method caller to throw the same exception as
+ * {@link BinaryOpNode} does.
+ */
+abstract class DirectBinaryOpNode extends BinaryOpNode {
+
+    private static final Map<Method, Object> OPERATORS = new HashMap<>();
+
+    static {
+        register(Operators.class, "add", int.class, (IntBinaryOperator) Operators::add);
+        register(Operators.class, "subtract", int.class, (IntBinaryOperator) Operators::subtract);
+        register(Operators.class, "multiply", int.class, (IntBinaryOperator) Operators::multiply);
+        register(Operators.class, "rem", int.class, (IntBinaryOperator) Operators::rem);
+        register(Operators.class, "divide", int.class, (IntToDoubleOperator) Operators::divide);
+        register(Comparison.class, "eq", int.class, (IntPredicate) Comparison::eq);
+        register(Comparison.class, "ne", int.class, (IntPredicate) Comparison::ne);
+        register(Comparison.class, "lt", int.class, (IntPredicate) Comparison::lt);
+        register(Comparison.class, "le", int.class, (IntPredicate) Comparison::le);
+        register(Comparison.class, "gt", int.class, (IntPredicate) Comparison::gt);
+        register(Comparison.class, "ge", int.class, (IntPredicate) Comparison::ge);
+
+        register(Operators.class, "add", long.class, (LongBinaryOperator) Operators::add);
+        register(Operators.class, "subtract", long.class, (LongBinaryOperator) Operators::subtract);
+        register(Operators.class, "multiply", long.class, (LongBinaryOperator) Operators::multiply);
+        register(Operators.class, "rem", long.class, (LongBinaryOperator) Operators::rem);
+        register(Operators.class, "divide", long.class, (LongToDoubleOperator) Operators::divide);
+        register(Comparison.class, "eq", long.class, (LongPredicate) Comparison::eq);
+        register(Comparison.class, "ne", long.class, (LongPredicate) Comparison::ne);
+        register(Comparison.class, "lt", long.class, (LongPredicate) Comparison::lt);
+        register(Comparison.class, "le", long.class, (LongPredicate) Comparison::le);
+        register(Comparison.class, "gt", long.class, (LongPredicate) Comparison::gt);
+        register(Comparison.class, "ge", long.class, (LongPredicate) Comparison::ge);
+
+        register(Operators.class, "add", double.class, (DoubleBinaryOperator) Operators::add);
+        register(Operators.class, "subtract", double.class, (DoubleBinaryOperator) Operators::subtract);
+        register(Operators.class, "multiply", double.class, (DoubleBinaryOperator) Operators::multiply);
+        register(Operators.class, "divide", double.class, (DoubleBinaryOperator) Operators::divide);
+        register(Operators.class, "rem", double.class, (DoubleBinaryOperator) Operators::rem);
+        register(Comparison.class, "eq", double.class, (DoublePredicate) Comparison::eq);
+        register(Comparison.class, "ne", double.class, (DoublePredicate) Comparison::ne);
+        register(Comparison.class, "lt", double.class, (DoubleFunction) Comparison::lt);
+        register(Comparison.class, "le", double.class, (DoubleFunction) Comparison::le);
+        register(Comparison.class, "gt", double.class, (DoubleFunction) Comparison::gt);
+        register(Comparison.class, "ge", double.class, (DoubleFunction) Comparison::ge);
+
+        register(Operators.class, "add", BigDecimal.class, (BinaryOperator<BigDecimal>) Operators::add);
+        register(Operators.class, "subtract", BigDecimal.class, (BinaryOperator<BigDecimal>) Operators::subtract);
+        register(Operators.class, "multiply", BigDecimal.class, (BinaryOperator<BigDecimal>) Operators::multiply);
+        register(Operators.class, "divide", BigDecimal.class, (BinaryOperator<BigDecimal>) Operators::divide);
+        register(Operators.class, "rem", BigDecimal.class, (BinaryOperator<BigDecimal>) Operators::rem);
+    }
+
+    private static void register(Class<?> operators, String name, Class<?> type, Object operator) {
+        try {
+            OPERATORS.put(operators.getMethod(name, type, type), operator);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates a binary operator node. The direct invocation node is created if the operator is known and the operand
+     * types match the operator parameters exactly, otherwise the generic {@link BinaryOpNode} is created.
+     */
+    @SuppressWarnings("unchecked")
+    static BinaryOpNode create(ISyntaxNode syntaxNode, IBoundNode left, IBoundNode right, IMethodCaller methodCaller) {
+        if (methodCaller instanceof JavaOpenMethod) {
+            Method method = ((JavaOpenMethod) methodCaller).getJavaMethod();
+            Object operator = OPERATORS.get(method);
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            if (operator != null && matches(left.getType(), parameterTypes[0]) && matches(right.getType(),
+                parameterTypes[1])) {
+                if (operator instanceof IntBinaryOperator) {
+                    return new IntOpNode(syntaxNode, left, right, methodCaller, (IntBinaryOperator) operator);
+                } else if (operator instanceof IntToDoubleOperator) {
+                    return new IntToDoubleOpNode(syntaxNode, left, right, methodCaller, (IntToDoubleOperator) operator);
+                } else if (operator instanceof IntPredicate) {
+                    return new IntPredicateNode(syntaxNode, left, right, methodCaller, (IntPredicate) operator);
+                } else if (operator instanceof LongBinaryOperator) {
+                    return new LongOpNode(syntaxNode, left, right, methodCaller, (LongBinaryOperator) operator);
+                } else if (operator instanceof LongToDoubleOperator) {
+                    return new LongToDoubleOpNode(syntaxNode,
+                        left,
+                        right,
+                        methodCaller,
+                        (LongToDoubleOperator) operator);
+                } else if (operator instanceof LongPredicate) {
+                    return new LongPredicateNode(syntaxNode, left, right, methodCaller, (LongPredicate) operator);
+                } else if (operator instanceof DoubleBinaryOperator) {
+                    return new DoubleOpNode(syntaxNode, left, right, methodCaller, (DoubleBinaryOperator) operator);
+                } else if (operator instanceof DoublePredicate) {
+                    return new DoublePredicateNode(syntaxNode, left, right, methodCaller, (DoublePredicate) operator);
+                } else if (operator instanceof DoubleFunction) {
+                    return new DoubleFunctionNode(syntaxNode, left, right, methodCaller, (DoubleFunction) operator);
+                } else if (operator instanceof BinaryOperator) {
+                    return new ObjectOpNode(syntaxNode, left, right, methodCaller, (BinaryOperator<Object>) operator);
+                }
+            }
+        }
+        return new BinaryOpNode(syntaxNode, left, right, methodCaller);
+    }
+
+    private static boolean matches(IOpenClass type, Class<?> parameterType) {
+        Class<?> instanceClass = type.getInstanceClass();
+        return parameterType.isPrimitive() ? instanceClass == parameterType
+                                           : instanceClass != null && parameterType.isAssignableFrom(instanceClass);
+    }
+
+    DirectBinaryOpNode(ISyntaxNode syntaxNode, IBoundNode left, IBoundNode right, IMethodCaller method) {
+        super(syntaxNode, left, right, method);
+    }
+
+    /**
+     * Invokes the operator via the bound method caller to get the same exception as the interpreter throws.
+     */
+    Object failure(Object leftValue, Object rightValue, IRuntimeEnv env) {
+        return boundMethod.invoke(null, new Object[] { leftValue, rightValue }, env);
+    }
+
+    @FunctionalInterface
+    interface IntToDoubleOperator {
+        double apply(int x, int y);
+    }
+
+    @FunctionalInterface
+    interface IntPredicate {
+        boolean test(int x, int y);
+    }
+
+    @FunctionalInterface
+    interface LongToDoubleOperator {
+        double apply(long x, long y);
+    }
+
+    @FunctionalInterface
+    interface LongPredicate {
+        boolean test(long x, long y);
+    }
+
+    @FunctionalInterface
+    interface DoublePredicate {
+        boolean test(double x, double y);
+    }
+
+    @FunctionalInterface
+    interface DoubleFunction {
+        Object apply(double x, double y);
+    }
+
+    static final class IntOpNode extends DirectBinaryOpNode {
+        private final IntBinaryOperator operator;
+
+        IntOpNode(ISyntaxNode syntaxNode,
+                IBoundNode left,
+                IBoundNode right,
+                IMethodCaller method,
+                IntBinaryOperator operator) {
+            super(syntaxNode, left, right, method);
+            this.operator = operator;
+        }
+
+        @Override
+        protected Object evaluateRuntime(IRuntimeEnv env) {
+            int x = ((Number) children[0].evaluate(env)).intValue();
+            int y = ((Number) children[1].evaluate(env)).intValue();
+            try {
+                return operator.applyAsInt(x, y);
+            } catch (RuntimeException e) {
+                return failure(x, y, env);
+            }
+        }
+    }
+
+    static final class IntToDoubleOpNode extends DirectBinaryOpNode {
+        private final IntToDoubleOperator operator;
+
+        IntToDoubleOpNode(ISyntaxNode syntaxNode,
+                IBoundNode left,
+                IBoundNode right,
+                IMethodCaller method,
+                IntToDoubleOperator operator) {
+            super(syntaxNode, left, right, method);
+            this.operator = operator;
+        }
+
+        @Override
+        protected Object evaluateRuntime(IRuntimeEnv env) {
+            int x = ((Number) children[0].evaluate(env)).intValue();
+            int y = ((Number) children[1].evaluate(env)).intValue();
+            try {
+                return operator.apply(x, y);
+            } catch (RuntimeException e) {
+                return failure(x, y, env);
+            }
+        }
+    }
+
+    static final class IntPredicateNode extends DirectBinaryOpNode {
+        private final IntPredicate operator;
+
+        IntPredicateNode(ISyntaxNode syntaxNode,
+                IBoundNode left,
+                IBoundNode right,
+                IMethodCaller method,
+                IntPredicate operator) {
+            super(syntaxNode, left, right, method);
+            this.operator = operator;
+        }
+
+        @Override
+        protected Object evaluateRuntime(IRuntimeEnv env) {
+            int x = ((Number) children[0].evaluate(env)).intValue();
+            int y = ((Number) children[1].evaluate(env)).intValue();
+            return operator.test(x, y);
+        }
+    }
+
+    static final class LongOpNode extends DirectBinaryOpNode {
+        private final LongBinaryOperator operator;
+
+        LongOpNode(ISyntaxNode syntaxNode,
+                IBoundNode left,
+                IBoundNode right,
+                IMethodCaller method,
+                LongBinaryOperator operator) {
+            super(syntaxNode, left, right, method);
+            this.operator = operator;
+        }
+
+        @Override
+        protected Object evaluateRuntime(IRuntimeEnv env) {
+            long x = ((Number) children[0].evaluate(env)).longValue();
+            long y = ((Number) children[1].evaluate(env)).longValue();
+            try {
+                return operator.applyAsLong(x, y);
+            } catch (RuntimeException e) {
+                return failure(x, y, env);
+            }
+        }
+    }
+
+    static final class LongToDoubleOpNode extends DirectBinaryOpNode {
+        private final LongToDoubleOperator operator;
+
+        LongToDoubleOpNode(ISyntaxNode syntaxNode,
+                IBoundNode left,
+                IBoundNode right,
+                IMethodCaller method,
+                LongToDoubleOperator operator) {
+            super(syntaxNode, left, right, method);
+            this.operator = operator;
+        }
+
+        @Override
+        protected Object evaluateRuntime(IRuntimeEnv env) {
+            long x = ((Number) children[0].evaluate(env)).longValue();
+            long y = ((Number) children[1].evaluate(env)).longValue();
+            try {
+                return operator.apply(x, y);
+            } catch (RuntimeException e) {
+                return failure(x, y, env);
+            }
+        }
+    }
+
+    static final class LongPredicateNode extends DirectBinaryOpNode {
+        private final LongPredicate operator;
+
+        LongPredicateNode(ISyntaxNode syntaxNode,
+                IBoundNode left,
+                IBoundNode right,
+                IMethodCaller method,
+                LongPredicate operator) {
+            super(syntaxNode, left, right, method);
+            this.operator = operator;
+        }
+
+        @Override
+        protected Object evaluateRuntime(IRuntimeEnv env) {
+            long x = ((Number) children[0].evaluate(env)).longValue();
+            long y = ((Number) children[1].evaluate(env)).longValue();
+            return operator.test(x, y);
+        }
+    }
+
+    static final class DoubleOpNode extends DirectBinaryOpNode {
+        private final DoubleBinaryOperator operator;
+
+        DoubleOpNode(ISyntaxNode syntaxNode,
+                IBoundNode left,
+                IBoundNode right,
+                IMethodCaller method,
+                DoubleBinaryOperator operator) {
+            super(syntaxNode, left, right, method);
+            this.operator = operator;
+        }
+
+        @Override
+        protected Object evaluateRuntime(IRuntimeEnv env) {
+            double x = ((Number) children[0].evaluate(env)).doubleValue();
+            double y = ((Number) children[1].evaluate(env)).doubleValue();
+            try {
+                return operator.applyAsDouble(x, y);
+            } catch (RuntimeException e) {
+                return failure(x, y, env);
+            }
+        }
+    }
+
+    static final class DoublePredicateNode extends DirectBinaryOpNode {
+        private final DoublePredicate operator;
+
+        DoublePredicateNode(ISyntaxNode syntaxNode,
+                IBoundNode left,
+                IBoundNode right,
+                IMethodCaller method,
+                DoublePredicate operator) {
+            super(syntaxNode, left, right, method);
+            this.operator = operator;
+        }
+
+        @Override
+        protected Object evaluateRuntime(IRuntimeEnv env) {
+            double x = ((Number) children[0].evaluate(env)).doubleValue();
+            double y = ((Number) children[1].evaluate(env)).doubleValue();
+            return operator.test(x, y);
+        }
+    }
+
+    static final class DoubleFunctionNode extends DirectBinaryOpNode {
+        private final DoubleFunction operator;
+
+        DoubleFunctionNode(ISyntaxNode syntaxNode,
+                IBoundNode left,
+                IBoundNode right,
+                IMethodCaller method,
+                DoubleFunction operator) {
+            super(syntaxNode, left, right, method);
+            this.operator = operator;
+        }
+
+        @Override
+        protected Object evaluateRuntime(IRuntimeEnv env) {
+            double x = ((Number) children[0].evaluate(env)).doubleValue();
+            double y = ((Number) children[1].evaluate(env)).doubleValue();
+            return operator.apply(x, y);
+        }
+    }
+
+    static final class ObjectOpNode extends DirectBinaryOpNode {
+        private final BinaryOperator<Object> operator;
+
+        ObjectOpNode(ISyntaxNode syntaxNode,
+                IBoundNode left,
+                IBoundNode right,
+                IMethodCaller method,
+                BinaryOperator<Object> operator) {
+            super(syntaxNode, left, right, method);
+            this.operator = operator;
+        }
+
+        @Override
+        protected Object evaluateRuntime(IRuntimeEnv env) {
+            Object x = children[0].evaluate(env);
+            Object y = children[1].evaluate(env);
+            try {
+                return operator.apply(x, y);
+            } catch (RuntimeException e) {
+                return failure(x, y, env);
+            }
+        }
+    }
+}
@@ -67,6 +67,10 @@ public class FieldBoundNode extends ATargetBoundNode {
         return boundField;
     }
 
+    int getDims() {
+        return dims;
+    }
+
     @Override
     protected Object evaluateRuntime(IRuntimeEnv env) {
         Object target = getTarget(env);
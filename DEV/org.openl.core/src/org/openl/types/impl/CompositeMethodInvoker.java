@@ -5,9 +5,12 @@ import org.openl.binding.IBoundMethodNode;
 import org.openl.binding.IBoundNode;
 import org.openl.binding.impl.ABoundNode;
 import org.openl.binding.impl.BlockNode;
+import org.openl.binding.impl.BoundNodeCompiler;
+import org.openl.binding.impl.CompiledMethodBody;
 import org.openl.binding.impl.ControlSignalReturn;
 import org.openl.types.Invokable;
 import org.openl.vm.IRuntimeEnv;
+import org.openl.vm.Tracer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,6 +27,13 @@ public class CompositeMethodInvoker implements Invokable {
 
     private IBoundNode expressionNode;
 
+    /**
+     * Compiled method body. It is used instead of the interpreter after the method becomes hot.
+     */
+    private volatile CompiledMethodBody compiledBody;
+    private volatile boolean compiled;
+    private int invocations;
+
     public CompositeMethodInvoker(IBoundMethodNode methodBodyBoundNode, CompositeMethod method) {
         this.methodBodyBoundNode = methodBodyBoundNode;
 
@@ -71,6 +81,10 @@ public class CompositeMethodInvoker implements Invokable {
     public Object invoke(Object target, Object[] params, IRuntimeEnv env) {
         try {
             env.pushThis(target);
+            CompiledMethodBody body = getCompiledBody();
+            if (body != null) {
+                return invokeCompiled(body, params, env);
+            }
             IOpenRunner runner = env.getRunner();
 
             return expressionNode == null ? runner.run(methodBodyBoundNode, params, env)
@@ -83,4 +97,43 @@ public class CompositeMethodInvoker implements Invokable {
         }
     }
 
+    private CompiledMethodBody getCompiledBody() {
+        int threshold = BoundNodeCompiler.getThreshold();
+        if (threshold <= 0 || Tracer.isEnabled()) {
+            // The interpreter is used for tracing, because the compiled code does not report the evaluated nodes.
+            return null;
+        }
+        CompiledMethodBody body = compiledBody;
+        if (body == null && !compiled && ++invocations >= threshold) {
+            body = compile();
+        }
+        return body;
+    }
+
+    private synchronized CompiledMethodBody compile() {
+        if (!compiled) {
+            compiledBody = BoundNodeCompiler.compile(expressionNode == null ? methodBodyBoundNode : expressionNode);
+            compiled = true;
+        }
+        return compiledBody;
+    }
+
+    private Object invokeCompiled(CompiledMethodBody body, Object[] params, IRuntimeEnv env) {
+        Object[] frame;
+        if (expressionNode == null) {
+            frame = new Object[methodBodyBoundNode.getLocalFrameSize()];
+            if (params != null && params.length > 0) {
+                System.arraycopy(params, 0, frame, 0, params.length);
+            }
+        } else {
+            frame = params;
+        }
+        try {
+            env.pushLocalFrame(frame);
+            return body.evaluate(env);
+        } finally {
+            env.popLocalFrame();
+        }
+    }
+
 }
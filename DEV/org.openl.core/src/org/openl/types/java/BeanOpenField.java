@@ -11,7 +11,6 @@ import org.openl.runtime.ContextProperty;
 import org.openl.types.IMemberMetaInfo;
 import org.openl.types.IOpenClass;
 import org.openl.types.IOpenField;
-import org.openl.util.ArrayTool;
 import org.openl.util.ClassUtils;
 import org.openl.util.RuntimeExceptionWrapper;
 import org.openl.util.StringUtils;
@@ -30,6 +29,8 @@ public final class BeanOpenField implements IOpenField {
     private final Method readMethod;
     private final Method writeMethod;
     private final String contextProperty;
+    private volatile JavaInvoker.Getter getter;
+    private volatile JavaInvoker.Setter setter;
 
     public static void collectFields(Map<String, IOpenField> map, Class<?> c) {
         try {
@@ -104,7 +105,12 @@ public final class BeanOpenField implements IOpenField {
                 // assuming it is a non static read method.
                 return getType().nullObject();
             }
-            return readMethod.invoke(target, ArrayTool.ZERO_OBJECT);
+            JavaInvoker.Getter javaGetter = getter;
+            if (javaGetter == null) {
+                javaGetter = JavaInvokerFactory.getInstance().createGetter(readMethod);
+                getter = javaGetter;
+            }
+            return javaGetter.get(target);
         } catch (Exception ex) {
             throw RuntimeExceptionWrapper.wrap("", ex);
         }
@@ -165,7 +171,12 @@ public final class BeanOpenField implements IOpenField {
     public void set(Object target, Object value, IRuntimeEnv env) {
         if (target != null) {
             try {
-                writeMethod.invoke(target, value);
+                JavaInvoker.Setter javaSetter = setter;
+                if (javaSetter == null) {
+                    javaSetter = JavaInvokerFactory.getInstance().createSetter(writeMethod);
+                    setter = javaSetter;
+                }
+                javaSetter.set(target, value);
             } catch (Exception ex) {
                 throw RuntimeExceptionWrapper.wrap("", ex);
             }
@@ -0,0 +1,40 @@
+package org.openl.types.java;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Invoker of a Java method or constructor. It is bound to the member once and is used on every invocation instead of
+ * the reflection.
+ *
+ * @see JavaInvokerFactory
+ */
+@FunctionalInterface
+public interface JavaInvoker {
+
+    /**
+     * Invokes the bound member.
+     *
+     * @param target an instance for non static methods, it is ignored for static methods and constructors
+     * @param args arguments of the invocation
+     * @return the result of the invocation, {@code null} for void methods
+     * @throws InvocationTargetException if the invoked member throws an exception
+     * @throws Exception if the member cannot be invoked with the given arguments
+     */
+    Object invoke(Object target, Object[] args) throws Exception;
+
+    /**
+     * Getter of a bean property.
+     */
+    @FunctionalInterface
+    interface Getter {
+        Object get(Object target) throws Exception;
+    }
+
+    /**
+     * Setter of a bean property.
+     */
+    @FunctionalInterface
+    interface Setter {
+        void set(Object target, Object value) throws Exception;
+    }
+}
@@ -0,0 +1,29 @@
+package org.openl.types.java;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Creates invokers for Java methods, constructors and bean properties which are used by {@link JavaOpenMethod},
+ * {@link JavaOpenConstructor} and {@link BeanOpenField} at runtime.
+ * <p>
+ * The default implementation is {@link MethodHandleInvokerFactory}. Another implementation can be plugged in via the
+ * {@value #FACTORY_PROPERTY} system property which contains a class name of the factory with a public no-arg
+ * constructor.
+ */
+public interface JavaInvokerFactory {
+
+    String FACTORY_PROPERTY = "org.openl.invoker.factory";
+
+    JavaInvoker createMethodInvoker(Method method);
+
+    JavaInvoker createConstructorInvoker(Constructor<?> constructor);
+
+    JavaInvoker.Getter createGetter(Method readMethod);
+
+    JavaInvoker.Setter createSetter(Method writeMethod);
+
+    static JavaInvokerFactory getInstance() {
+        return JavaInvokerFactoryHolder.INSTANCE;
+    }
+}
@@ -0,0 +1,29 @@
+package org.openl.types.java;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the instance of {@link JavaInvokerFactory} which is configured via the
+ * {@value JavaInvokerFactory#FACTORY_PROPERTY} system property.
+ */
+final class JavaInvokerFactoryHolder {
+
+    static final JavaInvokerFactory INSTANCE = init();
+
+    private JavaInvokerFactoryHolder() {
+    }
+
+    private static JavaInvokerFactory init() {
+        String className = System.getProperty(JavaInvokerFactory.FACTORY_PROPERTY);
+        if (className != null) {
+            try {
+                return (JavaInvokerFactory) Class.forName(className.trim()).newInstance();
+            } catch (Exception | LinkageError e) {
+                Logger log = LoggerFactory.getLogger(JavaInvokerFactoryHolder.class);
+                log.error("Failed to instantiate '{}' invoker factory. The default one is used.", className, e);
+            }
+        }
+        return new MethodHandleInvokerFactory();
+    }
+}
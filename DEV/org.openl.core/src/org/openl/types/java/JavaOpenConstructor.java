@@ -26,6 +26,8 @@ public class JavaOpenConstructor implements IOpenMethod, IMethodSignature {
 
     private IOpenClass[] parameterTypes;
 
+    private volatile JavaInvoker invoker;
+
     public JavaOpenConstructor(Constructor<?> constructor) {
         this.constructor = constructor;
     }
@@ -137,7 +139,12 @@ public class JavaOpenConstructor implements IOpenMethod, IMethodSignature {
     @Override
     public Object invoke(Object target, Object[] params, IRuntimeEnv env) {
         try {
-            return constructor.newInstance(params);
+            JavaInvoker javaInvoker = invoker;
+            if (javaInvoker == null) {
+                javaInvoker = JavaInvokerFactory.getInstance().createConstructorInvoker(constructor);
+                invoker = javaInvoker;
+            }
+            return javaInvoker.invoke(null, params);
         } catch (Exception t) {
             throw RuntimeExceptionWrapper.wrap(t);
         }
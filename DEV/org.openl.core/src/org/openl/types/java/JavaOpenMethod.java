@@ -28,6 +28,7 @@ public class JavaOpenMethod implements IOpenMethod, IMethodSignature {
     private final Method method;
     private final IOpenClass[] parameterTypes;
     private final IOpenClass declaringClass;
+    private volatile JavaInvoker invoker;
 
     public JavaOpenMethod(Method method) {
         this.method = Objects.requireNonNull(method, "method cannot be null");
@@ -143,7 +144,7 @@ public class JavaOpenMethod implements IOpenMethod, IMethodSignature {
     @Override
     public Object invoke(Object target, Object[] params, IRuntimeEnv env) {
         try {
-            return method.invoke(target, params);
+            return getInvoker().invoke(target, params);
         } catch (InvocationTargetException t) {
             Throwable targetException = t.getTargetException();
             String msg = getMessage(target, method, params, targetException);
@@ -154,6 +155,15 @@ public class JavaOpenMethod implements IOpenMethod, IMethodSignature {
         }
     }
 
+    private JavaInvoker getInvoker() {
+        JavaInvoker javaInvoker = invoker;
+        if (javaInvoker == null) {
+            javaInvoker = JavaInvokerFactory.getInstance().createMethodInvoker(method);
+            invoker = javaInvoker;
+        }
+        return javaInvoker;
+    }
+
     private String getMessage(Object target, Method m, Object[] params, Throwable exception) {
         String paramsValue = StringUtils.join(params, ", ");
         String targetValue = target == null ? "" : "`" + target + "`.";
@@ -0,0 +1,158 @@
+package org.openl.types.java;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.openl.util.ClassUtils;
+
+/**
+ * Creates invokers which bind Java members into {@link MethodHandle}s once. The handles are adapted to the generic
+ * signature, so every invocation is done via {@link MethodHandle#invokeExact(Object...)} without the reflection access
+ * checks and arguments copying.
+ * <p>
+ * Exceptions thrown by the invoked members are wrapped into {@link InvocationTargetException} in the same way as the
+ * reflection does. If a member cannot be bound to a method handle, the {@link ReflectionInvokerFactory} is used. The
+ * reflection is also used for the calls which arguments do not match the member signature exactly (widening of
+ * primitives, wrong types or nulls for primitives), so such calls behave and fail in the same way as before.
+ */
+public class MethodHandleInvokerFactory implements JavaInvokerFactory {
+
+    private static final MethodType STATIC_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final MethodType VIRTUAL_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    private final ReflectionInvokerFactory fallback = new ReflectionInvokerFactory();
+
+    @Override
+    public JavaInvoker createMethodInvoker(Method method) {
+        MethodHandle handle;
+        try {
+            handle = lookup.unreflect(method).asFixedArity();
+        } catch (IllegalAccessException e) {
+            return fallback.createMethodInvoker(method);
+        }
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        JavaInvoker reflection = fallback.createMethodInvoker(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            MethodHandle staticHandle = handle.asSpreader(Object[].class, parameterTypes.length).asType(STATIC_TYPE);
+            return (target, args) -> {
+                if (!matches(parameterTypes, args)) {
+                    return reflection.invoke(target, args);
+                }
+                try {
+                    return staticHandle.invokeExact(args);
+                } catch (Throwable t) {
+                    throw new InvocationTargetException(t);
+                }
+            };
+        }
+        Class<?> declaringClass = method.getDeclaringClass();
+        MethodHandle virtualHandle = handle.asSpreader(Object[].class, parameterTypes.length).asType(VIRTUAL_TYPE);
+        return (target, args) -> {
+            if (!declaringClass.isInstance(target) || !matches(parameterTypes, args)) {
+                return reflection.invoke(target, args);
+            }
+            try {
+                return virtualHandle.invokeExact(target, args);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        };
+    }
+
+    @Override
+    public JavaInvoker createConstructorInvoker(Constructor<?> constructor) {
+        MethodHandle handle;
+        try {
+            handle = lookup.unreflectConstructor(constructor).asFixedArity();
+        } catch (IllegalAccessException e) {
+            return fallback.createConstructorInvoker(constructor);
+        }
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        JavaInvoker reflection = fallback.createConstructorInvoker(constructor);
+        MethodHandle staticHandle = handle.asSpreader(Object[].class, parameterTypes.length).asType(STATIC_TYPE);
+        return (target, args) -> {
+            if (!matches(parameterTypes, args)) {
+                return reflection.invoke(target, args);
+            }
+            try {
+                return staticHandle.invokeExact(args);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        };
+    }
+
+    @Override
+    public JavaInvoker.Getter createGetter(Method readMethod) {
+        MethodHandle handle;
+        try {
+            handle = lookup.unreflect(readMethod).asFixedArity().asType(GETTER_TYPE);
+        } catch (IllegalAccessException | IllegalArgumentException e) {
+            return fallback.createGetter(readMethod);
+        }
+        Class<?> declaringClass = readMethod.getDeclaringClass();
+        JavaInvoker.Getter reflection = fallback.createGetter(readMethod);
+        return target -> {
+            if (!declaringClass.isInstance(target)) {
+                return reflection.get(target);
+            }
+            try {
+                return handle.invokeExact(target);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        };
+    }
+
+    @Override
+    public JavaInvoker.Setter createSetter(Method writeMethod) {
+        MethodHandle handle;
+        try {
+            handle = lookup.unreflect(writeMethod).asFixedArity().asType(SETTER_TYPE);
+        } catch (IllegalAccessException | IllegalArgumentException e) {
+            return fallback.createSetter(writeMethod);
+        }
+        Class<?> declaringClass = writeMethod.getDeclaringClass();
+        Class<?> parameterType = writeMethod.getParameterTypes()[0];
+        JavaInvoker.Setter reflection = fallback.createSetter(writeMethod);
+        return (target, value) -> {
+            if (!declaringClass.isInstance(target) || !matches(parameterType, value)) {
+                reflection.set(target, value);
+                return;
+            }
+            try {
+                handle.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        };
+    }
+
+    private static boolean matches(Class<?>[] parameterTypes, Object[] args) {
+        if (args == null || args.length != parameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < args.length; i++) {
+            if (!matches(parameterTypes[i], args[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(Class<?> parameterType, Object arg) {
+        if (parameterType.isPrimitive()) {
+            // Nulls cannot be unboxed, widening of primitives is not done by the method handles
+            return arg != null && ClassUtils.primitiveToWrapper(parameterType) == arg.getClass();
+        }
+        return arg == null || parameterType.isInstance(arg);
+    }
+}
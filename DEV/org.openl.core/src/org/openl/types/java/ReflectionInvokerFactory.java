@@ -0,0 +1,32 @@
+package org.openl.types.java;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+import org.openl.util.ArrayTool;
+
+/**
+ * Creates invokers which use the Java reflection.
+ */
+public class ReflectionInvokerFactory implements JavaInvokerFactory {
+
+    @Override
+    public JavaInvoker createMethodInvoker(Method method) {
+        return method::invoke;
+    }
+
+    @Override
+    public JavaInvoker createConstructorInvoker(Constructor<?> constructor) {
+        return (target, args) -> constructor.newInstance(args);
+    }
+
+    @Override
+    public JavaInvoker.Getter createGetter(Method readMethod) {
+        return target -> readMethod.invoke(target, ArrayTool.ZERO_OBJECT);
+    }
+
+    @Override
+    public JavaInvoker.Setter createSetter(Method writeMethod) {
+        return (target, value) -> writeMethod.invoke(target, value);
+    }
+}
@@ -0,0 +1,116 @@
+package org.openl.binding.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+import org.openl.binding.IBoundNode;
+import org.openl.exception.OpenLRuntimeException;
+import org.openl.types.IOpenClass;
+import org.openl.types.java.JavaOpenClass;
+import org.openl.types.java.JavaOpenMethod;
+import org.openl.vm.IRuntimeEnv;
+import org.openl.vm.SimpleVM;
+
+public class BoundNodeCompilerTest {
+
+    @Test
+    public void testIntOperators() throws Exception {
+        IBoundNode node = operator("add", int.class, literal(2, JavaOpenClass.INT), local(0, JavaOpenClass.INT));
+        CompiledMethodBody body = BoundNodeCompiler.compile(node);
+        assertNotNull(body);
+        assertEquals(5, evaluate(body, 3));
+        assertEquals(node.evaluate(env(3)), evaluate(body, 3));
+        // Not initialized local variable is the null object of the type
+        assertEquals(2, evaluate(body, (Object) null));
+    }
+
+    @Test
+    public void testNestedOperators() throws Exception {
+        IBoundNode sum = operator("add", double.class, local(0, JavaOpenClass.DOUBLE), local(1, JavaOpenClass.DOUBLE));
+        IBoundNode node = operator("multiply", double.class, sum, literal(2.0, JavaOpenClass.DOUBLE));
+        CompiledMethodBody body = BoundNodeCompiler.compile(node);
+        assertNotNull(body);
+        assertEquals(7.0, evaluate(body, 1.5, 2.0));
+    }
+
+    @Test
+    public void testReferenceOperators() throws Exception {
+        IOpenClass type = JavaOpenClass.getOpenClass(BigDecimal.class);
+        IBoundNode node = operator("multiply", BigDecimal.class, local(0, type), local(1, type));
+        CompiledMethodBody body = BoundNodeCompiler.compile(node);
+        assertNotNull(body);
+        assertEquals(new BigDecimal("0.50"), evaluate(body, new BigDecimal("0.5"), BigDecimal.ONE.setScale(1)));
+    }
+
+    @Test
+    public void testIf() throws Exception {
+        IBoundNode condition = local(0, JavaOpenClass.BOOLEAN);
+        IBoundNode node = new IfNode(null,
+            condition,
+            literal("yes", JavaOpenClass.STRING),
+            literal("no", JavaOpenClass.STRING),
+            JavaOpenClass.STRING);
+        CompiledMethodBody body = BoundNodeCompiler.compile(node);
+        assertNotNull(body);
+        assertEquals("yes", evaluate(body, true));
+        assertEquals("no", evaluate(body, false));
+    }
+
+    @Test
+    public void testOperatorFailure() throws Exception {
+        IBoundNode node = operator("rem", int.class, local(0, JavaOpenClass.INT), local(1, JavaOpenClass.INT));
+        CompiledMethodBody body = BoundNodeCompiler.compile(node);
+        assertNotNull(body);
+        String expected = null;
+        try {
+            node.evaluate(env(1, 0));
+            fail();
+        } catch (OpenLRuntimeException e) {
+            expected = e.getMessage();
+        }
+        try {
+            evaluate(body, 1, 0);
+            fail();
+        } catch (OpenLRuntimeException e) {
+            assertEquals(expected, e.getMessage());
+        }
+    }
+
+    @Test
+    public void testNothingToCompile() {
+        assertNull(BoundNodeCompiler.compile(new ErrorBoundNode(null)));
+    }
+
+    private static Object evaluate(CompiledMethodBody body, Object... params) {
+        return body.evaluate(env(params));
+    }
+
+    private static IRuntimeEnv env(Object... params) {
+        IRuntimeEnv env = new SimpleVM().getRuntimeEnv();
+        env.pushLocalFrame(params);
+        return env;
+    }
+
+    private static IBoundNode literal(Object value, IOpenClass type) {
+        return new LiteralBoundNode(null, value, type);
+    }
+
+    private static IBoundNode local(int index, IOpenClass type) {
+        return new FieldBoundNode(null, new LocalFrameBuilder.LocalVar(null, "p" + index, index, type));
+    }
+
+    private static IBoundNode operator(String name,
+            Class<?> type,
+            IBoundNode left,
+            IBoundNode right) throws NoSuchMethodException {
+        return new BinaryOpNode(null,
+            left,
+            right,
+            new JavaOpenMethod(Operators.class.getMethod(name, type, type)));
+    }
+}
@@ -0,0 +1,123 @@
+package org.openl.binding.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+import org.openl.binding.IBoundNode;
+import org.openl.binding.impl.operator.Comparison;
+import org.openl.exception.OpenLRuntimeException;
+import org.openl.types.IOpenClass;
+import org.openl.types.java.JavaOpenClass;
+import org.openl.types.java.JavaOpenMethod;
+import org.openl.vm.SimpleVM;
+
+public class DirectBinaryOpNodeTest {
+
+    @Test
+    public void testPrimitiveOperators() throws Exception {
+        assertOperator(DirectBinaryOpNode.IntOpNode.class, 7, Operators.class, "add", JavaOpenClass.INT, 3, 4);
+        assertOperator(DirectBinaryOpNode.IntToDoubleOpNode.class,
+            0.75,
+            Operators.class,
+            "divide",
+            JavaOpenClass.INT,
+            3,
+            4);
+        assertOperator(DirectBinaryOpNode.IntPredicateNode.class, true, Comparison.class, "lt", JavaOpenClass.INT, 3, 4);
+        assertOperator(DirectBinaryOpNode.LongOpNode.class, 12L, Operators.class, "multiply", JavaOpenClass.LONG, 3L, 4L);
+        assertOperator(DirectBinaryOpNode.DoubleOpNode.class,
+            -1.0,
+            Operators.class,
+            "subtract",
+            JavaOpenClass.DOUBLE,
+            3.0,
+            4.0);
+        assertOperator(DirectBinaryOpNode.DoublePredicateNode.class,
+            true,
+            Comparison.class,
+            "eq",
+            JavaOpenClass.DOUBLE,
+            0.1 + 0.2,
+            0.3);
+        assertOperator(DirectBinaryOpNode.DoubleFunctionNode.class,
+            null,
+            Comparison.class,
+            "gt",
+            JavaOpenClass.DOUBLE,
+            Double.NaN,
+            0.3);
+    }
+
+    @Test
+    public void testBigDecimalOperators() throws Exception {
+        IOpenClass type = JavaOpenClass.getOpenClass(BigDecimal.class);
+        assertOperator(DirectBinaryOpNode.ObjectOpNode.class,
+            new BigDecimal("0.50"),
+            Operators.class,
+            "multiply",
+            type,
+            new BigDecimal("0.5"),
+            new BigDecimal("1.0"));
+        assertOperator(DirectBinaryOpNode.ObjectOpNode.class,
+            BigDecimal.ONE,
+            Operators.class,
+            "add",
+            type,
+            null,
+            BigDecimal.ONE);
+    }
+
+    @Test
+    public void testNotMatchedTypes() throws Exception {
+        IBoundNode node = DirectBinaryOpNode.create(null,
+            literal(3, JavaOpenClass.getOpenClass(Integer.class)),
+            literal(4, JavaOpenClass.INT),
+            new JavaOpenMethod(Operators.class.getMethod("add", int.class, int.class)));
+        assertSame(BinaryOpNode.class, node.getClass());
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        JavaOpenMethod method = new JavaOpenMethod(Operators.class.getMethod("rem", int.class, int.class));
+        IBoundNode expected = new BinaryOpNode(null,
+            literal(1, JavaOpenClass.INT),
+            literal(0, JavaOpenClass.INT),
+            method);
+        IBoundNode node = DirectBinaryOpNode
+            .create(null, literal(1, JavaOpenClass.INT), literal(0, JavaOpenClass.INT), method);
+        assertSame(DirectBinaryOpNode.IntOpNode.class, node.getClass());
+        assertEquals(getErrorMessage(expected), getErrorMessage(node));
+    }
+
+    private static String getErrorMessage(IBoundNode node) {
+        try {
+            node.evaluate(new SimpleVM().getRuntimeEnv());
+            fail();
+            return null;
+        } catch (OpenLRuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static void assertOperator(Class<?> expectedNodeClass,
+            Object expected,
+            Class<?> operators,
+            String name,
+            IOpenClass type,
+            Object x,
+            Object y) throws NoSuchMethodException {
+        Class<?> instanceClass = type.getInstanceClass();
+        JavaOpenMethod method = new JavaOpenMethod(operators.getMethod(name, instanceClass, instanceClass));
+        IBoundNode node = DirectBinaryOpNode.create(null, literal(x, type), literal(y, type), method);
+        assertSame(expectedNodeClass, node.getClass());
+        assertEquals(expected, node.evaluate(new SimpleVM().getRuntimeEnv()));
+    }
+
+    private static IBoundNode literal(Object value, IOpenClass type) {
+        return new LiteralBoundNode(null, value, type);
+    }
+}
@@ -0,0 +1,100 @@
+package org.openl.types.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.Test;
+
+public class MethodHandleInvokerFactoryTest {
+
+    private final JavaInvokerFactory factory = new MethodHandleInvokerFactory();
+
+    @Test
+    public void testStaticMethod() throws Exception {
+        JavaInvoker invoker = factory.createMethodInvoker(Math.class.getMethod("max", int.class, int.class));
+        assertEquals(5, invoker.invoke(null, new Object[] { 3, 5 }));
+    }
+
+    @Test
+    public void testVirtualMethod() throws Exception {
+        JavaInvoker invoker = factory.createMethodInvoker(String.class.getMethod("substring", int.class));
+        assertEquals("llo", invoker.invoke("hello", new Object[] { 2 }));
+    }
+
+    @Test
+    public void testVoidMethod() throws Exception {
+        Bean bean = new Bean();
+        JavaInvoker invoker = factory.createMethodInvoker(Bean.class.getMethod("setValue", int.class));
+        assertNull(invoker.invoke(bean, new Object[] { 7 }));
+        assertEquals(7, bean.getValue());
+    }
+
+    @Test
+    public void testConstructor() throws Exception {
+        JavaInvoker invoker = factory.createConstructorInvoker(StringBuilder.class.getConstructor(String.class));
+        assertEquals("abc", invoker.invoke(null, new Object[] { "abc" }).toString());
+    }
+
+    @Test
+    public void testGetterAndSetter() throws Exception {
+        Bean bean = new Bean();
+        factory.createSetter(Bean.class.getMethod("setValue", int.class)).set(bean, 42);
+        assertEquals(42, factory.createGetter(Bean.class.getMethod("getValue")).get(bean));
+    }
+
+    @Test
+    public void testTargetException() throws Exception {
+        JavaInvoker invoker = factory.createMethodInvoker(Bean.class.getMethod("fail"));
+        try {
+            invoker.invoke(new Bean(), new Object[0]);
+            fail();
+        } catch (InvocationTargetException e) {
+            assertSame(IllegalStateException.class, e.getTargetException().getClass());
+        }
+    }
+
+    @Test
+    public void testArgumentsMismatch() throws Exception {
+        JavaInvoker invoker = factory.createMethodInvoker(Math.class.getMethod("max", long.class, long.class));
+        // Widening of primitives as in the reflection
+        assertEquals(5L, invoker.invoke(null, new Object[] { 3, 5 }));
+        try {
+            factory.createSetter(Bean.class.getMethod("setValue", int.class)).set(new Bean(), "1");
+            fail();
+        } catch (IllegalArgumentException e) {
+            // The same exception as in the reflection
+        }
+    }
+
+    @Test
+    public void testVarArgsSetter() throws Exception {
+        Bean bean = new Bean();
+        factory.createSetter(Bean.class.getMethod("setNames", String[].class)).set(bean, new String[] { "a", "b" });
+        assertEquals(2, bean.names.length);
+    }
+
+    public static class Bean {
+        private int value;
+        private String[] names;
+
+        public void setNames(String... names) {
+            this.names = names;
+        }
+
+        public int getValue() {
+            return value;
+        }
+
+        public void setValue(int value) {
+            this.value = value;
+        }
+
+        public void fail() {
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -11,6 +11,7 @@ public class OpenLSystemProperties {
     public static final String DISPATCHING_MODE_PROPERTY = "dispatching.mode";
     public static final String DISPATCHING_MODE_JAVA = "java";
     public static final String DISPATCHING_MODE_DT = "dt";
+    public static final String PARALLEL_BINDING_PROPERTY = "parallel.binding";
 
     private OpenLSystemProperties() {
     }
@@ -30,6 +31,11 @@ public class OpenLSystemProperties {
         return BooleanUtils.toBoolean(customSpreadsheetType, true);
     }
 
+    public static boolean isParallelBindingEnabled(Map<String, Object> externalParameters) {
+        String parallelBinding = getProperty(externalParameters, PARALLEL_BINDING_PROPERTY);
+        return BooleanUtils.toBoolean(parallelBinding);
+    }
+
     private static String getProperty(Map<String, Object> externalParameters, String property) {
         String value;
         if (externalParameters != null && externalParameters.containsKey(property)) {
@@ -102,6 +102,9 @@ public class SequentialXlsLoader {
             List<? extends SheetDescriptor> sheets = excelReader.getSheets();
             boolean use1904Windowing = excelReader.isUse1904Windowing();
 
+            // The sheets are parsed at once, so the reader can parse them in parallel
+            List<Object[][]> sheetsCells = excelReader.getCells(sheets);
+
             int nsheets = sheets.size();
             WorksheetSyntaxNode[] sheetNodes = new WorksheetSyntaxNode[nsheets];
 
@@ -109,7 +112,7 @@ public class SequentialXlsLoader {
                 final SheetDescriptor sheet = sheets.get(i);
                 XlsSheetSourceCodeModule sheetSource = new SequentialXlsSheetSourceCodeModule(workbookSourceModule,
                     sheet);
-                Object[][] cells = excelReader.getCells(sheet);
+                Object[][] cells = sheetsCells.get(i);
                 IGridTable[] tables = new ParsedGrid(path, sheetSource, sheet, cells, use1904Windowing).getTables();
                 sheetNodes[i] = createWorksheetSyntaxNode(tablePartProcessor, sheetSource, tables);
             }
@@ -1,5 +1,6 @@
 package org.openl.excel.parser;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.openl.rules.table.IGridRegion;
@@ -18,6 +19,20 @@ public interface ExcelReader extends AutoCloseable {
      */
     Object[][] getCells(SheetDescriptor sheet);
 
+    /**
+     * Parse and get all cells from given sheets. The sheets can be parsed concurrently
+     *
+     * @param sheets sheets to parse
+     * @return parsed objects with types as in Excel for every sheet in the same order as the sheets
+     */
+    default List<Object[][]> getCells(List<? extends SheetDescriptor> sheets) {
+        List<Object[][]> cells = new ArrayList<>(sheets.size());
+        for (SheetDescriptor sheet : sheets) {
+            cells.add(getCells(sheet));
+        }
+        return cells;
+    }
+
     /**
      * Sometimes we need to convert parsed double value to date. For example a cell contains value 1.25, user sees it in
      * Excel as 1.25 but in OpenL this value has a type Date. It should be converted from double to Date. (There is unit
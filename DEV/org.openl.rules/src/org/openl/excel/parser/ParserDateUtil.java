@@ -1,7 +1,7 @@
 package org.openl.excel.parser;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.poi.ss.usermodel.DateUtil;
 
@@ -52,7 +52,7 @@ public final class ParserDateUtil {
         }
     }
 
-    private final Map<CacheKey, Boolean> cache = new HashMap<>();
+    private final Map<CacheKey, Boolean> cache = new ConcurrentHashMap<>();
 
     public boolean isADateFormat(int formatIndex, String formatString) {
         CacheKey key = new CacheKey(formatIndex, formatString);
@@ -3,28 +3,39 @@ package org.openl.excel.parser.sax;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import javax.xml.parsers.ParserConfigurationException;
 
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
 import org.apache.poi.openxml4j.opc.*;
+import org.apache.poi.ss.usermodel.RichTextString;
 import org.apache.poi.ss.util.CellAddress;
 import org.apache.poi.util.XMLHelper;
 import org.apache.poi.xssf.eventusermodel.XSSFReader;
 import org.apache.poi.xssf.model.CommentsTable;
+import org.apache.poi.xssf.model.SharedStringsTable;
 import org.apache.poi.xssf.usermodel.XSSFRelation;
 import org.openl.excel.parser.*;
 import org.openl.rules.table.IGridRegion;
 import org.openl.util.FileTool;
 import org.openl.util.FileUtils;
+import org.openl.util.ForkJoinPoolUtils;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.XMLReader;
 
 public class SAXReader implements ExcelReader {
 
+    private static class SheetParsingPoolHolder {
+        private static final ForkJoinPool INSTANCE = ForkJoinPoolUtils.newPool("openl-sheet-parsing", 0);
+    }
+
     private final ParserDateUtil parserDateUtil = new ParserDateUtil();
 
     private final String fileName;
@@ -33,6 +44,7 @@ public class SAXReader implements ExcelReader {
     private boolean use1904Windowing;
     private List<SAXSheetDescriptor> sheets;
     private MinimalStyleTable styleTable;
+    private List<String> sharedStrings;
 
     public SAXReader(String fileName) {
         this.fileName = fileName;
@@ -75,17 +87,51 @@ public class SAXReader implements ExcelReader {
 
     @Override
     public Object[][] getCells(SheetDescriptor sheet) {
-        SAXSheetDescriptor saxSheet = (SAXSheetDescriptor) sheet;
+        initializeNeededData();
+        return parseCells((SAXSheetDescriptor) sheet);
+    }
+
+    /**
+     * Parses the sheets in parallel. The shared strings and the styles are read once and are shared between the
+     * sheets, every sheet is read from its own package.
+     */
+    @Override
+    public List<Object[][]> getCells(List<? extends SheetDescriptor> sheets) {
+        if (sheets.size() < 2) {
+            return ExcelReader.super.getCells(sheets);
+        }
+        initializeNeededData();
+
+        ForkJoinPool pool = SheetParsingPoolHolder.INSTANCE;
+        List<ForkJoinTask<Object[][]>> tasks = new ArrayList<>(sheets.size());
+        for (SheetDescriptor sheet : sheets) {
+            tasks.add(pool.submit(() -> parseCells((SAXSheetDescriptor) sheet)));
+        }
+
+        List<Object[][]> cells = new ArrayList<>(sheets.size());
+        RuntimeException error = null;
+        // Wait for all the sheets even if some of them are failed, so the file is not used after the reader is closed
+        for (ForkJoinTask<Object[][]> task : tasks) {
+            try {
+                cells.add(task.join());
+            } catch (RuntimeException e) {
+                if (error == null) {
+                    error = e;
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        return cells;
+    }
+
+    private Object[][] parseCells(SAXSheetDescriptor saxSheet) {
         try (OPCPackage pkg = OPCPackage.open(fileName, PackageAccess.READ)) {
             XSSFReader r = new XSSFReader(pkg);
 
-            initializeNeededData(r, pkg);
-
             XMLReader parser = XMLHelper.newXMLReader();
-            SheetHandler handler = new SheetHandler(r.getSharedStringsTable(),
-                use1904Windowing,
-                styleTable,
-                parserDateUtil);
+            SheetHandler handler = new SheetHandler(sharedStrings, use1904Windowing, styleTable, parserDateUtil);
             parser.setContentHandler(handler);
 
             try (InputStream sheetData = r.getSheet(saxSheet.getRelationId())) {
@@ -142,6 +188,7 @@ public class SAXReader implements ExcelReader {
     @Override
     public void close() {
         styleTable = null;
+        sharedStrings = null;
         sheets = null;
         use1904Windowing = false;
 
@@ -150,6 +197,19 @@ public class SAXReader implements ExcelReader {
         parserDateUtil.reset();
     }
 
+    private void initializeNeededData() {
+        if (sharedStrings == null) {
+            try (OPCPackage pkg = OPCPackage.open(fileName, PackageAccess.READ)) {
+                XSSFReader r = new XSSFReader(pkg);
+
+                initializeNeededData(r, pkg);
+                readSharedStrings(r);
+            } catch (IOException | OpenXML4JException e) {
+                throw new ExcelParseException(e);
+            }
+        }
+    }
+
     private void initializeNeededData(XSSFReader r, OPCPackage pkg) {
         // Ensure that needed settings were read from workbook and styles files
         if (sheets == null) {
@@ -161,6 +221,21 @@ public class SAXReader implements ExcelReader {
         }
     }
 
+    private void readSharedStrings(XSSFReader r) throws IOException, InvalidFormatException {
+        SharedStringsTable sharedStringsTable = r.getSharedStringsTable();
+        if (sharedStringsTable == null) {
+            sharedStrings = Collections.emptyList();
+            return;
+        }
+        // Convert the strings once, so they are not converted on every occurrence in every sheet
+        List<RichTextString> items = sharedStringsTable.getSharedStringItems();
+        List<String> strings = new ArrayList<>(items.size());
+        for (RichTextString item : items) {
+            strings.add(item.toString());
+        }
+        sharedStrings = strings;
+    }
+
     private void parseStyles(XSSFReader r, OPCPackage pkg) {
         List<PackagePart> parts = pkg.getPartsByContentType(XSSFRelation.STYLES.getContentType());
         if (parts.isEmpty()) {
@@ -13,10 +13,12 @@ import java.util.stream.Collectors;
 import org.openl.binding.IBindingContext;
 import org.openl.binding.exception.AmbiguousMethodException;
 import org.openl.binding.exception.DuplicatedTypeException;
+import org.openl.binding.impl.BindingContext;
 import org.openl.binding.impl.method.MethodSearch;
 import org.openl.binding.impl.method.VarArgsOpenMethod;
 import org.openl.binding.impl.module.ModuleBindingContext;
 import org.openl.engine.OpenLSystemProperties;
+import org.openl.message.OpenLMessage;
 import org.openl.meta.TableMetaInfo;
 import org.openl.rules.calc.CustomSpreadsheetResultOpenClass;
 import org.openl.rules.calc.Spreadsheet;
@@ -26,6 +28,7 @@ import org.openl.rules.context.RulesRuntimeContextFactory;
 import org.openl.rules.lang.xls.binding.ModuleSpecificType;
 import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
 import org.openl.rules.lang.xls.syntax.TableSyntaxNode;
+import org.openl.syntax.exception.SyntaxNodeException;
 import org.openl.syntax.impl.ISyntaxConstants;
 import org.openl.types.IMemberMetaInfo;
 import org.openl.types.IMethodCaller;
@@ -63,6 +66,11 @@ public class RulesModuleBindingContext extends ModuleBindingContext {
 
     private boolean ignoreCustomSpreadsheetResultCompilation = false;
 
+    /**
+     * Collects the errors and the messages of the table which is bound by the current thread in the parallel binding.
+     */
+    private final ThreadLocal<BindingContext> tableBindingContext = new ThreadLocal<>();
+
     public RulesModuleBindingContext(IBindingContext delegate, XlsModuleOpenClass module) {
         super(delegate, module);
         internalMethods = new ArrayList<>();
@@ -573,6 +581,103 @@ public class RulesModuleBindingContext extends ModuleBindingContext {
         }
     }
 
+    /**
+     * Starts the binding of a table by the current thread. Until the binding is finished the errors and the messages
+     * of the current thread are collected separately from the errors and the messages of the module, so the tables can
+     * be bound by several threads at once.
+     */
+    public void startTableBinding() {
+        tableBindingContext.set(new BindingContext(null, null, null));
+    }
+
+    /**
+     * Finishes the binding of a table by the current thread.
+     *
+     * @return the context with the errors and the messages collected since {@link #startTableBinding()}, they are
+     *         added to the module by {@link #completeTableBinding(IBindingContext)}
+     */
+    public IBindingContext finishTableBinding() {
+        BindingContext bindingContext = tableBindingContext.get();
+        tableBindingContext.remove();
+        return bindingContext;
+    }
+
+    /**
+     * Adds the errors and the messages of the table to the module.
+     */
+    public void completeTableBinding(IBindingContext bindingContext) {
+        for (SyntaxNodeException error : bindingContext.getErrors()) {
+            addError(error);
+        }
+        addMessages(bindingContext.getMessages());
+    }
+
+    private IBindingContext getErrorsContext() {
+        IBindingContext bindingContext = tableBindingContext.get();
+        return bindingContext != null ? bindingContext : delegate;
+    }
+
+    @Override
+    public void addError(SyntaxNodeException error) {
+        IBindingContext bindingContext = tableBindingContext.get();
+        if (bindingContext != null) {
+            bindingContext.addError(error);
+        } else {
+            synchronized (this) {
+                super.addError(error);
+            }
+        }
+    }
+
+    @Override
+    public SyntaxNodeException[] getErrors() {
+        return getErrorsContext().getErrors();
+    }
+
+    @Override
+    public void pushErrors() {
+        getErrorsContext().pushErrors();
+    }
+
+    @Override
+    public List<SyntaxNodeException> popErrors() {
+        return getErrorsContext().popErrors();
+    }
+
+    @Override
+    public void addMessage(OpenLMessage message) {
+        IBindingContext bindingContext = tableBindingContext.get();
+        if (bindingContext != null) {
+            bindingContext.addMessage(message);
+        } else {
+            synchronized (this) {
+                super.addMessage(message);
+            }
+        }
+    }
+
+    @Override
+    public void addMessages(Collection<OpenLMessage> messages) {
+        for (OpenLMessage message : messages) {
+            addMessage(message);
+        }
+    }
+
+    @Override
+    public Collection<OpenLMessage> getMessages() {
+        return getErrorsContext().getMessages();
+    }
+
+    @Override
+    public void pushMessages() {
+        getErrorsContext().pushMessages();
+    }
+
+    @Override
+    public Collection<OpenLMessage> popMessages() {
+        return getErrorsContext().popMessages();
+    }
+
     private boolean isIgnoreCustomSpreadsheetResultCompilation() {
         return ignoreCustomSpreadsheetResultCompilation;
     }
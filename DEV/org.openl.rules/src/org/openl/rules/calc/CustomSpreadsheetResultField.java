@@ -17,16 +17,19 @@ public class CustomSpreadsheetResultField extends ASpreadsheetField implements I
     private static final Logger LOG = LoggerFactory.getLogger(CustomSpreadsheetResultField.class);
     protected IOpenField field;
     private final IOpenClass[] declaringClasses;
+    private final SpreadsheetResultFieldSlot slot;
 
     public CustomSpreadsheetResultField(CustomSpreadsheetResultOpenClass declaringClass, IOpenField field) {
         super(declaringClass, field.getName(), null);
         this.field = Objects.requireNonNull(field, "field cannot be null");
         this.declaringClasses = new IOpenClass[] { declaringClass };
+        this.slot = new SpreadsheetResultFieldSlot(field.getName());
     }
 
     public CustomSpreadsheetResultField(IOpenClass declaringClass, String name, IOpenClass type) {
         super(declaringClass, name, type);
         this.declaringClasses = new IOpenClass[] { declaringClass };
+        this.slot = new SpreadsheetResultFieldSlot(name);
     }
 
     @Override
@@ -37,7 +40,7 @@ public class CustomSpreadsheetResultField extends ASpreadsheetField implements I
         if (target == null) {
             return getType().nullObject();
         }
-        Object res = ((SpreadsheetResult) target).getFieldValue(getName());
+        Object res = ((SpreadsheetResult) target).getFieldValue(slot);
         return processResult(res);
     }
 
@@ -91,7 +94,7 @@ public class CustomSpreadsheetResultField extends ASpreadsheetField implements I
     @Override
     public void set(Object target, Object value, IRuntimeEnv env) {
         if (target != null) {
-            ((SpreadsheetResult) target).setFieldValue(getName(), value);
+            ((SpreadsheetResult) target).setFieldValue(slot, value);
         }
     }
 
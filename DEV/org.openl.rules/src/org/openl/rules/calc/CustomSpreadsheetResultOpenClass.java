@@ -81,7 +81,8 @@ public class CustomSpreadsheetResultOpenClass extends ADynamicClass implements M
     private Map<String, Point> fieldsCoordinates;
     private final XlsModuleOpenClass module;
     private volatile Class<?> beanClass;
-    private volatile SpreadsheetResultSetter[] spreadsheetResultSetters;
+    private volatile SpreadsheetResultValueReader[] spreadsheetResultValueReaders;
+    private volatile SpreadsheetResultBeanMapper spreadsheetResultBeanMapper;
     private boolean simpleRefByRow;
     private boolean simpleRefByColumn;
     private long columnsForResultModelCount;
@@ -420,19 +421,22 @@ public class CustomSpreadsheetResultOpenClass extends ADynamicClass implements M
                 getName())) {
             throw new IllegalArgumentException("Invalid spreadsheet result.");
         }
-        Class<?> clazz = getBeanClass();
-        Object target;
+        getBeanClass();
+        long start = SpreadsheetResultConversionMetrics.start();
         try {
-            target = clazz.newInstance();
-        } catch (InstantiationException | IllegalAccessException e) {
+            SpreadsheetResultValueReader[] valueReaders = spreadsheetResultValueReaders;
+            Object[] values = new Object[valueReaders.length];
+            for (int i = 0; i < valueReaders.length; i++) {
+                values[i] = valueReaders[i].read(spreadsheetResult);
+            }
+            return spreadsheetResultBeanMapper.map(values);
+        } catch (InstantiationError | IllegalAccessError e) {
+            // The generated mapper fails on the bean creation where Class#newInstance throws the checked exceptions
             log.debug("Ignored error: ", e);
             return null;
+        } finally {
+            SpreadsheetResultConversionMetrics.stop(start);
         }
-
-        for (SpreadsheetResultSetter spreadsheetResultSetter : spreadsheetResultSetters) {
-            spreadsheetResultSetter.set(spreadsheetResult, target);
-        }
-        return target;
     }
 
     public boolean isBeanClassInitialized() {
@@ -445,33 +449,35 @@ public class CustomSpreadsheetResultOpenClass extends ADynamicClass implements M
                 if (beanClass == null) {
                     try {
                         generateBeanClass();
-                        beanClass = getModule().getClassGenerationClassLoader().loadClass(getBeanClassName());
-                        List<SpreadsheetResultSetter> sprSetters = new ArrayList<>();
-                        for (Field field : beanClass.getDeclaredFields()) {
+                        Class<?> cls = getModule().getClassGenerationClassLoader().loadClass(getBeanClassName());
+                        List<Field> mappedFields = new ArrayList<>();
+                        List<SpreadsheetResultValueReader> valueReaders = new ArrayList<>();
+                        for (Field field : cls.getDeclaredFields()) {
                             if (!field.isSynthetic()) {// SONAR adds synthetic fields
                                 List<IOpenField> openFields = beanFieldsMap.get(field.getName());
+                                SpreadsheetResultValueReader valueReader = null;
                                 if (openFields != null) {
-                                    List<SpreadsheetResultFieldValueSetter> sprSettersForField = new ArrayList<>();
-                                    for (IOpenField openField : openFields) {
-                                        SpreadsheetResultFieldValueSetter spreadsheetResultValueSetter = new SpreadsheetResultFieldValueSetter(
-                                            module,
-                                            field,
-                                            openField);
-                                        sprSettersForField.add(spreadsheetResultValueSetter);
-                                    }
-                                    sprSetters.add(new SpreadsheetResultValueSetter(
-                                        sprSettersForField.toArray(SpreadsheetResultFieldValueSetter.EMPTY_ARRAY)));
+                                    valueReader = new SpreadsheetResultFieldValueReader(module,
+                                        field.getType(),
+                                        openFields.toArray(new CustomSpreadsheetResultField[0]));
                                 } else if (field.getName().equals(sprStructureFieldNames[0])) {
-                                    sprSetters.add(new SpreadsheetResultRowNamesSetter(field));
+                                    valueReader = new SpreadsheetResultRowNamesReader();
                                 } else if (field.getName().equals(sprStructureFieldNames[1])) {
-                                    sprSetters.add(new SpreadsheetResultColumnNamesSetter(field));
+                                    valueReader = new SpreadsheetResultColumnNamesReader();
                                 } else if (field.getName().equals(sprStructureFieldNames[2])) {
-                                    sprSetters
-                                        .add(new SpreadsheetResultFieldNamesSetter(field, beanFieldsMap, xmlNamesMap));
+                                    valueReader = new SpreadsheetResultFieldNamesReader(beanFieldsMap, xmlNamesMap);
+                                }
+                                if (valueReader != null) {
+                                    mappedFields.add(field);
+                                    valueReaders.add(valueReader);
                                 }
                             }
                         }
-                        spreadsheetResultSetters = sprSetters.toArray(SpreadsheetResultSetter.EMPTY_ARRAY);
+                        spreadsheetResultValueReaders = valueReaders.toArray(SpreadsheetResultValueReader.EMPTY_ARRAY);
+                        spreadsheetResultBeanMapper = SpreadsheetResultBeanMapper.create(cls,
+                            mappedFields.toArray(new Field[0]),
+                            getModule().getClassGenerationClassLoader());
+                        beanClass = cls;
                     } catch (Exception | LinkageError e) {
                         throw new IllegalStateException(
                             String.format("Failed to create bean class for '%s' spreadsheet result.", getName()),
@@ -788,135 +794,96 @@ public class CustomSpreadsheetResultOpenClass extends ADynamicClass implements M
         return beanClassName;
     }
 
-    private interface SpreadsheetResultSetter {
-        SpreadsheetResultSetter[] EMPTY_ARRAY = new SpreadsheetResultSetter[0];
-
-        void set(SpreadsheetResult spreadsheetResult, Object target);
-    }
-
-    private static final class SpreadsheetResultValueSetter implements SpreadsheetResultSetter {
-        private final SpreadsheetResultFieldValueSetter[] spreadsheetResultFieldValueSetters;
-
-        private SpreadsheetResultValueSetter(SpreadsheetResultFieldValueSetter[] spreadsheetResultFieldValueSetters) {
-            this.spreadsheetResultFieldValueSetters = Objects.requireNonNull(spreadsheetResultFieldValueSetters);
-        }
+    private interface SpreadsheetResultValueReader {
+        SpreadsheetResultValueReader[] EMPTY_ARRAY = new SpreadsheetResultValueReader[0];
 
-        @Override
-        public void set(SpreadsheetResult spreadsheetResult, Object target) {
-            for (SpreadsheetResultFieldValueSetter valueSetter : spreadsheetResultFieldValueSetters) {
-                if (valueSetter.set(spreadsheetResult, target)) {
-                    return;
-                }
-            }
-        }
+        /**
+         * Returns the value for the bean field or {@code null} if the field must not be set.
+         */
+        Object read(SpreadsheetResult spreadsheetResult);
     }
 
-    private static final class SpreadsheetResultFieldValueSetter {
-        static final SpreadsheetResultFieldValueSetter[] EMPTY_ARRAY = new SpreadsheetResultFieldValueSetter[0];
-        private final Field field;
-        private final IOpenField openField;
+    /**
+     * Reads the cell of the first field used in the model. The cell coordinates are resolved once per structure of
+     * spreadsheet results, and the cell is copied by its index.
+     */
+    private static final class SpreadsheetResultFieldValueReader implements SpreadsheetResultValueReader {
         private final XlsModuleOpenClass module;
+        private final Class<?> fieldType;
+        private final CustomSpreadsheetResultField[] openFields;
+        private final SpreadsheetResultFieldSlot[] slots;
 
-        private SpreadsheetResultFieldValueSetter(XlsModuleOpenClass module, Field field, IOpenField openField) {
-            this.field = Objects.requireNonNull(field);
-            this.openField = Objects.requireNonNull(openField);
+        private SpreadsheetResultFieldValueReader(XlsModuleOpenClass module,
+                Class<?> fieldType,
+                CustomSpreadsheetResultField[] openFields) {
             this.module = Objects.requireNonNull(module);
-            this.field.setAccessible(true);
-        }
-
-        public boolean set(SpreadsheetResult spreadsheetResult, Object target) {
-            if (!spreadsheetResult.isFieldUsedInModel(openField.getName())) {
-                return false;
+            this.fieldType = Objects.requireNonNull(fieldType);
+            this.openFields = Objects.requireNonNull(openFields);
+            this.slots = new SpreadsheetResultFieldSlot[openFields.length];
+            for (int i = 0; i < openFields.length; i++) {
+                slots[i] = new SpreadsheetResultFieldSlot(openFields[i].getName());
             }
-            Object v = openField.get(spreadsheetResult, null);
-            try {
-                if (v != null) {
-                    Object cv = SpreadsheetResult.convertSpreadsheetResult(module, v, field.getType());
-                    field.set(target, cv);
-                    return true;
-                }
-            } catch (IllegalAccessException e) {
-                LoggerFactory.getLogger(SpreadsheetResultFieldValueSetter.class).debug("Ignored error: ", e);
-            }
-            return false;
-        }
-    }
-
-    private static class SpreadsheetResultColumnNamesSetter implements SpreadsheetResultSetter {
-        private final Field field;
-
-        public SpreadsheetResultColumnNamesSetter(Field field) {
-            this.field = Objects.requireNonNull(field);
-            this.field.setAccessible(true);
         }
 
         @Override
-        public void set(SpreadsheetResult spreadsheetResult, Object target) {
-            try {
-                if (spreadsheetResult.isTableStructureDetails()) {
-                    field.set(target, spreadsheetResult.columnNames);
+        public Object read(SpreadsheetResult spreadsheetResult) {
+            for (int i = 0; i < openFields.length; i++) {
+                Point point = spreadsheetResult.getFieldCoordinates(slots[i]);
+                if (point != null && spreadsheetResult.isCellUsedInModel(point)) {
+                    // The same conversion as IOpenField#get does
+                    Object v = openFields[i]
+                        .processResult(spreadsheetResult.getValue(point.getRow(), point.getColumn()));
+                    if (v != null) {
+                        return SpreadsheetResult.convertSpreadsheetResult(module, v, fieldType);
+                    }
                 }
-            } catch (IllegalAccessException e) {
-                LoggerFactory.getLogger(SpreadsheetResultColumnNamesSetter.class).debug("Ignored error: ", e);
             }
+            return null;
         }
     }
 
-    private static class SpreadsheetResultRowNamesSetter implements SpreadsheetResultSetter {
-        private final Field field;
-
-        public SpreadsheetResultRowNamesSetter(Field field) {
-            this.field = Objects.requireNonNull(field);
-            this.field.setAccessible(true);
+    private static class SpreadsheetResultColumnNamesReader implements SpreadsheetResultValueReader {
+        @Override
+        public Object read(SpreadsheetResult spreadsheetResult) {
+            return spreadsheetResult.isTableStructureDetails() ? spreadsheetResult.columnNames : null;
         }
+    }
 
+    private static class SpreadsheetResultRowNamesReader implements SpreadsheetResultValueReader {
         @Override
-        public void set(SpreadsheetResult spreadsheetResult, Object target) {
-            try {
-                if (spreadsheetResult.isTableStructureDetails()) {
-                    field.set(target, spreadsheetResult.rowNames);
-                }
-            } catch (IllegalAccessException e) {
-                LoggerFactory.getLogger(SpreadsheetResultRowNamesSetter.class).debug("Ignored error: ", e);
-            }
+        public Object read(SpreadsheetResult spreadsheetResult) {
+            return spreadsheetResult.isTableStructureDetails() ? spreadsheetResult.rowNames : null;
         }
     }
 
-    private static class SpreadsheetResultFieldNamesSetter implements SpreadsheetResultSetter {
-        private final Field field;
+    private static class SpreadsheetResultFieldNamesReader implements SpreadsheetResultValueReader {
         private final Map<String, List<IOpenField>> beanFieldsMap;
         private final Map<String, String> xmlNamesMap;
 
-        public SpreadsheetResultFieldNamesSetter(Field field,
-                Map<String, List<IOpenField>> beanFieldsMap,
+        public SpreadsheetResultFieldNamesReader(Map<String, List<IOpenField>> beanFieldsMap,
                 Map<String, String> xmlNamesMap) {
-            this.field = Objects.requireNonNull(field);
             this.beanFieldsMap = Objects.requireNonNull(beanFieldsMap);
-            this.field.setAccessible(true);
             this.xmlNamesMap = Objects.requireNonNull(xmlNamesMap);
         }
 
         @Override
-        public void set(SpreadsheetResult spreadsheetResult, Object target) {
-            if (spreadsheetResult.isTableStructureDetails()) {
-                String[][] tableStructureDetails = new String[spreadsheetResult.getRowNames().length][spreadsheetResult
-                    .getColumnNames().length];
-                for (Map.Entry<String, List<IOpenField>> e : beanFieldsMap.entrySet()) {
-                    List<IOpenField> openFields = e.getValue();
-                    for (IOpenField openField : openFields) {
-                        Point p = spreadsheetResult.fieldsCoordinates.get(openField.getName());
-                        if (p != null && spreadsheetResult.rowNamesForResultModel[p
-                            .getRow()] != null && spreadsheetResult.columnNamesForResultModel[p.getColumn()] != null) {
-                            tableStructureDetails[p.getRow()][p.getColumn()] = xmlNamesMap.get(e.getKey());
-                        }
+        public Object read(SpreadsheetResult spreadsheetResult) {
+            if (!spreadsheetResult.isTableStructureDetails()) {
+                return null;
+            }
+            String[][] tableStructureDetails = new String[spreadsheetResult.getRowNames().length][spreadsheetResult
+                .getColumnNames().length];
+            for (Map.Entry<String, List<IOpenField>> e : beanFieldsMap.entrySet()) {
+                List<IOpenField> openFields = e.getValue();
+                for (IOpenField openField : openFields) {
+                    Point p = spreadsheetResult.fieldsCoordinates.get(openField.getName());
+                    if (p != null && spreadsheetResult.rowNamesForResultModel[p
+                        .getRow()] != null && spreadsheetResult.columnNamesForResultModel[p.getColumn()] != null) {
+                        tableStructureDetails[p.getRow()][p.getColumn()] = xmlNamesMap.get(e.getKey());
                     }
                 }
-                try {
-                    field.set(target, tableStructureDetails);
-                } catch (IllegalAccessException e) {
-                    LoggerFactory.getLogger(SpreadsheetResultFieldNamesSetter.class).debug("Ignored error: ", e);
-                }
             }
+            return tableStructureDetails;
         }
     }
 
@@ -105,6 +105,22 @@ public class SpreadsheetResult implements Serializable {
         return false;
     }
 
+    boolean isFieldUsedInModel(SpreadsheetResultFieldSlot slot) {
+        Point point = slot.getCoordinates(fieldsCoordinates);
+        return point != null && isCellUsedInModel(point);
+    }
+
+    boolean isCellUsedInModel(Point point) {
+        return columnNamesForResultModel[point.getColumn()] != null && rowNamesForResultModel[point.getRow()] != null;
+    }
+
+    /**
+     * Returns coordinates of the field resolved by the slot or {@code null} if the field does not exist.
+     */
+    Point getFieldCoordinates(SpreadsheetResultFieldSlot slot) {
+        return slot.getCoordinates(getFieldsCoordinates());
+    }
+
     static Map<String, Point> buildFieldsCoordinates(String[] columnNames, String[] rowNames) {
         Map<String, Point> fieldsCoordinates = new HashMap<>();
         if (columnNames != null && rowNames != null) {
@@ -138,6 +154,14 @@ public class SpreadsheetResult implements Serializable {
         this.fieldsCoordinates = buildFieldsCoordinates(columnNames, rowNames);
     }
 
+    private Map<String, Point> getFieldsCoordinates() {
+        if (fieldsCoordinates == null) { // Required if default constructor is
+            // used with setter methods.
+            initFieldsCoordinates();
+        }
+        return fieldsCoordinates;
+    }
+
     @XmlTransient
     public int getHeight() {
         return rowNames.length;
@@ -197,6 +221,17 @@ public class SpreadsheetResult implements Serializable {
         }
     }
 
+    /**
+     * The same as {@link #setFieldValue(String, Object)}, but the field coordinates are resolved by the slot.
+     */
+    public void setFieldValue(SpreadsheetResultFieldSlot slot, Object value) {
+        Point fieldCoordinates = slot.getCoordinates(getFieldsCoordinates());
+
+        if (fieldCoordinates != null) {
+            setValue(fieldCoordinates.getRow(), fieldCoordinates.getColumn(), value);
+        }
+    }
+
     protected void setValue(int row, int column, Object value) {
         results[row][column] = value;
     }
@@ -235,6 +270,18 @@ public class SpreadsheetResult implements Serializable {
         return null;
     }
 
+    /**
+     * The same as {@link #getFieldValue(String)}, but the field coordinates are resolved by the slot.
+     */
+    public Object getFieldValue(SpreadsheetResultFieldSlot slot) {
+        Point fieldCoordinates = slot.getCoordinates(getFieldsCoordinates());
+
+        if (fieldCoordinates != null) {
+            return getValue(fieldCoordinates.getRow(), fieldCoordinates.getColumn());
+        }
+        return null;
+    }
+
     public boolean hasField(String name) {
         if (fieldsCoordinates == null) { // Required if default constructor is
             // used with setter methods.
@@ -243,6 +290,10 @@ public class SpreadsheetResult implements Serializable {
         return fieldsCoordinates.get(name) != null;
     }
 
+    public boolean hasField(SpreadsheetResultFieldSlot slot) {
+        return slot.getCoordinates(getFieldsCoordinates()) != null;
+    }
+
     @Override
     public String toString() {
         try {
@@ -0,0 +1,163 @@
+package org.openl.rules.calc;
+
+import java.lang.reflect.Field;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.openl.classloader.OpenLClassLoader;
+import org.openl.util.ClassUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates a bean of the custom spreadsheet result type and fills it by the values of the spreadsheet result. An
+ * implementation is generated for every bean class, so the bean is filled by direct setter calls without the
+ * reflection.
+ */
+public abstract class SpreadsheetResultBeanMapper {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpreadsheetResultBeanMapper.class);
+
+    private static final String MAPPER_SUFFIX = "$SpreadsheetResultBeanMapper";
+    private static final String OBJECT_CLASS = Type.getInternalName(Object.class);
+    private static final String BASE_CLASS = Type.getInternalName(SpreadsheetResultBeanMapper.class);
+    private static final String MAP_DESC = "([" + Type.getDescriptor(Object.class) + ")" + Type
+        .getDescriptor(Object.class);
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    /**
+     * Creates a bean and sets the values to the fields which the mapper is created for. {@code null} values are
+     * skipped.
+     *
+     * @param values values in the order of the fields
+     * @return filled bean or {@code null} if the bean cannot be instantiated
+     * @throws InstantiationError if the bean class of the generated mapper cannot be instantiated
+     * @throws IllegalAccessError if the bean class of the generated mapper is not accessible
+     */
+    public abstract Object map(Object[] values);
+
+    /**
+     * Creates a mapper for the given fields of the bean class. The mapper class is generated in the given class loader.
+     * If the generation fails, then the reflection based mapper is returned.
+     */
+    static SpreadsheetResultBeanMapper create(Class<?> beanClass, Field[] fields, OpenLClassLoader classLoader) {
+        try {
+            String className = beanClass.getName() + MAPPER_SUFFIX + COUNTER.incrementAndGet();
+            classLoader.addGeneratedClass(className, generate(className, beanClass, fields));
+            return (SpreadsheetResultBeanMapper) classLoader.loadClass(className).newInstance();
+        } catch (Exception | LinkageError e) {
+            LOG.debug("Failed to generate a mapper for '{}' class. The reflection is used.", beanClass.getName(), e);
+            return new ReflectionBeanMapper(beanClass, fields);
+        }
+    }
+
+    private static byte[] generate(String className, Class<?> beanClass, Field[] fields) {
+        String internalName = className.replace('.', '/');
+        String beanInternalName = Type.getInternalName(beanClass);
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES) {
+            @Override
+            protected String getCommonSuperClass(String type1, String type2) {
+                // Merged locals are always of the same type
+                return OBJECT_CLASS;
+            }
+        };
+        cw.visit(Opcodes.V1_8,
+            Opcodes.ACC_PUBLIC + Opcodes.ACC_FINAL + Opcodes.ACC_SUPER,
+            internalName,
+            null,
+            BASE_CLASS,
+            null);
+
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, BASE_CLASS, "<init>", "()V", false);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        // Object map(Object[] values) { Bean bean = new Bean(); if (values[i] != null) bean.setX((X) values[i]); ... }
+        mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "map", MAP_DESC, null, null);
+        mv.visitCode();
+        mv.visitTypeInsn(Opcodes.NEW, beanInternalName);
+        mv.visitInsn(Opcodes.DUP);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, beanInternalName, "<init>", "()V", false);
+        mv.visitVarInsn(Opcodes.ASTORE, 2);
+        for (int i = 0; i < fields.length; i++) {
+            Type fieldType = Type.getType(fields[i].getType());
+            Label skip = new Label();
+            mv.visitVarInsn(Opcodes.ALOAD, 1);
+            pushInt(mv, i);
+            mv.visitInsn(Opcodes.AALOAD);
+            mv.visitVarInsn(Opcodes.ASTORE, 3);
+            mv.visitVarInsn(Opcodes.ALOAD, 3);
+            mv.visitJumpInsn(Opcodes.IFNULL, skip);
+            mv.visitVarInsn(Opcodes.ALOAD, 2);
+            mv.visitVarInsn(Opcodes.ALOAD, 3);
+            mv.visitTypeInsn(Opcodes.CHECKCAST, fieldType.getInternalName());
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL,
+                beanInternalName,
+                ClassUtils.setter(fields[i].getName()),
+                "(" + fieldType.getDescriptor() + ")V",
+                false);
+            mv.visitLabel(skip);
+        }
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        mv.visitInsn(Opcodes.ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private static void pushInt(MethodVisitor mv, int value) {
+        if (value <= 5) {
+            mv.visitInsn(Opcodes.ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(Opcodes.BIPUSH, value);
+        } else if (value <= Short.MAX_VALUE) {
+            mv.visitIntInsn(Opcodes.SIPUSH, value);
+        } else {
+            mv.visitLdcInsn(value);
+        }
+    }
+
+    private static final class ReflectionBeanMapper extends SpreadsheetResultBeanMapper {
+        private final Class<?> beanClass;
+        private final Field[] fields;
+
+        private ReflectionBeanMapper(Class<?> beanClass, Field[] fields) {
+            this.beanClass = Objects.requireNonNull(beanClass);
+            this.fields = fields.clone();
+            for (Field field : this.fields) {
+                field.setAccessible(true);
+            }
+        }
+
+        @Override
+        public Object map(Object[] values) {
+            Object target;
+            try {
+                target = beanClass.newInstance();
+            } catch (InstantiationException | IllegalAccessException e) {
+                LOG.debug("Ignored error: ", e);
+                return null;
+            }
+            for (int i = 0; i < fields.length; i++) {
+                if (values[i] != null) {
+                    try {
+                        fields[i].set(target, values[i]);
+                    } catch (IllegalAccessException e) {
+                        LOG.debug("Ignored error: ", e);
+                    }
+                }
+            }
+            return target;
+        }
+    }
+}
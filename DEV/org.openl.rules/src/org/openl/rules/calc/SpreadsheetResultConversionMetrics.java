@@ -0,0 +1,63 @@
+package org.openl.rules.calc;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timing of the conversions of spreadsheet results to the beans of the custom spreadsheet result types. It allows to
+ * see the conversion time separately from the rules execution. Nested spreadsheet results are counted as a part of the
+ * top level conversion.
+ */
+public final class SpreadsheetResultConversionMetrics {
+
+    private static final LongAdder COUNT = new LongAdder();
+    private static final LongAdder TIME = new LongAdder();
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private SpreadsheetResultConversionMetrics() {
+    }
+
+    /**
+     * @return the count of the top level conversions
+     */
+    public static long getCount() {
+        return COUNT.sum();
+    }
+
+    /**
+     * @return the total time of the top level conversions in nanoseconds
+     */
+    public static long getTotalTimeNanos() {
+        return TIME.sum();
+    }
+
+    public static Map<String, Object> get() {
+        long count = getCount();
+        long time = getTotalTimeNanos();
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("count", count);
+        info.put("totalTimeMs", TimeUnit.NANOSECONDS.toMillis(time));
+        info.put("averageTimeMs", count == 0 ? 0 : (double) time / count / TimeUnit.MILLISECONDS.toNanos(1));
+        return info;
+    }
+
+    public static void reset() {
+        COUNT.reset();
+        TIME.reset();
+    }
+
+    static long start() {
+        DEPTH.get()[0]++;
+        return System.nanoTime();
+    }
+
+    static void stop(long start) {
+        int[] depth = DEPTH.get();
+        if (--depth[0] == 0) {
+            TIME.add(System.nanoTime() - start);
+            COUNT.increment();
+        }
+    }
+}
@@ -9,10 +9,12 @@ import org.openl.vm.IRuntimeEnv;
 
 public class SpreadsheetResultField extends AOpenField implements NodeDescriptionHolder {
     private IOpenClass declaringClass;
+    private final SpreadsheetResultFieldSlot slot;
 
     public SpreadsheetResultField(IOpenClass declaringClass, String name, IOpenClass type) {
         super(name, type);
         this.declaringClass = declaringClass;
+        this.slot = new SpreadsheetResultFieldSlot(name);
     }
 
     @Override
@@ -21,13 +23,12 @@ public class SpreadsheetResultField extends AOpenField implements NodeDescriptio
             return getType().nullObject();
         }
         SpreadsheetResult spreadsheetResult = (SpreadsheetResult) target;
-        String name = getName();
 
-        if (!spreadsheetResult.hasField(name)) {
+        if (!spreadsheetResult.hasField(slot)) {
             return getType().nullObject();
         }
 
-        Object res = spreadsheetResult.getFieldValue(name);
+        Object res = spreadsheetResult.getFieldValue(slot);
         return res != null ? res : getType().nullObject();
     }
 
@@ -42,12 +43,12 @@ public class SpreadsheetResultField extends AOpenField implements NodeDescriptio
             return;
         }
         SpreadsheetResult spreadsheetResult = (SpreadsheetResult) target;
-        String name = getName();
 
-        if (!spreadsheetResult.hasField(name)) {
-            throw new OpenLRuntimeException(String.format("Field '%s' does not exist in SpreadsheetResult", name));
+        if (!spreadsheetResult.hasField(slot)) {
+            throw new OpenLRuntimeException(
+                String.format("Field '%s' does not exist in SpreadsheetResult", getName()));
         }
-        spreadsheetResult.setFieldValue(name, value);
+        spreadsheetResult.setFieldValue(slot, value);
     }
 
     @Override
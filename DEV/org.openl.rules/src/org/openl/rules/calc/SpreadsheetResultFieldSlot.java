@@ -0,0 +1,60 @@
+package org.openl.rules.calc;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+import org.openl.rules.table.Point;
+
+/**
+ * Slot of a spreadsheet result field. The coordinates of the field are resolved once per structure of spreadsheet
+ * results: all results of the same spreadsheet share the same map of the field coordinates, so the field name is not
+ * hashed on every access. A few structures are remembered, so the results of the different spreadsheets used in turn do
+ * not evict each other. The field is looked up in the other structures on every access.
+ */
+public final class SpreadsheetResultFieldSlot {
+
+    private static final int MAX_RESOLVED = 4;
+
+    private final String name;
+    private volatile Resolved[] resolved = new Resolved[0];
+
+    public SpreadsheetResultFieldSlot(String name) {
+        this.name = Objects.requireNonNull(name, "name cannot be null");
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns coordinates of the field in the given map of the field coordinates or {@code null} if the field does not
+     * exist.
+     */
+    Point getCoordinates(Map<String, Point> fieldsCoordinates) {
+        Resolved[] r = resolved;
+        for (Resolved e : r) {
+            if (e.fieldsCoordinates == fieldsCoordinates) {
+                return e.point;
+            }
+        }
+        Point point = fieldsCoordinates.get(name);
+        if (r.length < MAX_RESOLVED) {
+            // A concurrently resolved structure can be lost, it is resolved again on the next access
+            Resolved[] newResolved = Arrays.copyOf(r, r.length + 1);
+            newResolved[r.length] = new Resolved(fieldsCoordinates, point);
+            resolved = newResolved;
+        }
+        return point;
+    }
+
+    private static final class Resolved {
+        private final Map<String, Point> fieldsCoordinates;
+        private final Point point;
+
+        private Resolved(Map<String, Point> fieldsCoordinates, Point point) {
+            this.fieldsCoordinates = fieldsCoordinates;
+            this.point = point;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.openl.rules.calc.element.SpreadsheetExpressionMarker;
 import org.openl.rules.calc.element.SpreadsheetStructureBuilderHolder;
 import org.openl.rules.constants.ConstantOpenField;
 import org.openl.rules.convertor.String2DataConvertorFactory;
+import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
 import org.openl.rules.table.ICell;
 import org.openl.rules.table.ILogicalTable;
 import org.openl.rules.table.LogicalTableHelper;
@@ -87,7 +88,7 @@ public class SpreadsheetStructureBuilder {
      */
     public SpreadsheetCell[][] getCells() {
         if (!cellsExtracted) {
-            synchronized (this) {
+            synchronized (getBindingLock()) {
                 if (!cellsExtracted) {
                     try {
                         extractCellValues();
@@ -157,7 +158,23 @@ public class SpreadsheetStructureBuilder {
         }
     }
 
+    /**
+     * Returns the lock of the module. The cells can refer to the cells of the other spreadsheets, so one lock for all
+     * the spreadsheets of the module is used to not define the order of the locks.
+     */
+    private Object getBindingLock() {
+        IOpenClass declaringClass = spreadsheetHeader.getDeclaringClass();
+        return declaringClass instanceof XlsModuleOpenClass ? ((XlsModuleOpenClass) declaringClass)
+            .getSpreadsheetBindingLock() : this;
+    }
+
     public IOpenClass makeType(SpreadsheetCell cell) {
+        synchronized (getBindingLock()) {
+            return makeTypeUnderLock(cell);
+        }
+    }
+
+    private IOpenClass makeTypeUnderLock(SpreadsheetCell cell) {
         if (cell.getType() == null && !cell.isTypeUnknown()) {
             int rowIndex = cell.getRowIndex();
             int columnIndex = cell.getColumnIndex();
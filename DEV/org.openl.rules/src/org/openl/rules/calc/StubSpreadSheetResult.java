@@ -90,11 +90,26 @@ public final class StubSpreadSheetResult extends SpreadsheetResult {
         return values.get(name);
     }
 
+    @Override
+    public void setFieldValue(SpreadsheetResultFieldSlot slot, Object value) {
+        values.put(slot.getName(), value);
+    }
+
+    @Override
+    public Object getFieldValue(SpreadsheetResultFieldSlot slot) {
+        return values.get(slot.getName());
+    }
+
     @Override
     public boolean hasField(String name) {
         return true;
     }
 
+    @Override
+    public boolean hasField(SpreadsheetResultFieldSlot slot) {
+        return true;
+    }
+
     @Override
     public String toString() {
         return "Stub SpreadsheetResult:\n" + values.toString();
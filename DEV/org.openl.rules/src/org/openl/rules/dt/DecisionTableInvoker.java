@@ -1,7 +1,6 @@
 package org.openl.rules.dt;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import org.openl.binding.MethodUtil;
 import org.openl.domain.IIntIterator;
@@ -9,6 +8,7 @@ import org.openl.rules.dt.algorithm.FailOnMissException;
 import org.openl.rules.dt.algorithm.IDecisionTableAlgorithm;
 import org.openl.rules.enumeration.DTEmptyResultProcessingEnum;
 import org.openl.rules.method.RulesMethodInvoker;
+import org.openl.rules.vm.SimpleRulesRuntimeEnv;
 import org.openl.types.IOpenClass;
 import org.openl.util.OpenClassUtils;
 import org.openl.vm.IRuntimeEnv;
@@ -39,34 +39,48 @@ public class DecisionTableInvoker extends RulesMethodInvoker<DecisionTable> {
 
     @Override
     public Object invokeSimple(Object target, Object[] params, IRuntimeEnv env) {
+        if (!(env instanceof SimpleRulesRuntimeEnv)) {
+            try {
+                env.pushLocalFrame(new Object[] { new DecisionTableRuntimePool() });
+                return doInvoke(target, params, env);
+            } finally {
+                env.popLocalFrame();
+            }
+        }
+        // The runtime pools are reused by the invocations in the same runtime environment
+        DecisionTableRuntimePools runtimePools = ((SimpleRulesRuntimeEnv) env).getDecisionTableRuntimePools();
         try {
-            env.pushLocalFrame(new Object[] { new DecisionTableRuntimePool() });
+            env.pushLocalFrame(runtimePools.acquire());
             return doInvoke(target, params, env);
         } finally {
             env.popLocalFrame();
+            runtimePools.release();
         }
     }
 
     private Object doInvoke(Object target, Object[] params, IRuntimeEnv env) {
         IDecisionTableAlgorithm algorithm = getInvokableMethod().getAlgorithm();
         IIntIterator rulesIntIterator = algorithm.checkedRules(target, params, env);
+        IBaseAction[] actions = getInvokableMethod().getActionRows();
 
         boolean atLeastOneRuleFired = false;
-        List<Integer> r = new ArrayList<>();
-        while (rulesIntIterator.hasNext()) {
-            atLeastOneRuleFired = true;
-            r.add(rulesIntIterator.nextInt());
+        Object returnValue = null;
+        if (actions.length == 1 && actions[0].isReturnAction() && !Tracer.isEnabled()) {
+            // Single-hit table: the rules are checked lazily until the first matched one
+            IBaseAction action = actions[0];
+            while (rulesIntIterator.hasNext()) {
+                atLeastOneRuleFired = true;
+                returnValue = action.executeAction(rulesIntIterator.nextInt(), target, params, env);
+                if (returnValue != null || returnEmptyResult) {
+                    break;
+                }
+            }
+        } else {
+            int[] rules = toArray(rulesIntIterator);
+            atLeastOneRuleFired = rules.length > 0;
+            returnValue = Tracer
+                .invoke(new ActionInvoker(rules, actions, returnEmptyResult), target, params, env, this);
         }
-        int[] rules = new int[r.size()];
-        int i = 0;
-        for (Integer v : r) {
-            rules[i++] = v;
-        }
-
-        IBaseAction[] actions = getInvokableMethod().getActionRows();
-
-        Object returnValue = Tracer
-            .invoke(new ActionInvoker(rules, actions, returnEmptyResult), target, params, env, this);
         if (!OpenClassUtils.isVoid(retType) && returnValue != null) {
             return returnValue;
         }
@@ -81,4 +95,15 @@ public class DecisionTableInvoker extends RulesMethodInvoker<DecisionTable> {
         return retType.nullObject();
     }
 
+    private static int[] toArray(IIntIterator iterator) {
+        int[] rules = new int[16];
+        int size = 0;
+        while (iterator.hasNext()) {
+            if (size == rules.length) {
+                rules = Arrays.copyOf(rules, size * 2);
+            }
+            rules[size++] = iterator.nextInt();
+        }
+        return size == rules.length ? rules : Arrays.copyOf(rules, size);
+    }
 }
@@ -21,4 +21,10 @@ public class DecisionTableRuntimePool {
         return conditionExecutionPool.get(conditionName);
     }
 
+    void clear() {
+        if (conditionExecutionPool != null) {
+            conditionExecutionPool.clear();
+        }
+    }
+
 }
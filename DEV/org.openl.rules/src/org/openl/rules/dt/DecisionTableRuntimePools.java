@@ -0,0 +1,32 @@
+package org.openl.rules.dt;
+
+import java.util.Arrays;
+
+/**
+ * Local frames with {@link DecisionTableRuntimePool} which are reused by the invocations of the decision tables in the
+ * same runtime environment. Nested invocations use own frames. The frames are kept by the runtime environment, so they
+ * are collected together with it.
+ */
+public final class DecisionTableRuntimePools {
+
+    private Object[][] frames = new Object[8][];
+    private int depth;
+
+    Object[] acquire() {
+        if (depth == frames.length) {
+            frames = Arrays.copyOf(frames, depth * 2);
+        }
+        Object[] frame = frames[depth];
+        if (frame == null) {
+            frame = new Object[] { new DecisionTableRuntimePool() };
+            frames[depth] = frame;
+        }
+        depth++;
+        return frame;
+    }
+
+    void release() {
+        depth--;
+        ((DecisionTableRuntimePool) frames[depth][0]).clear();
+    }
+}
@@ -7,6 +7,11 @@ public interface IDecisionTableAlgorithm {
 
     void cleanParamValuesForIndexedConditions();
 
+    /**
+     * Returns the rules matched to the given parameters in the order of their priority. The iterator is lazy: the
+     * conditions for the next rule are checked only on request, so the caller can stop the iteration after the first
+     * suitable rule without evaluation of the rest rules.
+     */
     IIntIterator checkedRules(Object target, Object[] params, IRuntimeEnv env);
 
 }
@@ -18,6 +18,10 @@ public class FloatTypeComparator implements Comparator<Object> {
     public int compare(Object o1, Object o2) {
         double d1 = NumberUtils.convertToDouble(o1);
         double d2 = NumberUtils.convertToDouble(o2);
+        return compare(d1, d2);
+    }
+
+    public static int compare(double d1, double d2) {
         int compare = Double.compare(d1, d2);
         if (compare == 0) {
             return 0;
@@ -0,0 +1,145 @@
+package org.openl.rules.dt.index;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.openl.rules.dt.algorithm.evaluator.ARangeIndexEvaluator.IndexNode;
+
+/**
+ * Precomputed sets of rules for the ranges of index nodes which start from the first node (ascending index) or end at
+ * the last node (descending index). The sets are stored for every boundary between the nodes, so a range lookup
+ * returns the shared set without iteration through the nodes. For big tables the sets are stored for every
+ * {@code step} boundary only to limit the used memory, and the rest nodes are added to the copy of the nearest set.
+ * The memory of the stored sets is about the memory of the rule numbers of the index nodes, so the index takes at most
+ * twice as much memory as without the precomputed sets.
+ * <p>
+ * The returned sets are shared and must not be modified.
+ */
+final class CumulativeRuleSets {
+
+    /**
+     * Number of bits in all precomputed sets of the index per rule number in the index nodes.
+     */
+    private static final long BITS_PER_RULE_REFERENCE = Integer.SIZE;
+
+    /**
+     * Number of bits in all precomputed sets of the small indexes (8 KB).
+     */
+    private static final long MIN_TOTAL_BITS = 1L << 16;
+
+    /**
+     * Maximum number of bits in all precomputed sets of the index (128 KB).
+     */
+    private static final long MAX_TOTAL_BITS = 1L << 20;
+
+    private final List<IndexNode> index;
+    private final boolean ascending;
+    private final int step;
+    private final BitSet[] checkpoints;
+    private final BitSet emptyRulesSet;
+
+    CumulativeRuleSets(List<IndexNode> index, int[] emptyRules, boolean ascending) {
+        this.index = index;
+        this.ascending = ascending;
+        int size = index.size();
+        int maxRule = 0;
+        long ruleReferences = emptyRules.length;
+        for (int ruleN : emptyRules) {
+            maxRule = Math.max(maxRule, ruleN);
+        }
+        for (IndexNode node : index) {
+            int[] rules = node.getRules();
+            ruleReferences += rules.length;
+            for (int ruleN : rules) {
+                maxRule = Math.max(maxRule, ruleN);
+            }
+        }
+        long maxTotalBits = Math.min(MAX_TOTAL_BITS,
+            Math.max(MIN_TOTAL_BITS, ruleReferences * BITS_PER_RULE_REFERENCE));
+        long totalBits = (long) (size + 1) * (maxRule + 1);
+        this.step = (int) Math.max(1, (totalBits + maxTotalBits - 1) / maxTotalBits);
+        this.checkpoints = new BitSet[(size + step - 1) / step + 1];
+
+        BitSet bits = new BitSet(maxRule + 1);
+        for (int ruleN : emptyRules) {
+            bits.set(ruleN);
+        }
+        this.emptyRulesSet = (BitSet) bits.clone();
+        if (ascending) {
+            checkpoints[0] = emptyRulesSet;
+            for (int i = 0; i < size; i++) {
+                addRules(bits, i);
+                int boundary = i + 1;
+                if (boundary % step == 0) {
+                    checkpoints[boundary / step] = (BitSet) bits.clone();
+                }
+            }
+        } else {
+            checkpoints[checkpoints.length - 1] = emptyRulesSet;
+            for (int i = size - 1; i >= 0; i--) {
+                addRules(bits, i);
+                if (i % step == 0) {
+                    checkpoints[i / step] = (BitSet) bits.clone();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns rules of the empty conditions and the nodes in the range [from, to). The range must start from the first
+     * node for the ascending index and end at the last node for the descending one. {@code null} range is for the
+     * empty conditions only.
+     */
+    BitSet get(Pair<Integer, Integer> range) {
+        if (range == null) {
+            return emptyRulesSet;
+        }
+        if (ascending) {
+            int to = range.getRight();
+            int j = to / step;
+            BitSet checkpoint = checkpoints[j];
+            int boundary = j * step;
+            if (boundary == to) {
+                return checkpoint;
+            }
+            BitSet bits = (BitSet) checkpoint.clone();
+            for (int i = boundary; i < to; i++) {
+                addRules(bits, i);
+            }
+            return bits;
+        } else {
+            int from = range.getLeft();
+            int j = (from + step - 1) / step;
+            BitSet checkpoint = checkpoints[j];
+            int boundary = Math.min(j * step, index.size());
+            if (boundary == from) {
+                return checkpoint;
+            }
+            BitSet bits = (BitSet) checkpoint.clone();
+            for (int i = from; i < boundary; i++) {
+                addRules(bits, i);
+            }
+            return bits;
+        }
+    }
+
+    /**
+     * Returns the number of bits allocated for the precomputed sets.
+     */
+    long getAllocatedBits() {
+        long bits = 0;
+        for (BitSet checkpoint : checkpoints) {
+            if (checkpoint != null) {
+                bits += checkpoint.size();
+            }
+        }
+        return bits;
+    }
+
+    private void addRules(BitSet bits, int node) {
+        for (int ruleN : index.get(node).getRules()) {
+            bits.set(ruleN);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.openl.rules.dt.index;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedMap;
+
+import org.openl.rules.dt.DecisionTableRuleNode;
+import org.openl.rules.dt.algorithm.evaluator.FloatTypeComparator;
+import org.openl.rules.dt.element.ConditionCasts;
+import org.openl.rules.helpers.NumberUtils;
+
+/**
+ * Equals index for float point values. The values are stored in the sorted array of primitives and are searched by
+ * the binary search with the same precision as in {@link FloatTypeComparator}.
+ */
+final class DoubleEqualsIndex extends ARuleIndex {
+
+    private final double[] keys;
+    private final DecisionTableRuleNode[] nodes;
+
+    /**
+     * @param valueNodes nodes sorted by {@link FloatTypeComparator}
+     */
+    DoubleEqualsIndex(DecisionTableRuleNode emptyOrFormulaNodes,
+            SortedMap<Object, DecisionTableRuleNode> valueNodes,
+            ConditionCasts conditionCasts) {
+        super(emptyOrFormulaNodes, conditionCasts);
+        this.keys = new double[valueNodes.size()];
+        this.nodes = new DecisionTableRuleNode[valueNodes.size()];
+        int i = 0;
+        for (Map.Entry<Object, DecisionTableRuleNode> entry : valueNodes.entrySet()) {
+            keys[i] = NumberUtils.convertToDouble(entry.getKey());
+            nodes[i] = entry.getValue();
+            i++;
+        }
+    }
+
+    @Override
+    DecisionTableRuleNode findNodeInIndex(Object value) {
+        Double key = NumberUtils.convertToDouble(value);
+        if (key == null) {
+            return null;
+        }
+        double d = key;
+        int low = 0;
+        int high = keys.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = FloatTypeComparator.compare(d, keys[mid]);
+            if (cmp > 0) {
+                low = mid + 1;
+            } else if (cmp < 0) {
+                high = mid - 1;
+            } else {
+                return nodes[mid];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Iterable<DecisionTableRuleNode> nodes() {
+        return Arrays.asList(nodes);
+    }
+}
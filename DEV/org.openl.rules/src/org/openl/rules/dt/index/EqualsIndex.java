@@ -33,11 +33,17 @@ public class EqualsIndex extends ARuleIndex {
         return valueNodes.values();
     }
 
+    /**
+     * Builds the index for the given values. Specialized indexes are used if all values are {@link Integer},
+     * {@link Long}, {@link String} or float point (except {@link BigDecimal}) values, otherwise the index is based on
+     * {@link Map}.
+     */
     public static class Builder {
         private Map<Object, DecisionTableRuleNodeBuilder> map = null;
         private Map<Object, DecisionTableRuleNode> nodeMap = null;
         private final DecisionTableRuleNodeBuilder emptyBuilder = new DecisionTableRuleNodeBuilder();
         private boolean comparatorBasedMap = false;
+        private Class<?> keyType;
         private ConditionCasts conditionCasts;
 
         public void putEmptyRule(int ruleN) {
@@ -71,6 +77,9 @@ public class EqualsIndex extends ARuleIndex {
                     map = new HashMap<>();
                     nodeMap = new HashMap<>();
                 }
+                keyType = value == null ? null : value.getClass();
+            } else if (keyType != null && (value == null || keyType != value.getClass())) {
+                keyType = null;
             }
 
             DecisionTableRuleNodeBuilder builder = map.computeIfAbsent(value,
@@ -79,15 +88,31 @@ public class EqualsIndex extends ARuleIndex {
             builder.addRule(ruleN);
         }
 
-        public EqualsIndex build() {
+        public ARuleIndex build() {
+            DecisionTableRuleNode emptyNode = emptyBuilder.makeNode();
             if (map == null) {
-                nodeMap = Collections.emptyMap();
-            } else {
-                for (Map.Entry<Object, DecisionTableRuleNodeBuilder> element : map.entrySet()) {
-                    nodeMap.put(element.getKey(), element.getValue().makeNode());
+                return new EqualsIndex(emptyNode, Collections.emptyMap(), conditionCasts);
+            }
+            for (Map.Entry<Object, DecisionTableRuleNodeBuilder> element : map.entrySet()) {
+                nodeMap.put(element.getKey(), element.getValue().makeNode());
+            }
+            if (comparatorBasedMap) {
+                if (((TreeMap<Object, DecisionTableRuleNode>) nodeMap).comparator() != null) {
+                    return new DoubleEqualsIndex(emptyNode,
+                        (TreeMap<Object, DecisionTableRuleNode>) nodeMap,
+                        conditionCasts);
+                }
+            } else if (keyType == Integer.class) {
+                return new IntEqualsIndex(emptyNode, nodeMap, conditionCasts);
+            } else if (keyType == Long.class) {
+                return new LongEqualsIndex(emptyNode, nodeMap, conditionCasts);
+            } else if (keyType == String.class) {
+                StringEqualsIndex index = StringEqualsIndex.create(emptyNode, nodeMap, conditionCasts);
+                if (index != null) {
+                    return index;
                 }
             }
-            return new EqualsIndex(emptyBuilder.makeNode(), nodeMap, conditionCasts);
+            return new EqualsIndex(emptyNode, nodeMap, conditionCasts);
         }
     }
 }
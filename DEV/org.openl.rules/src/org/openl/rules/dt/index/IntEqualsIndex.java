@@ -0,0 +1,77 @@
+package org.openl.rules.dt.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.openl.rules.dt.DecisionTableRuleNode;
+import org.openl.rules.dt.element.ConditionCasts;
+
+/**
+ * Equals index for {@link Integer} values. The values are stored in the open-addressing hash table of primitives, so
+ * the lookup does not call {@code hashCode()} and {@code equals()} of the boxed values.
+ */
+final class IntEqualsIndex extends ARuleIndex {
+
+    private final int[] keys;
+    private final DecisionTableRuleNode[] slots;
+    private final int mask;
+    private final List<DecisionTableRuleNode> nodes;
+
+    IntEqualsIndex(DecisionTableRuleNode emptyOrFormulaNodes,
+            Map<Object, DecisionTableRuleNode> valueNodes,
+            ConditionCasts conditionCasts) {
+        super(emptyOrFormulaNodes, conditionCasts);
+        int capacity = tableSize(valueNodes.size());
+        this.keys = new int[capacity];
+        this.slots = new DecisionTableRuleNode[capacity];
+        this.mask = capacity - 1;
+        for (Map.Entry<Object, DecisionTableRuleNode> entry : valueNodes.entrySet()) {
+            int key = (Integer) entry.getKey();
+            int i = mix(key) & mask;
+            while (slots[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            slots[i] = entry.getValue();
+        }
+        this.nodes = new ArrayList<>(valueNodes.values());
+    }
+
+    @Override
+    DecisionTableRuleNode findNodeInIndex(Object value) {
+        if (value instanceof Integer) {
+            int key = (Integer) value;
+            for (int i = mix(key) & mask; slots[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return slots[i];
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Iterable<DecisionTableRuleNode> nodes() {
+        return nodes;
+    }
+
+    /**
+     * Returns the power of two capacity to keep the load factor of the hash table not greater than 0.5.
+     */
+    static int tableSize(int size) {
+        return Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+    }
+
+    /**
+     * Spreads the bits of the hash code (the finalization step of MurmurHash3).
+     */
+    static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,62 @@
+package org.openl.rules.dt.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.openl.rules.dt.DecisionTableRuleNode;
+import org.openl.rules.dt.element.ConditionCasts;
+
+/**
+ * Equals index for {@link Long} values. The values are stored in the open-addressing hash table of primitives, so
+ * the lookup does not call {@code hashCode()} and {@code equals()} of the boxed values.
+ */
+final class LongEqualsIndex extends ARuleIndex {
+
+    private final long[] keys;
+    private final DecisionTableRuleNode[] slots;
+    private final int mask;
+    private final List<DecisionTableRuleNode> nodes;
+
+    LongEqualsIndex(DecisionTableRuleNode emptyOrFormulaNodes,
+            Map<Object, DecisionTableRuleNode> valueNodes,
+            ConditionCasts conditionCasts) {
+        super(emptyOrFormulaNodes, conditionCasts);
+        int capacity = IntEqualsIndex.tableSize(valueNodes.size());
+        this.keys = new long[capacity];
+        this.slots = new DecisionTableRuleNode[capacity];
+        this.mask = capacity - 1;
+        for (Map.Entry<Object, DecisionTableRuleNode> entry : valueNodes.entrySet()) {
+            long key = (Long) entry.getKey();
+            int i = hash(key) & mask;
+            while (slots[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            slots[i] = entry.getValue();
+        }
+        this.nodes = new ArrayList<>(valueNodes.values());
+    }
+
+    @Override
+    DecisionTableRuleNode findNodeInIndex(Object value) {
+        if (value instanceof Long) {
+            long key = (Long) value;
+            for (int i = hash(key) & mask; slots[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return slots[i];
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Iterable<DecisionTableRuleNode> nodes() {
+        return nodes;
+    }
+
+    private static int hash(long key) {
+        return IntEqualsIndex.mix((int) (key ^ (key >>> 32)));
+    }
+}
@@ -21,16 +21,26 @@ public class RangeAscIndex implements IRuleIndex {
     private final IRangeAdaptor<IndexNode, ?> adaptor;
     private final int[] emptyRules;
     private final int rulesTotalSize;
+    private final CumulativeRuleSets ruleSets;
 
     public RangeAscIndex(DecisionTableRuleNode nextNode,
             List<IndexNode> index,
             IRangeAdaptor<IndexNode, ?> adaptor,
             int[] emptyRules) {
+        this(nextNode, index, adaptor, emptyRules, true);
+    }
+
+    RangeAscIndex(DecisionTableRuleNode nextNode,
+            List<IndexNode> index,
+            IRangeAdaptor<IndexNode, ?> adaptor,
+            int[] emptyRules,
+            boolean ascending) {
         this.index = Collections.unmodifiableList(index);
         this.adaptor = adaptor;
         this.nextNode = nextNode;
         this.emptyRules = emptyRules;
         this.rulesTotalSize = nextNode.getRules().length;
+        this.ruleSets = new CumulativeRuleSets(this.index, emptyRules, ascending);
     }
 
     private Pair<Integer, Integer> findIndexRange(Object value) {
@@ -71,18 +81,7 @@ public class RangeAscIndex implements IRuleIndex {
     }
 
     private BitSet collectAllRules(Pair<Integer, Integer> range) {
-        BitSet bits = new BitSet();
-        for (int ruleN : emptyRules) {
-            bits.set(ruleN);
-        }
-        if (range != null) {
-            for (int i = range.getLeft(); i < range.getRight(); i++) {
-                for (int ruleN : index.get(i).getRules()) {
-                    bits.set(ruleN);
-                }
-            }
-        }
-        return bits;
+        return ruleSets.get(range);
     }
 
     private BitSet getResultAndIntersect(Object value, IDecisionTableRuleNodeV2 prevResult) {
@@ -91,21 +90,8 @@ public class RangeAscIndex implements IRuleIndex {
             return prevRes;
         }
         Pair<Integer, Integer> range = findIndexRange(value);
-        BitSet result = new BitSet();
-        for (int ruleN : emptyRules) {
-            if (prevRes.get(ruleN)) {
-                result.set(ruleN);
-            }
-        }
-        if (range != null) {
-            for (int i = range.getLeft(); i < range.getRight(); i++) {
-                for (int ruleN : index.get(i).getRules()) {
-                    if (prevRes.get(ruleN)) {
-                        result.set(ruleN);
-                    }
-                }
-            }
-        }
+        BitSet result = (BitSet) prevRes.clone();
+        result.and(ruleSets.get(range));
         return result;
     }
 
@@ -13,7 +13,7 @@ public class RangeDescIndex extends RangeAscIndex {
             List<IndexNode> index,
             IRangeAdaptor<IndexNode, ?> adaptor,
             int[] emptyRules) {
-        super(nextNode, index, adaptor, emptyRules);
+        super(nextNode, index, adaptor, emptyRules, false);
     }
 
     @Override
@@ -0,0 +1,150 @@
+package org.openl.rules.dt.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.openl.rules.dt.DecisionTableRuleNode;
+import org.openl.rules.dt.element.ConditionCasts;
+
+/**
+ * Equals index for {@link String} values based on the minimal perfect hash function built by the "hash, displace"
+ * algorithm. The keys are spread into buckets, then a displacement is found for every bucket so all keys are placed
+ * into separate slots of the table of the same size as the number of keys. So the lookup is done by one
+ * {@code equals()} call without collisions resolving.
+ */
+final class StringEqualsIndex extends ARuleIndex {
+
+    private static final int MAX_DISPLACEMENT = 1 << 16;
+
+    private final String[] keys;
+    private final DecisionTableRuleNode[] nodes;
+    /**
+     * Displacements for every bucket. Negative values are direct slot indexes for buckets with a single key.
+     */
+    private final int[] displacements;
+
+    private StringEqualsIndex(DecisionTableRuleNode emptyOrFormulaNodes,
+            String[] keys,
+            DecisionTableRuleNode[] nodes,
+            int[] displacements,
+            ConditionCasts conditionCasts) {
+        super(emptyOrFormulaNodes, conditionCasts);
+        this.keys = keys;
+        this.nodes = nodes;
+        this.displacements = displacements;
+    }
+
+    /**
+     * Builds the index. Returns {@code null} if the perfect hash function cannot be found, e.g. when the keys have the
+     * same hash codes.
+     */
+    static StringEqualsIndex create(DecisionTableRuleNode emptyOrFormulaNodes,
+            Map<Object, DecisionTableRuleNode> valueNodes,
+            ConditionCasts conditionCasts) {
+        int size = valueNodes.size();
+        if (size == 0) {
+            return null;
+        }
+        int bucketsCount = (size + 1) / 2;
+        List<List<String>> buckets = new ArrayList<>(bucketsCount);
+        for (int i = 0; i < bucketsCount; i++) {
+            buckets.add(new ArrayList<>(2));
+        }
+        for (Object key : valueNodes.keySet()) {
+            String value = (String) key;
+            buckets.get(bucket(value.hashCode(), bucketsCount)).add(value);
+        }
+        Integer[] order = new Integer[bucketsCount];
+        for (int i = 0; i < bucketsCount; i++) {
+            order[i] = i;
+        }
+        // Place the largest buckets first while the table is empty
+        Arrays.sort(order, (a, b) -> Integer.compare(buckets.get(b).size(), buckets.get(a).size()));
+
+        String[] keys = new String[size];
+        DecisionTableRuleNode[] nodes = new DecisionTableRuleNode[size];
+        int[] displacements = new int[bucketsCount];
+        int[] bucketSlots = new int[size];
+        int freeSlot = 0;
+        for (int b : order) {
+            List<String> bucket = buckets.get(b);
+            if (bucket.isEmpty()) {
+                break;
+            }
+            if (bucket.size() == 1) {
+                while (keys[freeSlot] != null) {
+                    freeSlot++;
+                }
+                String key = bucket.get(0);
+                keys[freeSlot] = key;
+                nodes[freeSlot] = valueNodes.get(key);
+                displacements[b] = -freeSlot - 1;
+                continue;
+            }
+            int d = findDisplacement(bucket, keys, bucketSlots);
+            if (d < 0) {
+                return null;
+            }
+            for (int i = 0; i < bucket.size(); i++) {
+                String key = bucket.get(i);
+                keys[bucketSlots[i]] = key;
+                nodes[bucketSlots[i]] = valueNodes.get(key);
+            }
+            displacements[b] = d;
+        }
+        return new StringEqualsIndex(emptyOrFormulaNodes, keys, nodes, displacements, conditionCasts);
+    }
+
+    private static int findDisplacement(List<String> bucket, String[] keys, int[] bucketSlots) {
+        for (int d = 1; d < MAX_DISPLACEMENT; d++) {
+            if (tryDisplacement(d, bucket, keys, bucketSlots)) {
+                return d;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean tryDisplacement(int d, List<String> bucket, String[] keys, int[] bucketSlots) {
+        for (int i = 0; i < bucket.size(); i++) {
+            int slot = slot(d, bucket.get(i).hashCode(), keys.length);
+            if (keys[slot] != null) {
+                return false;
+            }
+            for (int j = 0; j < i; j++) {
+                if (bucketSlots[j] == slot) {
+                    return false;
+                }
+            }
+            bucketSlots[i] = slot;
+        }
+        return true;
+    }
+
+    @Override
+    DecisionTableRuleNode findNodeInIndex(Object value) {
+        if (value instanceof String) {
+            int h = value.hashCode();
+            int d = displacements[bucket(h, displacements.length)];
+            int slot = d < 0 ? -d - 1 : slot(d, h, keys.length);
+            if (keys[slot].equals(value)) {
+                return nodes[slot];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Iterable<DecisionTableRuleNode> nodes() {
+        return Arrays.asList(nodes);
+    }
+
+    private static int bucket(int h, int bucketsCount) {
+        return (IntEqualsIndex.mix(h) & Integer.MAX_VALUE) % bucketsCount;
+    }
+
+    private static int slot(int d, int h, int size) {
+        return (IntEqualsIndex.mix(h ^ d * 0x9e3779b9) & Integer.MAX_VALUE) % size;
+    }
+}
@@ -5,6 +5,8 @@
 package org.openl.rules.lang.xls;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -42,6 +44,7 @@ import org.openl.rules.dt.ConditionsTableBinder;
 import org.openl.rules.dt.ReturnsTableBinder;
 import org.openl.rules.fuzzy.OpenLFuzzyUtils;
 import org.openl.rules.lang.xls.binding.AExecutableNodeBinder;
+import org.openl.rules.lang.xls.binding.AMethodBasedNode;
 import org.openl.rules.lang.xls.binding.AXlsTableBinder;
 import org.openl.rules.lang.xls.binding.XlsMetaInfo;
 import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
@@ -53,6 +56,7 @@ import org.openl.rules.method.table.MethodTableNodeBinder;
 import org.openl.rules.property.PropertyTableBinder;
 import org.openl.rules.table.properties.PropertiesLoader;
 import org.openl.rules.tbasic.AlgorithmNodeBinder;
+import org.openl.rules.testmethod.TestMethodBoundNode;
 import org.openl.rules.testmethod.TestMethodNodeBinder;
 import org.openl.rules.validation.properties.dimentional.DispatcherTablesBuilder;
 import org.openl.source.IOpenSourceCodeModule;
@@ -69,6 +73,7 @@ import org.openl.types.IOpenMethod;
 import org.openl.types.impl.OpenMethodHeader;
 import org.openl.types.java.JavaOpenClass;
 import org.openl.util.ClassUtils;
+import org.openl.util.ForkJoinPoolUtils;
 import org.openl.util.RuntimeExceptionWrapper;
 import org.openl.util.StringUtils;
 import org.openl.validation.ValidationManager;
@@ -85,6 +90,10 @@ public class XlsBinder implements IOpenBinder {
 
     private static final Logger LOG = LoggerFactory.getLogger(XlsBinder.class);
 
+    private static class TableBindingPoolHolder {
+        private static final ForkJoinPool INSTANCE = ForkJoinPoolUtils.newPool("openl-binding", 0);
+    }
+
     private static class BinderFactoryHolder {
         private static final Map<String, AXlsTableBinder> INSTANCE;
 
@@ -554,9 +563,13 @@ public class XlsBinder implements IOpenBinder {
             }
         }
 
-        for (int i = 0; i < childrens.length; i++) {
-            if (childrens[i] != null) {
-                finalizeBind(childrens[i], tableSyntaxNodes[i], rulesModuleBindingContext);
+        if (OpenLSystemProperties.isParallelBindingEnabled(rulesModuleBindingContext.getExternalParams())) {
+            finalizeBindInParallel(childrens, tableSyntaxNodes, rulesModuleBindingContext);
+        } else {
+            for (int i = 0; i < childrens.length; i++) {
+                if (childrens[i] != null) {
+                    finalizeBind(childrens[i], tableSyntaxNodes[i], rulesModuleBindingContext);
+                }
             }
         }
 
@@ -690,6 +703,129 @@ public class XlsBinder implements IOpenBinder {
         }
     }
 
+    /**
+     * Finalizes the binding of the tables in parallel. The bodies of the methods and the tests do not depend on each
+     * other after all method headers are pre-bound, so the consecutive tables of these kinds are bound concurrently.
+     * The other tables are bound sequentially in between. The spreadsheets are bound sequentially too: the cells of a
+     * spreadsheet are compiled on demand from the cells of the other spreadsheets, and the cells referenced from the
+     * other tables are compiled under the lock of the module. The errors are added to the module in the order of the
+     * tables.
+     */
+    private void finalizeBindInParallel(IMemberBoundNode[] childrens,
+            TableSyntaxNode[] tableSyntaxNodes,
+            RulesModuleBindingContext rulesModuleBindingContext) {
+        IBindingContext[] tableBindingContexts = new IBindingContext[childrens.length];
+        int i = 0;
+        while (i < childrens.length) {
+            if (childrens[i] == null) {
+                i++;
+            } else if (!isParallelBindingSupported(childrens[i])) {
+                finalizeBind(childrens[i], tableSyntaxNodes[i], rulesModuleBindingContext);
+                i++;
+            } else {
+                int end = i + 1;
+                while (end < childrens.length && (childrens[end] == null || isParallelBindingSupported(
+                    childrens[end]))) {
+                    end++;
+                }
+                ForkJoinPool pool = TableBindingPoolHolder.INSTANCE;
+                pool.invoke(new FinalizeBindTask(childrens,
+                    tableSyntaxNodes,
+                    tableBindingContexts,
+                    rulesModuleBindingContext,
+                    Thread.currentThread().getContextClassLoader(),
+                    i,
+                    end,
+                    ForkJoinPoolUtils.getChunkSize(pool, end - i)));
+                for (; i < end; i++) {
+                    if (tableBindingContexts[i] != null) {
+                        rulesModuleBindingContext.completeTableBinding(tableBindingContexts[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isParallelBindingSupported(IMemberBoundNode memberBoundNode) {
+        if (memberBoundNode instanceof SpreadsheetBoundNode) {
+            return false;
+        }
+        return memberBoundNode instanceof AMethodBasedNode || memberBoundNode instanceof TestMethodBoundNode;
+    }
+
+    private final class FinalizeBindTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final IMemberBoundNode[] childrens;
+        private final TableSyntaxNode[] tableSyntaxNodes;
+        private final IBindingContext[] tableBindingContexts;
+        private final RulesModuleBindingContext rulesModuleBindingContext;
+        private final ClassLoader classLoader;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        FinalizeBindTask(IMemberBoundNode[] childrens,
+                TableSyntaxNode[] tableSyntaxNodes,
+                IBindingContext[] tableBindingContexts,
+                RulesModuleBindingContext rulesModuleBindingContext,
+                ClassLoader classLoader,
+                int from,
+                int to,
+                int threshold) {
+            this.childrens = childrens;
+            this.tableSyntaxNodes = tableSyntaxNodes;
+            this.tableBindingContexts = tableBindingContexts;
+            this.rulesModuleBindingContext = rulesModuleBindingContext;
+            this.classLoader = classLoader;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > threshold) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new FinalizeBindTask(childrens,
+                    tableSyntaxNodes,
+                    tableBindingContexts,
+                    rulesModuleBindingContext,
+                    classLoader,
+                    from,
+                    middle,
+                    threshold),
+                    new FinalizeBindTask(childrens,
+                        tableSyntaxNodes,
+                        tableBindingContexts,
+                        rulesModuleBindingContext,
+                        classLoader,
+                        middle,
+                        to,
+                        threshold));
+                return;
+            }
+            Thread thread = Thread.currentThread();
+            ClassLoader oldClassLoader = thread.getContextClassLoader();
+            try {
+                thread.setContextClassLoader(classLoader);
+                for (int i = from; i < to; i++) {
+                    if (childrens[i] != null) {
+                        rulesModuleBindingContext.startTableBinding();
+                        try {
+                            finalizeBind(childrens[i], tableSyntaxNodes[i], rulesModuleBindingContext);
+                        } finally {
+                            tableBindingContexts[i] = rulesModuleBindingContext.finishTableBinding();
+                        }
+                    }
+                }
+            } finally {
+                OpenLFuzzyUtils.clearCaches();
+                thread.setContextClassLoader(oldClassLoader);
+            }
+        }
+    }
+
     protected void removeDebugInformation(IMemberBoundNode[] boundNodes,
             TableSyntaxNode[] tableSyntaxNodes,
             RulesModuleBindingContext ruleModuleBindingContext) {
@@ -617,6 +617,16 @@ public class XlsModuleOpenClass extends ModuleOpenClass implements ExtendableMod
 
     private volatile OpenLArgumentsCloner cloner;
 
+    private final Object spreadsheetBindingLock = new Object();
+
+    /**
+     * Returns the lock which guards the binding of the spreadsheet cells of the module. The cells of a spreadsheet are
+     * bound on demand from the binding of the other tables, so they must not be bound by several threads at once.
+     */
+    public Object getSpreadsheetBindingLock() {
+        return spreadsheetBindingLock;
+    }
+
     public Cloner getCloner() {
         if (cloner == null) {
             synchronized (this) {
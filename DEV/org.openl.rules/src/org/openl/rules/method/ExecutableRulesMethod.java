@@ -7,9 +7,12 @@ import org.openl.binding.impl.cast.CastFactory;
 import org.openl.binding.impl.cast.IOpenCast;
 import org.openl.rules.enumeration.RecalculateEnum;
 import org.openl.rules.lang.xls.binding.ATableBoundNode;
+import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
 import org.openl.rules.lang.xls.syntax.TableSyntaxNode;
 import org.openl.rules.table.properties.ITableProperties;
 import org.openl.rules.vm.CacheMode;
+import org.openl.rules.vm.ResultCache;
+import org.openl.rules.vm.ResultCacheInfo;
 import org.openl.rules.vm.ResultNotFoundException;
 import org.openl.rules.vm.SimpleRulesRuntimeEnv;
 import org.openl.types.IMemberMetaInfo;
@@ -81,6 +84,51 @@ public abstract class ExecutableRulesMethod extends ExecutableMethod implements
         return cacheble;
     }
 
+    private volatile ResultCache resultCache;
+    private volatile boolean resultCacheInitialized;
+
+    /**
+     * @return the results of the table shared between the calls or null if the table is not cacheable or the size of
+     *         the cache is not defined
+     */
+    public ResultCache getResultCache() {
+        if (!resultCacheInitialized) {
+            synchronized (this) {
+                if (!resultCacheInitialized) {
+                    resultCache = createResultCache();
+                    resultCacheInitialized = true;
+                }
+            }
+        }
+        return resultCache;
+    }
+
+    private ResultCache createResultCache() {
+        ITableProperties methodProperties = getMethodProperties();
+        if (methodProperties == null || !isMethodCacheable() || !(getDeclaringClass() instanceof XlsModuleOpenClass)) {
+            return null;
+        }
+        Integer cacheSize = methodProperties.getCacheSize();
+        if (cacheSize == null || cacheSize <= 0) {
+            return null;
+        }
+        Integer cacheExpiration = methodProperties.getCacheExpiration();
+        ResultCache cache = new ResultCache(cacheSize,
+            cacheExpiration == null ? 0 : cacheExpiration,
+            ((XlsModuleOpenClass) getDeclaringClass()).getCloner());
+        ResultCacheInfo.register(getDeclaringClass().getName() + "." + getName(), cache);
+        return cache;
+    }
+
+    private Object invokeWithResultCache(Object target, Object[] params, IRuntimeEnv env) {
+        ResultCache cache = getResultCache();
+        // The trace must contain the nested calls
+        if (cache == null || Tracer.isEnabled()) {
+            return innerInvoke(target, params, env);
+        }
+        return cache.computeIfAbsent(params, env.getContext(), () -> innerInvoke(target, params, env));
+    }
+
     @Override
     public Object invoke(Object target, Object[] params, IRuntimeEnv env) {
         return Tracer.invoke(invoke2, target, params, env, this);
@@ -130,7 +178,7 @@ public abstract class ExecutableRulesMethod extends ExecutableMethod implements
                     }
                 }
             } else {
-                result = innerInvoke(target, params, env);
+                result = invokeWithResultCache(target, params, env);
             }
             simpleRulesRuntimeEnv.setIgnoreRecalculate(oldIsIgnoreRecalculate);
             if (!simpleRulesRuntimeEnv.isIgnoreRecalculation()) {
@@ -146,7 +194,7 @@ public abstract class ExecutableRulesMethod extends ExecutableMethod implements
             }
             return result;
         } else {
-            return innerInvoke(target, params, env);
+            return invokeWithResultCache(target, params, env);
         }
     }
 
@@ -301,6 +301,14 @@ public interface ITableProperties {
     java.lang.String getNature();
 
     void setNature(java.lang.String nature);
+
+    java.lang.Integer getCacheSize();
+
+    void setCacheSize(java.lang.Integer cacheSize);
+
+    java.lang.Integer getCacheExpiration();
+
+    void setCacheExpiration(java.lang.Integer cacheExpiration);
     // <<< END INSERT >>>
 
     void setCategoryProperties(Map<String, Object> categoryProperties);
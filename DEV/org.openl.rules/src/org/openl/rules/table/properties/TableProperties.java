@@ -532,6 +532,28 @@ public class TableProperties extends DynamicObject implements ITableProperties {
         setFieldValue("nature", nature);
         reset();
     }
+
+    @Override
+    public java.lang.Integer getCacheSize() {
+        return (java.lang.Integer) getPropertyValue("cacheSize");
+    }
+
+    @Override
+    public void setCacheSize(java.lang.Integer cacheSize) {
+        setFieldValue("cacheSize", cacheSize);
+        reset();
+    }
+
+    @Override
+    public java.lang.Integer getCacheExpiration() {
+        return (java.lang.Integer) getPropertyValue("cacheExpiration");
+    }
+
+    @Override
+    public void setCacheExpiration(java.lang.Integer cacheExpiration) {
+        setFieldValue("cacheExpiration", cacheExpiration);
+        reset();
+    }
     // <<< END INSERT >>>
 
     /**
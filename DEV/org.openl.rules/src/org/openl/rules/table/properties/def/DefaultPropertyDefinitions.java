@@ -21,7 +21,7 @@ public final class DefaultPropertyDefinitions {
 
     static {
         // <<< INSERT TablePropertiesDefinition >>>
-        definitions = new TablePropertyDefinition[41];
+        definitions = new TablePropertyDefinition[43];
 
         definitions[0] = new TablePropertyDefinition();
         definitions[0].setConstraints(new Constraints("unique in:module"));
@@ -599,6 +599,32 @@ public final class DefaultPropertyDefinitions {
         definitions[40].setSystem(false);
         definitions[40].setTableType(new XlsNodeTypes[] { XlsNodeTypes.XLS_DT, XlsNodeTypes.XLS_SPREADSHEET, XlsNodeTypes.XLS_TBASIC, XlsNodeTypes.XLS_COLUMN_MATCH, XlsNodeTypes.XLS_METHOD, XlsNodeTypes.XLS_PROPERTIES });
         definitions[40].setType(org.openl.types.java.JavaOpenClass.getOpenClass(java.lang.String.class));
+
+        definitions[41] = new TablePropertyDefinition();
+        definitions[41].setDescription("The maximum number of the results of the cacheable table shared between the calls. The results are shared only if the value is positive.");
+        definitions[41].setDimensional(false);
+        definitions[41].setDisplayName("Cache Size");
+        definitions[41].setGroup("Dev");
+        definitions[41].setInheritanceLevel(new InheritanceLevel[] { InheritanceLevel.MODULE, InheritanceLevel.CATEGORY, InheritanceLevel.TABLE });
+        definitions[41].setName("cacheSize");
+        definitions[41].setPrimaryKey(false);
+        definitions[41].setSecurityFilter("no");
+        definitions[41].setSystem(false);
+        definitions[41].setTableType(new XlsNodeTypes[] { XlsNodeTypes.XLS_DT, XlsNodeTypes.XLS_SPREADSHEET, XlsNodeTypes.XLS_TBASIC, XlsNodeTypes.XLS_COLUMN_MATCH, XlsNodeTypes.XLS_METHOD, XlsNodeTypes.XLS_PROPERTIES });
+        definitions[41].setType(org.openl.types.java.JavaOpenClass.getOpenClass(java.lang.Integer.class));
+
+        definitions[42] = new TablePropertyDefinition();
+        definitions[42].setDescription("The time in seconds after which the shared results of the cacheable table expire. The results do not expire if the value is not defined.");
+        definitions[42].setDimensional(false);
+        definitions[42].setDisplayName("Cache Expiration");
+        definitions[42].setGroup("Dev");
+        definitions[42].setInheritanceLevel(new InheritanceLevel[] { InheritanceLevel.MODULE, InheritanceLevel.CATEGORY, InheritanceLevel.TABLE });
+        definitions[42].setName("cacheExpiration");
+        definitions[42].setPrimaryKey(false);
+        definitions[42].setSecurityFilter("no");
+        definitions[42].setSystem(false);
+        definitions[42].setTableType(new XlsNodeTypes[] { XlsNodeTypes.XLS_DT, XlsNodeTypes.XLS_SPREADSHEET, XlsNodeTypes.XLS_TBASIC, XlsNodeTypes.XLS_COLUMN_MATCH, XlsNodeTypes.XLS_METHOD, XlsNodeTypes.XLS_PROPERTIES });
+        definitions[42].setType(org.openl.types.java.JavaOpenClass.getOpenClass(java.lang.Integer.class));
         // <<< END INSERT TablePropertiesDefinition >>>
     }
 
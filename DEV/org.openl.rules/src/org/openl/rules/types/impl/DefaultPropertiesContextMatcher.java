@@ -29,6 +29,10 @@ public class DefaultPropertiesContextMatcher implements IPropertiesContextMatche
         constraints.put(propertyName, ctr);
     }
 
+    MatchingConstraint<?, ?> getConstraint(String propertyName) {
+        return constraints.get(propertyName);
+    }
+
     protected void initialize() {
         // <<< INSERT >>>
         constraints.put("effectiveDate", new MatchingConstraint<java.util.Date, java.util.Date>() {
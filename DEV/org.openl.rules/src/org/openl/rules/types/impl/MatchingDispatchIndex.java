@@ -0,0 +1,157 @@
+package org.openl.rules.types.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openl.rules.context.IRulesRuntimeContext;
+import org.openl.rules.table.properties.ITableProperties;
+import org.openl.rules.table.properties.PropertiesHelper;
+import org.openl.types.IOpenMethod;
+
+/**
+ * Index of the overloaded methods by dimension properties. Methods are grouped by distinct values of every property,
+ * so a constraint is checked once per distinct value instead of every method. Sets of the methods matched to the
+ * context values are cached, so the dispatching for the same context values does not depend on the count of
+ * overloaded methods.
+ */
+final class MatchingDispatchIndex {
+
+    private static final int CACHE_SIZE = 1024;
+
+    private final DefaultPropertiesContextMatcher matcher;
+    private final List<IOpenMethod> candidates;
+    private final ITableProperties[] properties;
+    private final Map<String, PropertyIndex> propertyIndexes = new ConcurrentHashMap<>();
+
+    private MatchingDispatchIndex(DefaultPropertiesContextMatcher matcher,
+            List<IOpenMethod> candidates,
+            ITableProperties[] properties) {
+        this.matcher = matcher;
+        this.candidates = candidates;
+        this.properties = properties;
+    }
+
+    /**
+     * Creates an index for the given candidates. If some of the candidates do not have properties, the returned index
+     * is not indexable and it is kept only to not check the candidates again on every dispatch.
+     */
+    static MatchingDispatchIndex create(DefaultPropertiesContextMatcher matcher, List<IOpenMethod> candidates) {
+        ITableProperties[] properties = new ITableProperties[candidates.size()];
+        for (int i = 0; i < properties.length; i++) {
+            properties[i] = PropertiesHelper.getTableProperties(candidates.get(i));
+            if (properties[i] == null) {
+                return new MatchingDispatchIndex(matcher, new ArrayList<>(candidates), null);
+            }
+        }
+        return new MatchingDispatchIndex(matcher, new ArrayList<>(candidates), properties);
+    }
+
+    int size() {
+        return candidates.size();
+    }
+
+    boolean isIndexable() {
+        return properties != null;
+    }
+
+    IOpenMethod getCandidate(int i) {
+        return candidates.get(i);
+    }
+
+    /**
+     * Returns indexes of the candidates which are not rejected by any of the given properties.
+     */
+    BitSet select(List<String> propertyNames, IRulesRuntimeContext context) {
+        BitSet selected = new BitSet(candidates.size());
+        selected.set(0, candidates.size());
+        for (String propertyName : propertyNames) {
+            selected.and(propertyIndexes.computeIfAbsent(propertyName, this::createPropertyIndex).match(context));
+            if (selected.isEmpty()) {
+                break;
+            }
+        }
+        return selected;
+    }
+
+    private PropertyIndex createPropertyIndex(String propertyName) {
+        MatchingConstraint<?, ?> constraint = matcher.getConstraint(propertyName);
+        if (constraint == null) {
+            throw new RuntimeException("Unexpectedly could not find a constraint for the property: " + propertyName);
+        }
+        @SuppressWarnings("unchecked")
+        MatchingConstraint<Object, Object> c = (MatchingConstraint<Object, Object>) constraint;
+        return new PropertyIndex(c, properties);
+    }
+
+    private static final class PropertyIndex {
+        private final MatchingConstraint<Object, Object> constraint;
+        private final Object[] values;
+        private final BitSet[] methods;
+        private final Map<Object, BitSet> cache = new ConcurrentHashMap<>();
+
+        PropertyIndex(MatchingConstraint<Object, Object> constraint, ITableProperties[] properties) {
+            this.constraint = constraint;
+            Map<Object, Integer> distinctValues = new HashMap<>();
+            List<Object> valuesList = new ArrayList<>();
+            List<BitSet> methodsList = new ArrayList<>();
+            for (int i = 0; i < properties.length; i++) {
+                Object value = constraint.getPropertyValue(properties[i]);
+                Integer n = distinctValues.get(valueKey(value));
+                if (n == null) {
+                    n = valuesList.size();
+                    distinctValues.put(valueKey(value), n);
+                    valuesList.add(value);
+                    methodsList.add(new BitSet(properties.length));
+                }
+                methodsList.get(n).set(i);
+            }
+            this.values = valuesList.toArray();
+            this.methods = methodsList.toArray(new BitSet[0]);
+        }
+
+        /**
+         * Returns the shared set of candidates which are not rejected by the property. The set must not be modified.
+         */
+        BitSet match(IRulesRuntimeContext context) {
+            Object contextValue = constraint.getContextValue(context);
+            if (contextValue == null) {
+                return compute(null);
+            }
+            Object key = cacheKey(contextValue);
+            BitSet matched = cache.get(key);
+            if (matched == null) {
+                matched = compute(contextValue);
+                if (cache.size() >= CACHE_SIZE) {
+                    cache.clear();
+                }
+                cache.put(key, matched);
+            }
+            return matched;
+        }
+
+        private BitSet compute(Object contextValue) {
+            BitSet matched = new BitSet();
+            for (int i = 0; i < values.length; i++) {
+                if (!MatchingResult.NO_MATCH.equals(constraint.matchValues(values[i], contextValue))) {
+                    matched.or(methods[i]);
+                }
+            }
+            return matched;
+        }
+
+        private static Object valueKey(Object value) {
+            return value instanceof Object[] ? Arrays.asList((Object[]) value) : value;
+        }
+
+        private static Object cacheKey(Object contextValue) {
+            // Dates are mutable, so they cannot be used as keys
+            return contextValue instanceof Date ? (Object) ((Date) contextValue).getTime() : contextValue;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.openl.rules.types.impl;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -33,7 +34,7 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
     // to hold a new instance of that objects for every of thousands of
     // MatchingOpenMethodDispatchers. That's why
     // they were made static.
-    private static final IPropertiesContextMatcher matcher = new DefaultPropertiesContextMatcher();
+    private static final DefaultPropertiesContextMatcher matcher = new DefaultPropertiesContextMatcher();
     private static final DefaultTablePropertiesSorter prioritySorter = new DefaultTablePropertiesSorter();
     private static final DefaultPropertiesIntersectionFinder intersectionMatcher = new DefaultPropertiesIntersectionFinder();
 
@@ -41,6 +42,8 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
 
     private List<IOpenMethod> candidatesSorted;
 
+    private volatile MatchingDispatchIndex dispatchIndex;
+
     private IOpenMethod decisionTableOpenMethod;
 
     public IOpenMethod getDecisionTableOpenMethod() {
@@ -68,14 +71,28 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
     public void addMethod(IOpenMethod candidate) {
         super.addMethod(candidate);
         candidatesSorted = null;
+        dispatchIndex = null;
     }
 
     @Override
     protected IOpenMethod findMatchingMethod(List<IOpenMethod> candidates, IRuntimeContext context) {
-        Set<IOpenMethod> selected = new HashSet<>(candidates);
-
-        selectCandidates(selected, (IRulesRuntimeContext) context);
-        maxMinSelectCandidates(selected, (IRulesRuntimeContext) context);
+        Set<IOpenMethod> selected;
+        List<String> notNullPropertyNames = getNotNullPropertyNames((IRulesRuntimeContext) context);
+        MatchingDispatchIndex index = getDispatchIndex(candidates);
+        if (!index.isIndexable()) {
+            selected = new HashSet<>(candidates);
+            selectCandidates(selected, notNullPropertyNames, (IRulesRuntimeContext) context);
+        } else {
+            BitSet matched = index.select(notNullPropertyNames, (IRulesRuntimeContext) context);
+            if (matched.cardinality() == 1) {
+                return index.getCandidate(matched.nextSetBit(0));
+            }
+            selected = new HashSet<>();
+            for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+                selected.add(index.getCandidate(i));
+            }
+        }
+        maxMinSelectCandidates(selected, notNullPropertyNames);
 
         switch (selected.size()) {
             case 0:
@@ -98,6 +115,15 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
 
     }
 
+    MatchingDispatchIndex getDispatchIndex(List<IOpenMethod> candidates) {
+        MatchingDispatchIndex index = dispatchIndex;
+        if (index == null || index.size() != candidates.size()) {
+            index = MatchingDispatchIndex.create(matcher, candidates);
+            dispatchIndex = index;
+        }
+        return index;
+    }
+
     @Override
     public TableSyntaxNode getDispatcherTable() {
         if (decisionTableOpenMethod == null) {
@@ -119,12 +145,11 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
         return getDispatcherTable().getMember().getInfo();
     }
 
-    private void maxMinSelectCandidates(Set<IOpenMethod> selected, IRulesRuntimeContext context) {
+    private void maxMinSelectCandidates(Set<IOpenMethod> selected, List<String> notNullPropertyNames) {
         // If more that one method
         if (selected.size() > 1) {
             List<IOpenMethod> notPriorMethods = new ArrayList<>();
 
-            List<String> notNullPropertyNames = getNotNullPropertyNames(context);
             // Find the most high priority method
             List<IOpenMethod> mostPriority = new ArrayList<>();
             ITableProperties mostPriorityProperties = null;
@@ -247,11 +272,11 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
         return 0;
     }
 
-    private void selectCandidates(Set<IOpenMethod> selected, IRulesRuntimeContext context) {
+    private void selectCandidates(Set<IOpenMethod> selected,
+            List<String> notNullPropertyNames,
+            IRulesRuntimeContext context) {
         List<IOpenMethod> nomatched = new ArrayList<>();
 
-        List<String> notNullPropertyNames = getNotNullPropertyNames(context);
-
         for (IOpenMethod method : selected) {
             ITableProperties props = PropertiesHelper.getTableProperties(method);
 
@@ -1,21 +1,64 @@
 package org.openl.rules.vm;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.*;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.openl.meta.BigDecimalValue;
+import org.openl.meta.BigIntegerValue;
+import org.openl.meta.ByteValue;
+import org.openl.meta.FloatValue;
+import org.openl.meta.IntValue;
+import org.openl.meta.LongValue;
+import org.openl.meta.ShortValue;
+import org.openl.meta.StringValue;
 import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
+import com.rits.cloning.Cloner;
+
+/**
+ * Stores the results of the method invocations by the arguments. The results of every method are kept in a hash map
+ * bounded by {@link Data#MAX_DATA_LENGTH} entries, the least recently used entries are evicted when the limit is
+ * exceeded. The lookups do not take locks, so the storage can be shared by the threads of the same calculation.
+ */
 public class ArgumentCachingStorage {
-    private static final Logger LOG = LoggerFactory.getLogger(ArgumentCachingStorage.class);
+
+    /**
+     * The types which instances are never changed, the arguments of such types are cached without cloning.
+     */
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(String.class,
+        Boolean.class,
+        Character.class,
+        Byte.class,
+        Short.class,
+        Integer.class,
+        Long.class,
+        Float.class,
+        Double.class,
+        BigInteger.class,
+        BigDecimal.class,
+        ByteValue.class,
+        ShortValue.class,
+        IntValue.class,
+        LongValue.class,
+        FloatValue.class,
+        BigIntegerValue.class,
+        BigDecimalValue.class,
+        StringValue.class));
 
     private List<CalculationStep> originalCalculationSteps;
     private Iterator<CalculationStep> step;
     private final SimpleRulesRuntimeEnv simpleRulesRuntimeEnv;
 
+    private final ConcurrentMap<Object, Data> storage;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+
     public void resetMethodArgumentsCache() {
         storage.clear();
     }
@@ -23,37 +66,49 @@ public class ArgumentCachingStorage {
     public ArgumentCachingStorage(SimpleRulesRuntimeEnv simpleRulesRuntimeEnv) {
         this.simpleRulesRuntimeEnv = Objects.requireNonNull(simpleRulesRuntimeEnv,
             "simpleRulesRuntimeEnv cannot be null");
+        this.storage = new ConcurrentHashMap<>();
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
     }
 
-    private final Storage storage = new Storage();
-
     public Object findInCache(Object member, Object... params) throws ResultNotFoundException {
         Data data = storage.get(member);
         if (data != null) {
-            return data.get(params);
+            InvocationData invocationData = data.get(new InvocationKey(params));
+            if (invocationData != null) {
+                hitCount.increment();
+                return invocationData.getResult();
+            }
         }
+        missCount.increment();
         throw new ResultNotFoundException();
     }
 
     public void putToCache(Object member, Object[] params, Object result) {
-        Data data = storage.get(member);
-        if (data == null) {
-            data = new Data();
-            storage.put(member, data);
-        }
-        try {
-            data.get(params);
-        } catch (ResultNotFoundException e) {
-            Object[] clonedParams = new Object[params.length];
-            for (int i = 0; i < params.length; i++) {
-                if (params[i] != null) {
-                    clonedParams[i] = ((XlsModuleOpenClass) simpleRulesRuntimeEnv.getTopClass()).getCloner()
-                        .deepClone(params[i]);
-                }
-            }
-            data.add(new InvocationData(clonedParams, result));
-            LOG.debug("Error occurred: ", e);
+        Data data = storage.computeIfAbsent(member, e -> new Data(Data.MAX_DATA_LENGTH, 0));
+        InvocationKey key = new InvocationKey(params);
+        if (data.get(key) != null) {
+            return;
         }
+        data.add(key.copy(() -> ((XlsModuleOpenClass) simpleRulesRuntimeEnv.getTopClass()).getCloner()), result);
+    }
+
+    static boolean isImmutable(Object value) {
+        return value == null || IMMUTABLE_TYPES.contains(value.getClass()) || value instanceof Enum;
+    }
+
+    /**
+     * @return the number of the lookups which have found the result in the cache
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return the number of the lookups which have not found the result in the cache
+     */
+    public long getMissCount() {
+        return missCount.sum();
     }
 
     public void resetOriginalCalculationSteps() {
@@ -127,7 +182,7 @@ public class ArgumentCachingStorage {
 
     public void makeForwardStepForOriginalCalculation(Object member) {
         if (this.originalCalculationSteps == null) {
-            this.originalCalculationSteps = new LinkedList<>();
+            this.originalCalculationSteps = new ArrayList<>();
         }
         this.originalCalculationSteps.add(new ForwardCalculationStep(member));
     }
@@ -143,7 +198,7 @@ public class ArgumentCachingStorage {
 
     public void makeBackwardStepForOriginalCalculation(Object member, Object result) {
         if (this.originalCalculationSteps == null) {
-            this.originalCalculationSteps = new LinkedList<>();
+            this.originalCalculationSteps = new ArrayList<>();
         }
         this.originalCalculationSteps.add(new BackwardCalculationStep(member, result));
     }
@@ -170,27 +225,57 @@ public class ArgumentCachingStorage {
         }
     }
 
-    static final class InvocationData {
+    static final class InvocationKey {
         private final Object[] params;
-        private int paramsHashCode;
-        private boolean paramsHashCodeCalculated;
-        private final Object result;
+        private final int hashCode;
+
+        InvocationKey(Object[] params) {
+            this(params, Arrays.deepHashCode(params));
+        }
 
-        public InvocationData(Object[] params, Object result) {
+        InvocationKey(Object[] params, int hashCode) {
             this.params = params;
-            this.result = result;
+            this.hashCode = hashCode;
+        }
+
+        /**
+         * Creates the key which is not affected by the further changes of the arguments.
+         */
+        InvocationKey copy(Supplier<Cloner> cloner) {
+            Object[] clonedParams = new Object[params.length];
+            for (int i = 0; i < params.length; i++) {
+                clonedParams[i] = isImmutable(params[i]) ? params[i] : cloner.get().deepClone(params[i]);
+            }
+            return new InvocationKey(clonedParams, hashCode);
         }
 
-        public Object[] getParams() {
-            return params;
+        @Override
+        public int hashCode() {
+            return hashCode;
         }
 
-        public int getParamsHashCode() {
-            if (!paramsHashCodeCalculated) {
-                paramsHashCodeCalculated = true;
-                paramsHashCode = Arrays.deepHashCode(getParams());
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof InvocationKey)) {
+                return false;
             }
-            return paramsHashCode;
+            InvocationKey other = (InvocationKey) obj;
+            return hashCode == other.hashCode && Arrays.deepEquals(params, other.params);
+        }
+    }
+
+    static final class InvocationData {
+        private final Object result;
+        private final long expirationTime;
+        private volatile long lastAccess;
+
+        InvocationData(Object result, long expirationTime, long lastAccess) {
+            this.result = result;
+            this.expirationTime = expirationTime;
+            this.lastAccess = lastAccess;
         }
 
         public Object getResult() {
@@ -199,67 +284,76 @@ public class ArgumentCachingStorage {
     }
 
     static final class Data {
-        private static final int MAX_DATA_LENGTH = 1000;
-
-        final InvocationData[] invocationDatas = new InvocationData[MAX_DATA_LENGTH];
-        int size;
-
-        public Object get(Object[] params) throws ResultNotFoundException {
-            int hashCode = Arrays.deepHashCode(params);
+        static final int MAX_DATA_LENGTH = 1000;
+
+        private final ConcurrentMap<InvocationKey, InvocationData> invocationDatas = new ConcurrentHashMap<>();
+        private final AtomicLong clock = new AtomicLong();
+        private final int maxSize;
+        /**
+         * The number of the entries which are evicted at once, so the eviction is not repeated on every insert.
+         */
+        private final int evictionBatch;
+        private final long timeToLive;
+
+        /**
+         * @param maxSize the maximum number of the entries
+         * @param timeToLive the time in nanoseconds after which the entries expire, 0 if the entries never expire
+         */
+        Data(int maxSize, long timeToLive) {
+            this.maxSize = maxSize;
+            this.evictionBatch = Math.max(1, maxSize / 10);
+            this.timeToLive = timeToLive;
+        }
 
-            for (int i = 0; i < size; i++) {
-                InvocationData invocationData = invocationDatas[i];
-                if (hashCode == invocationData.getParamsHashCode()
-                        && Arrays.deepEquals(invocationData.getParams(), params)) {
-                    return invocationData.getResult();
+        InvocationData get(InvocationKey key) {
+            InvocationData invocationData = invocationDatas.get(key);
+            if (invocationData != null) {
+                if (invocationData.expirationTime != 0 && invocationData.expirationTime - System.nanoTime() < 0) {
+                    invocationDatas.remove(key, invocationData);
+                    return null;
                 }
+                invocationData.lastAccess = clock.incrementAndGet();
             }
-            throw new ResultNotFoundException();
+            return invocationData;
         }
 
-        public void add(InvocationData invocationData) {
-            if (size < MAX_DATA_LENGTH) {
-                invocationDatas[size] = invocationData;
-                size++;
+        void add(InvocationKey key, Object result) {
+            long expirationTime = timeToLive > 0 ? Math.max(1, System.nanoTime() + timeToLive) : 0;
+            InvocationData invocationData = new InvocationData(result, expirationTime, clock.incrementAndGet());
+            if (timeToLive > 0) {
+                // Replaces the expired entry
+                invocationDatas.put(key, invocationData);
+            } else if (invocationDatas.putIfAbsent(key, invocationData) != null) {
+                return;
             }
-        }
-    }
-
-    static class Storage {
-        private final Map<Object, Data> storage = new WeakHashMap<>();
-
-        private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
-
-        private final Lock readLock = readWriteLock.readLock();
-
-        private final Lock writeLock = readWriteLock.writeLock();
-
-        public Data get(Object key) {
-            readLock.lock();
-            try {
-                return storage.get(key);
-            } finally {
-                readLock.unlock();
+            if (invocationDatas.size() > maxSize) {
+                evict();
             }
         }
 
-        public Data put(Object key, Data data) {
-            writeLock.lock();
-            try {
-                return storage.put(key, data);
-            } finally {
-                writeLock.unlock();
-            }
+        void clear() {
+            invocationDatas.clear();
         }
 
-        public void clear() {
-            writeLock.lock();
-            try {
-                storage.clear();
-            } finally {
-                writeLock.unlock();
+        private synchronized void evict() {
+            int size = invocationDatas.size();
+            if (size <= maxSize) {
+                return;
+            }
+            // The access time is copied because it is changed by the concurrent lookups during sorting
+            List<Map.Entry<InvocationKey, Long>> entries = new ArrayList<>(size);
+            for (Map.Entry<InvocationKey, InvocationData> entry : invocationDatas.entrySet()) {
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue().lastAccess));
+            }
+            entries.sort(Map.Entry.comparingByValue());
+            int count = Math.min(entries.size(), size - maxSize + evictionBatch);
+            for (int i = 0; i < count; i++) {
+                invocationDatas.remove(entries.get(i).getKey());
             }
         }
 
+        int size() {
+            return invocationDatas.size();
+        }
     }
 }
@@ -0,0 +1,116 @@
+package org.openl.rules.vm;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.openl.rules.context.IRulesRuntimeContext;
+import org.openl.runtime.IRuntimeContext;
+
+import com.rits.cloning.Cloner;
+
+/**
+ * Results of the table shared between the calls. The results are identified by the values of the arguments and the
+ * values of the runtime context, because the nested calls of the table are dispatched by the context. The number of
+ * the results is bounded, the least recently used results are evicted. The results are copied by the cloner when they
+ * are stored and when they are returned, so a caller cannot change the result returned to another caller.
+ */
+public final class ResultCache {
+
+    private static final String[] CONTEXT_PROPERTIES = getContextProperties();
+
+    private final ArgumentCachingStorage.Data data;
+    private final Cloner cloner;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * @param maxSize the maximum number of the results
+     * @param expiration the time in seconds after which the results expire, 0 if the results never expire
+     * @param cloner is used to copy the arguments which can be changed after the call
+     */
+    public ResultCache(int maxSize, int expiration, Cloner cloner) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive.");
+        }
+        this.data = new ArgumentCachingStorage.Data(maxSize, TimeUnit.SECONDS.toNanos(Math.max(expiration, 0)));
+        this.cloner = Objects.requireNonNull(cloner, "cloner cannot be null");
+    }
+
+    private static String[] getContextProperties() {
+        List<String> properties = new ArrayList<>();
+        try {
+            for (PropertyDescriptor descriptor : Introspector.getBeanInfo(IRulesRuntimeContext.class)
+                .getPropertyDescriptors()) {
+                if (descriptor.getReadMethod() != null) {
+                    properties.add(descriptor.getName());
+                }
+            }
+        } catch (IntrospectionException e) {
+            throw new IllegalStateException(e);
+        }
+        return properties.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the cached result of the call with the given arguments or calls the table and caches the result.
+     */
+    public Object computeIfAbsent(Object[] params, IRuntimeContext context, Supplier<Object> invocation) {
+        if (context != null && !(context instanceof IRulesRuntimeContext)) {
+            return invocation.get();
+        }
+        ArgumentCachingStorage.InvocationKey key = new ArgumentCachingStorage.InvocationKey(
+            toKey(params, (IRulesRuntimeContext) context));
+        ArgumentCachingStorage.InvocationData invocationData = data.get(key);
+        if (invocationData != null) {
+            hitCount.increment();
+            return cloner.deepClone(invocationData.getResult());
+        }
+        missCount.increment();
+        Object result = invocation.get();
+        data.add(key.copy(() -> cloner), cloner.deepClone(result));
+        return result;
+    }
+
+    private static Object[] toKey(Object[] params, IRulesRuntimeContext context) {
+        Object[] key = new Object[params.length + CONTEXT_PROPERTIES.length];
+        System.arraycopy(params, 0, key, 0, params.length);
+        if (context != null) {
+            for (int i = 0; i < CONTEXT_PROPERTIES.length; i++) {
+                key[params.length + i] = context.getValue(CONTEXT_PROPERTIES[i]);
+            }
+        }
+        return key;
+    }
+
+    public void clear() {
+        data.clear();
+    }
+
+    public int size() {
+        return data.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return the ratio of the calls which have found the result in the cache, 0 if the table has not been called
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
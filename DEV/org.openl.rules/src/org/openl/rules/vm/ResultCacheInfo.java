@@ -0,0 +1,56 @@
+package org.openl.rules.vm;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+
+/**
+ * Statistics of the results shared between the calls of the tables. The caches are registered when they are created
+ * and are forgotten when the compiled modules are collected. The caches of the overloaded tables are reported together.
+ */
+public final class ResultCacheInfo {
+
+    private static final Map<ResultCache, String> CACHES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private ResultCacheInfo() {
+    }
+
+    public static void register(String name, ResultCache cache) {
+        CACHES.put(Objects.requireNonNull(cache, "cache cannot be null"), Objects.requireNonNull(name));
+    }
+
+    public static Map<String, Object> get() {
+        List<Map.Entry<ResultCache, String>> caches;
+        synchronized (CACHES) {
+            caches = new ArrayList<>(CACHES.entrySet());
+        }
+        Map<String, long[]> counts = new TreeMap<>();
+        for (Map.Entry<ResultCache, String> entry : caches) {
+            ResultCache cache = entry.getKey();
+            if (cache == null) {
+                continue;
+            }
+            long[] count = counts.computeIfAbsent(entry.getValue(), e -> new long[3]);
+            count[0] += cache.size();
+            count[1] += cache.getHitCount();
+            count[2] += cache.getMissCount();
+        }
+        Map<String, Object> info = new LinkedHashMap<>();
+        for (Map.Entry<String, long[]> entry : counts.entrySet()) {
+            long[] count = entry.getValue();
+            long total = count[1] + count[2];
+            Map<String, Object> fn = new LinkedHashMap<>();
+            fn.put("size", count[0]);
+            fn.put("hitCount", count[1]);
+            fn.put("missCount", count[2]);
+            fn.put("hitRate", total == 0 ? 0 : (double) count[1] / total);
+            info.put(entry.getKey(), fn);
+        }
+        return info;
+    }
+}
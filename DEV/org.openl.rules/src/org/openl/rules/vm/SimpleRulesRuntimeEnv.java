@@ -6,6 +6,7 @@ import java.util.Queue;
 import java.util.concurrent.RecursiveAction;
 
 import org.openl.rules.context.RulesRuntimeContextFactory;
+import org.openl.rules.dt.DecisionTableRuntimePools;
 import org.openl.runtime.IRuntimeContext;
 import org.openl.types.IOpenClass;
 import org.openl.vm.IRuntimeEnv;
@@ -17,6 +18,7 @@ public class SimpleRulesRuntimeEnv extends SimpleRuntimeEnv {
     private volatile boolean ignoreRecalculate = true;
     private volatile boolean originalCalculation = true;
     private ArgumentCachingStorage argumentCachingStorage;
+    private DecisionTableRuntimePools decisionTableRuntimePools;
 
     public SimpleRulesRuntimeEnv() {
         super();
@@ -84,6 +86,16 @@ public class SimpleRulesRuntimeEnv extends SimpleRuntimeEnv {
         return argumentCachingStorage;
     }
 
+    /**
+     * The pools are not copied by {@link #clone()}, because the clones are used by other threads.
+     */
+    public DecisionTableRuntimePools getDecisionTableRuntimePools() {
+        if (decisionTableRuntimePools == null) {
+            decisionTableRuntimePools = new DecisionTableRuntimePools();
+        }
+        return decisionTableRuntimePools;
+    }
+
     public IOpenClass getTopClass() {
         return topClass;
     }
@@ -49,6 +49,17 @@ public abstract class BaseReaderTest {
         assertEquals(2, sheets.get(2).getIndex());
     }
 
+    @Test
+    public void getAllSheets() {
+        List<? extends SheetDescriptor> sheets = reader.getSheets();
+        List<Object[][]> cells = reader.getCells(sheets);
+
+        assertEquals(sheets.size(), cells.size());
+        for (int i = 0; i < sheets.size(); i++) {
+            assertArrayEquals(reader.getCells(sheets.get(i)), cells.get(i));
+        }
+    }
+
     @Test
     public void getMainSheet() {
         Object[][] cells = reader.getCells(reader.getSheets().get(0));
@@ -1,8 +1,12 @@
 package org.openl.rules.calc;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
 import org.junit.Test;
+import org.openl.rules.TestUtils;
+import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
+import org.openl.rules.runtime.RulesEngineFactory;
 import org.openl.types.NullOpenClass;
 import org.openl.types.java.JavaOpenClass;
 
@@ -15,6 +19,24 @@ public class CustomSpreadsheetResultOpenClassTest {
         openClass.addField(new CustomSpreadsheetResultField(null, "$F1", JavaOpenClass.OBJECT));
     }
 
+    @Test
+    public void testCreateBean() {
+        RulesEngineFactory<?> factory = new RulesEngineFactory<>("test/rules/ParallelBindingSpreadsheets.xlsx");
+        XlsModuleOpenClass module = (XlsModuleOpenClass) factory.getCompiledOpenClass().getOpenClass();
+        Object spr = TestUtils.invoke(factory.newEngineInstance(), "A19", 3);
+
+        long count = SpreadsheetResultConversionMetrics.getCount();
+        Object bean = SpreadsheetResult.convertSpreadsheetResult(module, spr, null);
+        // Nested spreadsheet results are counted as a part of the top level conversion
+        assertEquals(count + 1, SpreadsheetResultConversionMetrics.getCount());
+
+        assertEquals(12, (int) TestUtils.invoke(bean, "getStep1"));
+        assertEquals(6, (int) TestUtils.invoke(bean, "getStep2"));
+        Object next = TestUtils.invoke(bean, "getNext");
+        assertEquals(7, (int) TestUtils.invoke(next, "getStep1"));
+        assertEquals(6, (int) TestUtils.invoke(next, "getStep2"));
+    }
+
     @Test
     public void testIsAssignableFromNullOpenClass() {
         CustomSpreadsheetResultOpenClass openClass = new CustomSpreadsheetResultOpenClass("CSR1", null, null);
@@ -0,0 +1,68 @@
+package org.openl.rules.calc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+
+import org.junit.Test;
+import org.openl.classloader.OpenLClassLoader;
+
+public class SpreadsheetResultBeanMapperTest {
+
+    @Test
+    public void testGeneratedMapper() throws Exception {
+        Field[] fields = { Bean.class.getDeclaredField("name"), Bean.class.getDeclaredField("values") };
+        SpreadsheetResultBeanMapper mapper = SpreadsheetResultBeanMapper
+            .create(Bean.class, fields, new OpenLClassLoader(Bean.class.getClassLoader()));
+        // Not the reflection based mapper
+        assertTrue(mapper.getClass().getName().startsWith(Bean.class.getName()));
+
+        Bean bean = (Bean) mapper.map(new Object[] { "a", new Integer[] { 1, 2 } });
+        assertEquals("a", bean.name);
+        assertArrayEquals(new Integer[] { 1, 2 }, bean.values);
+
+        bean = (Bean) mapper.map(new Object[] { null, null });
+        assertNull(bean.name);
+        assertNull(bean.values);
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void testWrongValueType() throws Exception {
+        Field[] fields = { Bean.class.getDeclaredField("name") };
+        SpreadsheetResultBeanMapper mapper = SpreadsheetResultBeanMapper
+            .create(Bean.class, fields, new OpenLClassLoader(Bean.class.getClassLoader()));
+        mapper.map(new Object[] { 1 });
+    }
+
+    @Test(expected = InstantiationError.class)
+    public void testAbstractBean() throws Exception {
+        Field[] fields = { AbstractBean.class.getDeclaredField("name") };
+        SpreadsheetResultBeanMapper mapper = SpreadsheetResultBeanMapper
+            .create(AbstractBean.class, fields, new OpenLClassLoader(AbstractBean.class.getClassLoader()));
+        mapper.map(new Object[] { "a" });
+    }
+
+    public abstract static class AbstractBean {
+        private String name;
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class Bean {
+        private String name;
+        private Integer[] values;
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public void setValues(Integer[] values) {
+            this.values = values;
+        }
+    }
+}
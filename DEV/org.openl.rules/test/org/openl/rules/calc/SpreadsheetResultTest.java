@@ -1,7 +1,12 @@
 package org.openl.rules.calc;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
 import org.junit.Assert;
 import org.junit.Test;
+import org.openl.rules.table.Point;
 
 public class SpreadsheetResultTest {
 
@@ -15,9 +20,63 @@ public class SpreadsheetResultTest {
         Assert.assertEquals("-X- | A      | B         \nC   | 1      | Text      \nD   | [2, 4] | [3.3, 4.7]\n", text);
     }
 
+    @Test
+    public void testFieldSlot() {
+        SpreadsheetResultFieldSlot slot = new SpreadsheetResultFieldSlot("$B$D");
+        SpreadsheetResult sr1 = new SpreadsheetResult(new Object[][] { { 1, 2 }, { 3, 4 } },
+            new String[] { "C", "D" },
+            new String[] { "A", "B" });
+        SpreadsheetResult sr2 = new SpreadsheetResult(new Object[][] { { 1, 2 }, { 3, 4 }, { 5, 6 } },
+            new String[] { "C", "E", "D" },
+            new String[] { "A", "B" });
+        Assert.assertTrue(sr1.hasField(slot));
+        Assert.assertEquals(4, sr1.getFieldValue(slot));
+        // The slot is resolved again for the results of a different structure
+        Assert.assertEquals(6, sr2.getFieldValue(slot));
+        sr1.setFieldValue(slot, 7);
+        Assert.assertEquals(7, sr1.getFieldValue("$B$D"));
+
+        SpreadsheetResultFieldSlot absent = new SpreadsheetResultFieldSlot("$B$E");
+        Assert.assertFalse(sr1.hasField(absent));
+        Assert.assertNull(sr1.getFieldValue(absent));
+        Assert.assertTrue(sr2.hasField(absent));
+    }
+
+    @Test
+    public void testFieldSlotForAlternatingStructures() {
+        SpreadsheetResultFieldSlot slot = new SpreadsheetResultFieldSlot("$B$D");
+        List<CountingMap> structures = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            CountingMap fieldsCoordinates = new CountingMap();
+            fieldsCoordinates.put("$B$D", Point.get(i, 0));
+            structures.add(fieldsCoordinates);
+        }
+        for (int n = 0; n < 3; n++) {
+            for (int i = 0; i < structures.size(); i++) {
+                Assert.assertEquals(Point.get(i, 0), slot.getCoordinates(structures.get(i)));
+            }
+        }
+        // The first structures are resolved once, the others are looked up on every access
+        for (int i = 0; i < 4; i++) {
+            Assert.assertEquals(1, structures.get(i).gets);
+        }
+        Assert.assertEquals(3, structures.get(4).gets);
+        Assert.assertEquals(3, structures.get(5).gets);
+    }
+
     @Test
     public void testComparable() {
         // toPlain in SPR does not work with SortedSets
         Assert.assertFalse(Comparable.class.isAssignableFrom(SpreadsheetResult.class));
     }
+
+    private static final class CountingMap extends HashMap<String, Point> {
+        private int gets;
+
+        @Override
+        public Point get(Object key) {
+            gets++;
+            return super.get(key);
+        }
+    }
 }
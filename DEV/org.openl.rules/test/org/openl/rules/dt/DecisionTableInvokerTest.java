@@ -0,0 +1,99 @@
+package org.openl.rules.dt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.openl.domain.IntRangeDomain;
+import org.openl.rules.dt.algorithm.IDecisionTableAlgorithm;
+import org.openl.rules.vm.SimpleRulesRuntimeEnv;
+import org.openl.types.java.JavaOpenClass;
+import org.openl.vm.IRuntimeEnv;
+import org.openl.vm.SimpleVM;
+
+public class DecisionTableInvokerTest {
+
+    @Test
+    public void testSingleHitStopsOnFirstMatchedRule() {
+        AtomicInteger checkedRules = new AtomicInteger();
+        IBaseAction action = returnAction(3);
+        DecisionTableInvoker invoker = new DecisionTableInvoker(decisionTable(checkedRules, action));
+
+        assertEquals("rule3", invoker.invoke(null, new Object[0], new SimpleVM().getRuntimeEnv()));
+        // The rules after the matched one are not checked
+        assertEquals(4, checkedRules.get());
+    }
+
+    @Test
+    public void testSingleHitNoMatchedRule() {
+        AtomicInteger checkedRules = new AtomicInteger();
+        IBaseAction action = returnAction(100);
+        DecisionTableInvoker invoker = new DecisionTableInvoker(decisionTable(checkedRules, action));
+
+        assertNull(invoker.invoke(null, new Object[0], new SimpleVM().getRuntimeEnv()));
+        assertEquals(10, checkedRules.get());
+    }
+
+    @Test
+    public void testRuntimePoolIsClearedBetweenInvocations() {
+        AtomicInteger checkedRules = new AtomicInteger();
+        List<DecisionTableRuntimePool> pools = new ArrayList<>();
+        IBaseAction action = mock(IBaseAction.class);
+        when(action.isReturnAction()).thenReturn(true);
+        when(action.executeAction(anyInt(), any(), any(Object[].class), any(IRuntimeEnv.class)))
+            .thenAnswer(invocation -> {
+                IRuntimeEnv env = (IRuntimeEnv) invocation.getArguments()[3];
+                DecisionTableRuntimePool pool = (DecisionTableRuntimePool) env.getLocalFrame()[0];
+                pools.add(pool);
+                Object previous = pool.getConditionExecutionResult("condition");
+                pool.pushConditionExecutionResultToPool("condition", "value");
+                return previous == null ? "empty" : "dirty";
+            });
+        DecisionTableInvoker invoker = new DecisionTableInvoker(decisionTable(checkedRules, action));
+
+        SimpleRulesRuntimeEnv env = new SimpleRulesRuntimeEnv();
+        assertEquals("empty", invoker.invoke(null, new Object[0], env));
+        assertEquals("empty", invoker.invoke(null, new Object[0], env));
+        // The pool is reused by the same runtime environment only
+        assertSame(pools.get(0), pools.get(1));
+        assertEquals("empty", invoker.invoke(null, new Object[0], env.clone()));
+        assertNotSame(pools.get(0), pools.get(2));
+
+        assertEquals("empty", invoker.invoke(null, new Object[0], new SimpleVM().getRuntimeEnv()));
+    }
+
+    private static IBaseAction returnAction(int matchedRule) {
+        IBaseAction action = mock(IBaseAction.class);
+        when(action.isReturnAction()).thenReturn(true);
+        when(action.executeAction(anyInt(), any(), any(Object[].class), any(IRuntimeEnv.class)))
+            .thenAnswer(invocation -> {
+                int rule = (Integer) invocation.getArguments()[0];
+                return rule == matchedRule ? "rule" + rule : null;
+            });
+        return action;
+    }
+
+    private static DecisionTable decisionTable(AtomicInteger checkedRules, IBaseAction... actions) {
+        IDecisionTableAlgorithm algorithm = mock(IDecisionTableAlgorithm.class);
+        when(algorithm.checkedRules(any(), any(Object[].class), any(IRuntimeEnv.class)))
+            .thenAnswer(invocation -> new IntRangeDomain(0, 9).intIterator().select(rule -> {
+                checkedRules.incrementAndGet();
+                return true;
+            }));
+        DecisionTable decisionTable = mock(DecisionTable.class);
+        when(decisionTable.getType()).thenReturn(JavaOpenClass.OBJECT);
+        when(decisionTable.getAlgorithm()).thenReturn(algorithm);
+        when(decisionTable.getActionRows()).thenReturn(actions);
+        return decisionTable;
+    }
+}
@@ -0,0 +1,91 @@
+package org.openl.rules.dt.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Test;
+import org.openl.rules.dt.algorithm.evaluator.ARangeIndexEvaluator.IndexNode;
+
+public class CumulativeRuleSetsTest {
+
+    @Test
+    public void testSmallIndex() {
+        check(nodes(10, 20), new int[] { 40, 41 });
+    }
+
+    @Test
+    public void testBigIndex() {
+        // Too big to store sets for every boundary
+        check(nodes(3000, 12000), new int[] { 5 });
+    }
+
+    @Test
+    public void testMemoryIsBoundedBySizeOfIndex() {
+        // 6001 rule numbers in the nodes, 32 bits are allowed per number
+        List<IndexNode> index = nodes(3000, 12000);
+        long maxBits = 6001 * 32 + 2 * 12032;
+        assertTrue(new CumulativeRuleSets(index, new int[] { 5 }, true).getAllocatedBits() <= maxBits);
+        assertTrue(new CumulativeRuleSets(index, new int[] { 5 }, false).getAllocatedBits() <= maxBits);
+
+        // The sets are limited by 128 KB for big indexes
+        IndexNode node = mock(IndexNode.class, withSettings().stubOnly());
+        when(node.getRules()).thenReturn(new int[] { 0, 60000 });
+        index = Collections.nCopies(20000, node);
+        maxBits = (1 << 20) + 2 * 60032;
+        assertTrue(new CumulativeRuleSets(index, new int[0], true).getAllocatedBits() <= maxBits);
+    }
+
+    private static void check(List<IndexNode> index, int[] emptyRules) {
+        CumulativeRuleSets asc = new CumulativeRuleSets(index, emptyRules, true);
+        CumulativeRuleSets desc = new CumulativeRuleSets(index, emptyRules, false);
+        BitSet expected = new BitSet();
+        for (int ruleN : emptyRules) {
+            expected.set(ruleN);
+        }
+        assertEquals(expected, asc.get(null));
+        assertEquals(expected, desc.get(null));
+
+        BitSet ascExpected = (BitSet) expected.clone();
+        for (int i = 0; i <= index.size(); i++) {
+            assertEquals(ascExpected, asc.get(Pair.of(0, i)));
+            if (i < index.size()) {
+                addRules(ascExpected, index.get(i));
+            }
+        }
+        BitSet descExpected = (BitSet) expected.clone();
+        for (int i = index.size(); i >= 0; i--) {
+            assertEquals(descExpected, desc.get(Pair.of(i, index.size())));
+            if (i > 0) {
+                addRules(descExpected, index.get(i - 1));
+            }
+        }
+    }
+
+    private static void addRules(BitSet bits, IndexNode node) {
+        for (int ruleN : node.getRules()) {
+            bits.set(ruleN);
+        }
+    }
+
+    /**
+     * Every node has two rules: its own and a rule from the end of the table.
+     */
+    private static List<IndexNode> nodes(int size, int maxRule) {
+        List<IndexNode> index = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            IndexNode node = mock(IndexNode.class, withSettings().stubOnly());
+            when(node.getRules()).thenReturn(new int[] { i, maxRule - i });
+            index.add(node);
+        }
+        return index;
+    }
+}
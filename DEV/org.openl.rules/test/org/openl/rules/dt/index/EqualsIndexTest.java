@@ -0,0 +1,89 @@
+package org.openl.rules.dt.index;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertSame;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+import org.openl.rules.dt.element.ConditionHelper;
+
+public class EqualsIndexTest {
+
+    @Test
+    public void testIntIndex() {
+        ARuleIndex index = build(10, 20, 30, 20);
+        assertSame(IntEqualsIndex.class, index.getClass());
+        assertRules(index, 20, 1, 3, 4);
+        assertRules(index, 30, 2, 4);
+        assertRules(index, 40, 4);
+        // Different type of the value
+        assertRules(index, 20L, 4);
+    }
+
+    @Test
+    public void testLongIndex() {
+        ARuleIndex index = build(10L, Long.MAX_VALUE, -1L);
+        assertSame(LongEqualsIndex.class, index.getClass());
+        assertRules(index, Long.MAX_VALUE, 1, 3);
+        assertRules(index, -1L, 2, 3);
+        assertRules(index, 0L, 3);
+    }
+
+    @Test
+    public void testDoubleIndex() {
+        ARuleIndex index = build(0.1, 2.5, 1.0, 0.3f);
+        assertSame(DoubleEqualsIndex.class, index.getClass());
+        assertRules(index, 0.1, 0, 4);
+        assertRules(index, 0.30000000000000004, 3, 4);
+        assertRules(index, 1, 2, 4);
+        assertRules(index, 2.6, 4);
+    }
+
+    @Test
+    public void testStringIndex() {
+        Object[] values = new Object[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = "Z" + i;
+        }
+        ARuleIndex index = build(values);
+        assertSame(StringEqualsIndex.class, index.getClass());
+        for (int i = 0; i < values.length; i++) {
+            assertRules(index, "Z" + i, i, values.length);
+        }
+        assertRules(index, "Z" + values.length, values.length);
+        assertRules(index, "", values.length);
+    }
+
+    @Test
+    public void testStringIndexWithSameHashCodes() {
+        // "Aa" and "BB" have the same hash codes
+        ARuleIndex index = build("Aa", "BB", "C");
+        assertSame(EqualsIndex.class, index.getClass());
+        assertRules(index, "BB", 1, 3);
+    }
+
+    @Test
+    public void testMixedTypes() {
+        ARuleIndex index = build(1, 2L, new BigDecimal("1.0"));
+        assertSame(EqualsIndex.class, index.getClass());
+        assertRules(index, 2L, 1, 3);
+    }
+
+    /**
+     * Builds the index where the rule N has the value N and the last rule is empty.
+     */
+    private static ARuleIndex build(Object... values) {
+        EqualsIndex.Builder builder = new EqualsIndex.Builder();
+        builder.setConditionCasts(ConditionHelper.getConditionCastsWithNoCasts());
+        for (int i = 0; i < values.length; i++) {
+            builder.putValueToRule(values[i], i);
+        }
+        builder.putEmptyRule(values.length);
+        return builder.build();
+    }
+
+    private static void assertRules(ARuleIndex index, Object value, int... rules) {
+        assertArrayEquals(rules, index.findNode(value, null).getRules());
+    }
+}
@@ -0,0 +1,113 @@
+package org.openl.rules.lang.xls;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Test;
+import org.openl.CompiledOpenClass;
+import org.openl.engine.OpenLSystemProperties;
+import org.openl.rules.calc.CustomSpreadsheetResultOpenClass;
+import org.openl.rules.runtime.RulesEngineFactory;
+import org.openl.types.IOpenClass;
+import org.openl.types.IOpenField;
+import org.openl.types.IOpenMethod;
+
+public class ParallelBindingTest {
+
+    @After
+    public void after() {
+        System.clearProperty(OpenLSystemProperties.PARALLEL_BINDING_PROPERTY);
+    }
+
+    @Test
+    public void testSameResultAsSequentialBinding() {
+        String[] sourceFiles = { "test/rules/Tutorial_4_Test.xls",
+                "test/rules/validation/TestData.xls",
+                "test/rules/BasicAlgorithm.xls",
+                "test/rules/ColumnMatch.xls",
+                "test/rules/ParallelBindingSpreadsheets.xlsx" };
+        for (String sourceFile : sourceFiles) {
+            CompiledOpenClass sequential = compile(sourceFile, false);
+            CompiledOpenClass parallel = compile(sourceFile, true);
+
+            assertEquals(sourceFile, getMessages(sequential), getMessages(parallel));
+            assertEquals(sourceFile, getMethods(sequential), getMethods(parallel));
+        }
+    }
+
+    @Test
+    public void testSpreadsheetsReferringToEachOther() throws Exception {
+        String sourceFile = "test/rules/ParallelBindingSpreadsheets.xlsx";
+        for (int n = 0; n < 5; n++) {
+            RulesEngineFactory<?> sequential = createFactory(sourceFile, false);
+            RulesEngineFactory<?> parallel = createFactory(sourceFile, true);
+
+            assertEquals(0, parallel.getCompiledOpenClass().getMessages().size());
+            assertEquals(getSpreadsheetTypes(sequential.getCompiledOpenClass()),
+                getSpreadsheetTypes(parallel.getCompiledOpenClass()));
+            assertEquals(getResults(sequential), getResults(parallel));
+        }
+    }
+
+    private static CompiledOpenClass compile(String sourceFile, boolean parallel) {
+        return createFactory(sourceFile, parallel).getCompiledOpenClass();
+    }
+
+    private static RulesEngineFactory<?> createFactory(String sourceFile, boolean parallel) {
+        System.setProperty(OpenLSystemProperties.PARALLEL_BINDING_PROPERTY, String.valueOf(parallel));
+        RulesEngineFactory<?> factory = new RulesEngineFactory<>(sourceFile);
+        factory.getCompiledOpenClass();
+        return factory;
+    }
+
+    /**
+     * Returns the types of the fields of the custom spreadsheet result types.
+     */
+    private static Map<String, Map<String, String>> getSpreadsheetTypes(CompiledOpenClass compiledOpenClass) {
+        Map<String, Map<String, String>> types = new TreeMap<>();
+        for (IOpenClass type : compiledOpenClass.getTypes()) {
+            if (type instanceof CustomSpreadsheetResultOpenClass) {
+                Map<String, String> fields = new TreeMap<>();
+                for (IOpenField field : type.getFields()) {
+                    fields.put(field.getName(), field.getType().getName());
+                }
+                types.put(type.getName(), fields);
+            }
+        }
+        assertEquals(40, types.size());
+        return types;
+    }
+
+    private static List<Object> getResults(RulesEngineFactory<?> factory) throws Exception {
+        Object instance = factory.newEngineInstance();
+        List<Object> results = new ArrayList<>();
+        for (int i = 1; i <= 40; i++) {
+            Method method = factory.getInterfaceClass().getMethod("M" + i, Integer.class);
+            results.add(method.invoke(instance, 3));
+        }
+        return results;
+    }
+
+    private static List<String> getMessages(CompiledOpenClass compiledOpenClass) {
+        return compiledOpenClass.getMessages()
+            .stream()
+            .map(m -> m.getSeverity() + ": " + m.getSummary())
+            .collect(Collectors.toList());
+    }
+
+    private static List<String> getMethods(CompiledOpenClass compiledOpenClass) {
+        return compiledOpenClass.getOpenClassWithErrors()
+            .getMethods()
+            .stream()
+            .map(IOpenMethod::getName)
+            .sorted()
+            .collect(Collectors.toList());
+    }
+}
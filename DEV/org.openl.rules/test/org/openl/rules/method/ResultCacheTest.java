@@ -0,0 +1,115 @@
+package org.openl.rules.method;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openl.rules.context.IRulesRuntimeContext;
+import org.openl.rules.context.RulesRuntimeContextFactory;
+import org.openl.rules.runtime.RulesEngineFactory;
+import org.openl.rules.vm.ResultCache;
+import org.openl.rules.vm.ResultCacheInfo;
+import org.openl.runtime.IEngineWrapper;
+import org.openl.vm.IRuntimeEnv;
+
+import com.rits.cloning.Cloner;
+
+public class ResultCacheTest {
+
+    private static final String SRC = "test/rules/ResultCacheTest.xlsx";
+
+    private A1 instance;
+
+    public interface A1 {
+        String Random(Boolean a1);
+
+        String Random2(Boolean a1);
+
+        String Random3(Boolean a1);
+    }
+
+    @Before
+    public void init() {
+        instance = new RulesEngineFactory<>(SRC, A1.class).newEngineInstance();
+    }
+
+    @Test
+    public void testSharedBetweenCalls() throws InterruptedException {
+        String value = instance.Random(Boolean.TRUE);
+        assertEquals(value, instance.Random(Boolean.TRUE));
+        assertNotEquals(value, instance.Random(Boolean.FALSE));
+
+        String[] result = new String[1];
+        Thread thread = new Thread(() -> result[0] = instance.Random(Boolean.TRUE));
+        thread.start();
+        thread.join();
+        assertEquals(value, result[0]);
+    }
+
+    @Test
+    public void testRuntimeContext() {
+        IRuntimeEnv env = ((IEngineWrapper) instance).getRuntimeEnv();
+        String value = instance.Random(Boolean.TRUE);
+        IRulesRuntimeContext context = RulesRuntimeContextFactory.buildRulesRuntimeContext();
+        context.setLob("lob");
+        env.setContext(context);
+        String lobValue = instance.Random(Boolean.TRUE);
+        assertNotEquals(value, lobValue);
+        assertEquals(lobValue, instance.Random(Boolean.TRUE));
+    }
+
+    @Test
+    public void testNotShared() {
+        assertNotEquals(instance.Random2(Boolean.TRUE), instance.Random2(Boolean.TRUE));
+        assertNotEquals(instance.Random3(Boolean.TRUE), instance.Random3(Boolean.TRUE));
+    }
+
+    @Test
+    public void testResultIsCopied() {
+        ResultCache cache = new ResultCache(10, 0, new Cloner());
+        List<String> result = new ArrayList<>(Arrays.asList("a", "b"));
+        Object[] params = { "p" };
+
+        Object first = cache.computeIfAbsent(params, null, () -> result);
+        assertSame(result, first);
+        result.add("c");
+
+        @SuppressWarnings("unchecked")
+        List<String> hit1 = (List<String>) cache.computeIfAbsent(params, null, () -> null);
+        assertEquals(Arrays.asList("a", "b"), hit1);
+        hit1.add("d");
+        Object hit2 = cache.computeIfAbsent(params, null, () -> null);
+        assertNotSame(hit1, hit2);
+        assertEquals(Arrays.asList("a", "b"), hit2);
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testInfo() {
+        instance.Random(Boolean.TRUE);
+        instance.Random(Boolean.TRUE);
+
+        Map<String, Object> info = ResultCacheInfo.get();
+        String name = info.keySet()
+            .stream()
+            .filter(e -> e.endsWith(".Random"))
+            .findFirst()
+            .orElseThrow(AssertionError::new);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> statistics = (Map<String, Object>) info.get(name);
+        assertTrue((Long) statistics.get("size") >= 1);
+        assertTrue((Long) statistics.get("hitCount") >= 1);
+        assertTrue((Long) statistics.get("missCount") >= 1);
+        assertTrue((Double) statistics.get("hitRate") > 0);
+    }
+}
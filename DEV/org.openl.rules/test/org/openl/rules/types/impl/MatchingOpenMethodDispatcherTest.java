@@ -0,0 +1,110 @@
+package org.openl.rules.types.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.openl.exception.OpenLRuntimeException;
+import org.openl.rules.context.IRulesRuntimeContext;
+import org.openl.rules.context.RulesRuntimeContextFactory;
+import org.openl.rules.method.ITablePropertiesMethod;
+import org.openl.rules.table.properties.ITableProperties;
+import org.openl.rules.table.properties.TableProperties;
+import org.openl.types.IOpenMethod;
+
+public class MatchingOpenMethodDispatcherTest {
+
+    private final MatchingOpenMethodDispatcher dispatcher = new MatchingOpenMethodDispatcher();
+
+    @Test
+    public void testIndexIsReused() {
+        IOpenMethod a = createMethod("a");
+        IOpenMethod b = createMethod("b");
+        IOpenMethod c = createMethod("c");
+        List<IOpenMethod> candidates = Arrays.asList(a, b, c);
+
+        assertSame(b, dispatcher.findMatchingMethod(candidates, createContext("b")));
+        MatchingDispatchIndex index = dispatcher.getDispatchIndex(candidates);
+        assertTrue(index.isIndexable());
+        assertSame(b, dispatcher.findMatchingMethod(candidates, createContext("b")));
+        assertSame(c, dispatcher.findMatchingMethod(candidates, createContext("c")));
+        assertSame(index, dispatcher.getDispatchIndex(candidates));
+    }
+
+    @Test
+    public void testNotIndexableCandidates() {
+        IOpenMethod method = mockMethod();
+        List<IOpenMethod> candidates = Collections.singletonList(method);
+
+        assertSame(method, dispatcher.findMatchingMethod(candidates, createContext(null)));
+        MatchingDispatchIndex index = dispatcher.getDispatchIndex(candidates);
+        assertFalse(index.isIndexable());
+        assertSame(method, dispatcher.findMatchingMethod(candidates, createContext(null)));
+        assertSame(index, dispatcher.getDispatchIndex(candidates));
+    }
+
+    @Test
+    public void testAmbiguousDispatch() {
+        List<IOpenMethod> candidates = Arrays.asList(createMethod("a"), createMethod("a"), createMethod("b"));
+        try {
+            dispatcher.findMatchingMethod(candidates, createContext("a"));
+            fail("Exception is expected");
+        } catch (OpenLRuntimeException e) {
+            assertTrue(e.getMessage().startsWith("Ambiguous dispatch for method 'method'"));
+        }
+    }
+
+    @Test
+    public void testNoMatchingMethods() {
+        List<IOpenMethod> candidates = Arrays.asList(createMethod("a"), createMethod("b"));
+        try {
+            dispatcher.findMatchingMethod(candidates, createContext("c"));
+            fail("Exception is expected");
+        } catch (OpenLRuntimeException e) {
+            assertTrue(e.getMessage().startsWith("No matching methods with name 'method'"));
+        }
+    }
+
+    @Test
+    public void testIndexIsRebuiltForOtherCandidates() {
+        IOpenMethod a = createMethod("a");
+        IOpenMethod b = createMethod("b");
+        List<IOpenMethod> candidates = Arrays.asList(a, b);
+        assertSame(a, dispatcher.findMatchingMethod(candidates, createContext("a")));
+
+        IOpenMethod c = createMethod("c");
+        List<IOpenMethod> newCandidates = Arrays.asList(a, b, c);
+        assertSame(c, dispatcher.findMatchingMethod(newCandidates, createContext("c")));
+        assertEquals(3, dispatcher.getDispatchIndex(newCandidates).size());
+    }
+
+    private static IOpenMethod createMethod(String lob) {
+        ITableProperties properties = new TableProperties();
+        properties.setLob(lob);
+        IOpenMethod method = mockMethod();
+        when(((ITablePropertiesMethod) method).getMethodProperties()).thenReturn(properties);
+        return method;
+    }
+
+    private static IOpenMethod mockMethod() {
+        IOpenMethod method = mock(IOpenMethod.class, withSettings().extraInterfaces(ITablePropertiesMethod.class));
+        when(method.getName()).thenReturn("method");
+        return method;
+    }
+
+    private static IRulesRuntimeContext createContext(String lob) {
+        IRulesRuntimeContext context = RulesRuntimeContextFactory.buildRulesRuntimeContext();
+        context.setLob(lob);
+        return context;
+    }
+}
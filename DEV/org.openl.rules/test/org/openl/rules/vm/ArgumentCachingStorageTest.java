@@ -0,0 +1,61 @@
+package org.openl.rules.vm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Test;
+
+public class ArgumentCachingStorageTest {
+
+    private final SimpleRulesRuntimeEnv env = mock(SimpleRulesRuntimeEnv.class);
+
+    @Test
+    public void testFindInCache() throws ResultNotFoundException {
+        ArgumentCachingStorage storage = new ArgumentCachingStorage(env);
+        Object member = new Object();
+        Object result = new Object();
+
+        assertNotFound(storage, member, "a", 1);
+        storage.putToCache(member, new Object[] { "a", 1 }, result);
+        assertSame(result, storage.findInCache(member, "a", 1));
+        assertNotFound(storage, member, "a", 2);
+        assertNotFound(storage, new Object(), "a", 1);
+
+        assertEquals(1, storage.getHitCount());
+        assertEquals(3, storage.getMissCount());
+
+        storage.resetMethodArgumentsCache();
+        assertNotFound(storage, member, "a", 1);
+        // Immutable arguments are cached without the module cloner
+        verify(env, never()).getTopClass();
+    }
+
+    @Test
+    public void testEviction() throws ResultNotFoundException {
+        ArgumentCachingStorage storage = new ArgumentCachingStorage(env);
+        Object member = new Object();
+        storage.putToCache(member, new Object[] { 0 }, 0);
+        for (int i = 1; i <= ArgumentCachingStorage.Data.MAX_DATA_LENGTH; i++) {
+            storage.putToCache(member, new Object[] { i }, i);
+            // Keeps the first entry recently used
+            storage.findInCache(member, 0);
+        }
+
+        assertEquals(0, storage.findInCache(member, 0));
+        assertEquals(ArgumentCachingStorage.Data.MAX_DATA_LENGTH, storage.findInCache(member,
+            ArgumentCachingStorage.Data.MAX_DATA_LENGTH));
+        assertNotFound(storage, member, 1);
+    }
+
+    private static void assertNotFound(ArgumentCachingStorage storage, Object member, Object... params) {
+        try {
+            storage.findInCache(member, params);
+            fail("Result is not expected");
+        } catch (ResultNotFoundException ignored) {
+        }
+    }
+}
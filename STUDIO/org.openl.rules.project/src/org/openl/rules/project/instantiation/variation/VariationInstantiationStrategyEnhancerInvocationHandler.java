@@ -2,15 +2,14 @@ package org.openl.rules.project.instantiation.variation;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RecursiveTask;
 
 import org.openl.exception.OpenlNotCheckedException;
-import org.openl.rules.core.ce.ServiceMT;
 import org.openl.rules.project.SafeCloner;
 import org.openl.rules.runtime.OpenLRulesMethodHandler;
 import org.openl.rules.variation.NoVariation;
@@ -21,19 +20,37 @@ import org.openl.rules.vm.SimpleRulesRuntimeEnv;
 import org.openl.runtime.ASMProxyFactory;
 import org.openl.runtime.AbstractOpenLMethodHandler;
 import org.openl.runtime.IEngineWrapper;
-import org.openl.vm.IRuntimeEnv;
+import org.openl.util.ForkJoinPoolUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * InvocationHandler for proxy that injects variations into service class.
  * <p/>
- * Handles both original methods and enhanced with variations.
+ * Handles both original methods and enhanced with variations. The variations are calculated in parallel on a
+ * dedicated pool, so a big pack of variations cannot block the parallel calculation of the rules. The number of the
+ * threads is defined by the system property {@value #PARALLELISM_PROPERTY}, it is equal to the number of the
+ * processors by default. Every variation modifies a deep clone of the arguments. If the system property
+ * {@value #COPY_ON_WRITE_PROPERTY} is true, then every variation modifies a copy of the arguments which shares the
+ * unchanged objects with the original arguments and the other variations. It is allowed only for the rules which do
+ * not change the arguments. The variations reuse the results of the cacheable tables which are called with the same
+ * arguments as in the original calculation.
  *
  * @author PUdalau, Marat Kamalov
  */
 class VariationInstantiationStrategyEnhancerInvocationHandler extends AbstractOpenLMethodHandler<Method, Method> {
 
+    static final String PARALLELISM_PROPERTY = "org.openl.variations.parallelism";
+
+    private static class VariationCalculationPoolHolder {
+        private static final ForkJoinPool INSTANCE = ForkJoinPoolUtils.newPool("openl-variations",
+            Integer.getInteger(PARALLELISM_PROPERTY, 0));
+    }
+
+    static final String COPY_ON_WRITE_PROPERTY = "org.openl.variations.copyOnWrite";
+
+    private final boolean copyOnWrite = Boolean.getBoolean(COPY_ON_WRITE_PROPERTY);
+
     private final SafeCloner cloner = new SafeCloner();
 
     private final Logger log = LoggerFactory.getLogger(VariationInstantiationStrategyEnhancerInvocationHandler.class);
@@ -98,15 +115,9 @@ class VariationInstantiationStrategyEnhancerInvocationHandler extends AbstractOp
                     arguments,
                     new NoVariation());
                 merge(variationsResults, singleVariation);
-                if (variationsPack != null) {
-                    final VariationCalculationTask[] tasks = createTasks(member, variationsPack, arguments, runtimeEnv);
-                    if (tasks.length > 0) {
-                        ServiceMT.getInstance().executeAll(tasks);
-                        for (VariationCalculationTask task : tasks) {
-                            VariationsResult<Object> joinedVariation = task.join();
-                            merge(variationsResults, joinedVariation);
-                        }
-                    }
+                if (variationsPack != null && !variationsPack.getVariations().isEmpty()) {
+                    merge(variationsResults,
+                        calculateVariations(member, arguments, variationsPack.getVariations(), runtimeEnv));
                 }
                 return variationsResults;
             } finally {
@@ -143,12 +154,7 @@ class VariationInstantiationStrategyEnhancerInvocationHandler extends AbstractOp
                 Object result = member.invoke(serviceClassInstance, modifiedArguments);
                 variationsResults.registerResult(variation.getVariationID(), result);
             } catch (Exception e) {
-                log.warn("Failed to calculate '{}'", variation.getVariationID(), e);
-                Throwable e1 = e;
-                if (e instanceof InvocationTargetException && e.getCause() != null) {
-                    e1 = e.getCause();
-                }
-                variationsResults.registerFailure(variation.getVariationID(), e1.getMessage());
+                registerFailure(variationsResults, variation, e);
             }
         } finally {
             if (modifiedArguments != null) {
@@ -162,83 +168,139 @@ class VariationInstantiationStrategyEnhancerInvocationHandler extends AbstractOp
         return variationsResults;
     }
 
-    private VariationCalculationTask[] createTasks(Method member,
-            VariationsPack variationsPack,
-            Object[] arguments,
-            SimpleRulesRuntimeEnv parentRuntimeEnv) {
-        final Collection<VariationCalculationTask> tasks = new ArrayList<>(variationsPack.getVariations().size());
-        boolean f = false;
-        for (Variation variation : variationsPack.getVariations()) {
-            final IRuntimeEnv runtimeEnv = parentRuntimeEnv.clone();
-
-            if (ASMProxyFactory.isProxy(serviceClassInstance)) {
-                final OpenLRulesMethodHandler handler = (OpenLRulesMethodHandler) ASMProxyFactory
-                    .getProxyHandler(serviceClassInstance);
-                handler.setRuntimeEnv(runtimeEnv);
-                SimpleRulesRuntimeEnv simpleRulesRuntimeEnv = (SimpleRulesRuntimeEnv) runtimeEnv;
-                simpleRulesRuntimeEnv.changeMethodArgumentsCacheMode(org.openl.rules.vm.CacheMode.READ_ONLY);
-                simpleRulesRuntimeEnv.setOriginalCalculation(false);
-                simpleRulesRuntimeEnv.setIgnoreRecalculate(true);
-                simpleRulesRuntimeEnv.getArgumentCachingStorage().initCurrentStep();
-            } else {
-                if (!f) {
-                    log.warn(
-                        "Variation features are not supported for Wrapper classes. This functionality is deprecated.");
-                    f = true;
-                }
-            }
+    /**
+     * Calculates the variation on a copy of the arguments. The original arguments are not changed, so the variations
+     * can share them.
+     */
+    private VariationsResult<Object> calculateVariationOnCopy(Method member, Object[] arguments, Variation variation) {
+        VariationsResult<Object> variationsResults = new VariationsResult<>();
+        try {
+            Object[] modifiedArguments = copyOnWrite ? variation.applyModificationOnCopy(arguments, cloner)
+                                                     : variation.applyModification(cloner.deepClone(arguments));
+            Object result = member.invoke(serviceClassInstance, modifiedArguments);
+            variationsResults.registerResult(variation.getVariationID(), result);
+        } catch (Exception e) {
+            registerFailure(variationsResults, variation, e);
+        }
+        return variationsResults;
+    }
 
-            final VariationCalculationTask item = new VariationCalculationTask(member,
-                cloner.deepClone(arguments),
-                variation,
-                runtimeEnv);
-            tasks.add(item);
+    private void registerFailure(VariationsResult<Object> variationsResults, Variation variation, Exception e) {
+        log.warn("Failed to calculate '{}'", variation.getVariationID(), e);
+        Throwable e1 = e;
+        if (e instanceof InvocationTargetException && e.getCause() != null) {
+            e1 = e.getCause();
         }
-        return tasks.toArray(new VariationCalculationTask[] {});
+        variationsResults.registerFailure(variation.getVariationID(), e1.getMessage());
     }
 
+    private VariationsResult<Object> calculateVariations(Method member,
+            Object[] arguments,
+            List<Variation> variations,
+            SimpleRulesRuntimeEnv runtimeEnv) {
+        OpenLRulesMethodHandler handler = null;
+        if (ASMProxyFactory.isProxy(serviceClassInstance)) {
+            handler = (OpenLRulesMethodHandler) ASMProxyFactory.getProxyHandler(serviceClassInstance);
+        } else {
+            log.warn("Variation features are not supported for Wrapper classes. This functionality is deprecated.");
+        }
+        ForkJoinPool pool = VariationCalculationPoolHolder.INSTANCE;
+        int chunkSize = ForkJoinPoolUtils.getChunkSize(pool, variations.size());
+        return pool.invoke(new VariationCalculationTask(member,
+            arguments,
+            variations,
+            0,
+            variations.size(),
+            chunkSize,
+            runtimeEnv,
+            handler,
+            Thread.currentThread().getContextClassLoader()));
+    }
+
+    /**
+     * Calculates the variations from the range. The range is split in halves until it is not bigger than the chunk
+     * size, so the idle threads can steal the halves of the big ranges.
+     */
     private class VariationCalculationTask extends RecursiveTask<VariationsResult<Object>> {
         private static final long serialVersionUID = 1L;
         private final Method member;
         private final Object[] arguments;
-        private final Variation variation;
-        private final IRuntimeEnv runtimeEnv;
+        private final List<Variation> variations;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final SimpleRulesRuntimeEnv runtimeEnv;
+        private final OpenLRulesMethodHandler handler;
+        private final ClassLoader classLoader;
 
         private VariationCalculationTask(Method member,
                 Object[] arguments,
-                Variation variation,
-                IRuntimeEnv runtimeEnv) {
+                List<Variation> variations,
+                int from,
+                int to,
+                int chunkSize,
+                SimpleRulesRuntimeEnv runtimeEnv,
+                OpenLRulesMethodHandler handler,
+                ClassLoader classLoader) {
             this.member = member;
             this.arguments = arguments;
-            this.variation = variation;
+            this.variations = variations;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
             this.runtimeEnv = runtimeEnv;
+            this.handler = handler;
+            this.classLoader = classLoader;
+        }
+
+        private VariationCalculationTask subtask(int from, int to) {
+            return new VariationCalculationTask(member,
+                arguments,
+                variations,
+                from,
+                to,
+                chunkSize,
+                runtimeEnv,
+                handler,
+                classLoader);
         }
 
         @Override
         protected VariationsResult<Object> compute() {
-            OpenLRulesMethodHandler handler = null;
+            if (to - from > chunkSize) {
+                int middle = (from + to) >>> 1;
+                VariationCalculationTask left = subtask(from, middle);
+                left.fork();
+                VariationsResult<Object> rightResult = subtask(middle, to).compute();
+                VariationsResult<Object> variationsResults = left.join();
+                merge(variationsResults, rightResult);
+                return variationsResults;
+            }
+            VariationsResult<Object> variationsResults = new VariationsResult<>();
+            Thread thread = Thread.currentThread();
+            ClassLoader oldClassLoader = thread.getContextClassLoader();
+            thread.setContextClassLoader(classLoader);
             try {
-                if (runtimeEnv instanceof SimpleRulesRuntimeEnv) {
-                    if (ASMProxyFactory.isProxy(serviceClassInstance)) {
-                        handler = (OpenLRulesMethodHandler) ASMProxyFactory.getProxyHandler(serviceClassInstance);
-                        handler.setRuntimeEnv(runtimeEnv);
+                for (int i = from; i < to; i++) {
+                    SimpleRulesRuntimeEnv env = (SimpleRulesRuntimeEnv) runtimeEnv.clone();
+                    env.changeMethodArgumentsCacheMode(org.openl.rules.vm.CacheMode.READ_ONLY);
+                    env.setOriginalCalculation(false);
+                    env.setIgnoreRecalculate(true);
+                    if (handler != null) {
+                        handler.setRuntimeEnv(env);
+                    }
+                    try {
+                        merge(variationsResults, calculateVariationOnCopy(member, arguments, variations.get(i)));
+                    } finally {
+                        if (handler != null) {
+                            handler.release();
+                        }
                     }
-                    SimpleRulesRuntimeEnv simpleRulesRuntimeEnv = (SimpleRulesRuntimeEnv) runtimeEnv;
-                    simpleRulesRuntimeEnv.changeMethodArgumentsCacheMode(org.openl.rules.vm.CacheMode.READ_ONLY);
-                    simpleRulesRuntimeEnv.setOriginalCalculation(false);
-                    simpleRulesRuntimeEnv.setIgnoreRecalculate(true);
-                    simpleRulesRuntimeEnv.getArgumentCachingStorage().initCurrentStep();
                 }
-
-                return calculateSingleVariation(member, arguments, variation);
-            } catch (Exception e) {
-                log.error("Failed to calculate a variation.", e);
-                throw e;
             } finally {
-                if (handler != null) {
-                    handler.release();
-                }
+                thread.setContextClassLoader(oldClassLoader);
             }
+            return variationsResults;
         }
     }
 }
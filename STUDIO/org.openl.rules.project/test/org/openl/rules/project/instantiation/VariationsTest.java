@@ -115,6 +115,36 @@ public class VariationsTest {
             new DoubleValue(1090));
     }
 
+    @Test
+    public void testVariationsDoNotChangeArguments() throws Exception {
+        VariationInstantiationStrategyEnhancer variationsEnhancer = new VariationInstantiationStrategyEnhancer(
+            instantiationStrategy);
+        variationsEnhancer.setServiceClass(EnhancedInterface.class);
+        EnhancedInterface instance = (EnhancedInterface) variationsEnhancer.instantiate();
+        Policy policy = instance.getPolicyProfile1()[0];
+        Driver[] drivers = policy.getDrivers().clone();
+        int[] ages = new int[drivers.length];
+        for (int i = 0; i < drivers.length; i++) {
+            ages[i] = drivers[i].getAge();
+        }
+        VariationsPack variationsPack = new VariationsPack();
+        for (int i = 0; i < 100; i++) {
+            variationsPack.addVariation(
+                new JXPathVariation("variation" + i, 0, "drivers[name = 'Sara']/age", i % 2 == 0 ? 17 : 88));
+        }
+        VariationsResult<SpreadsheetResult> resultsPolicies = instance.processPolicy(policy, variationsPack);
+        assertEquals(101, resultsPolicies.getAllProcessedVariationIDs().length);
+        assertTrue(resultsPolicies.getVariationFailures().isEmpty());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(new DoubleValue(i % 2 == 0 ? 1390 : 1290),
+                resultsPolicies.getResultForVariation("variation" + i).getFieldValue("$Value$Premium"));
+        }
+        assertArrayEquals(drivers, policy.getDrivers());
+        for (int i = 0; i < drivers.length; i++) {
+            assertEquals(ages[i], drivers[i].getAge());
+        }
+    }
+
     @Test
     public void testArgumentReplacementVariation() throws Exception {
         VariationInstantiationStrategyEnhancer variationsEnhancer = new VariationInstantiationStrategyEnhancer(
@@ -2,6 +2,8 @@ package org.openl.rules.variation;
 
 import javax.xml.bind.annotation.XmlRootElement;
 
+import com.rits.cloning.Cloner;
+
 /**
  * Variation for replacement of value of some argument.
  *
@@ -55,6 +57,14 @@ public class ArgumentReplacementVariation extends Variation {
         return originalArguments;
     }
 
+    /**
+     * Replaces the argument in a copy of the arguments array, the other arguments are shared with the original ones.
+     */
+    @Override
+    public Object[] applyModificationOnCopy(Object[] originalArguments, Cloner cloner) {
+        return applyModification(originalArguments.clone());
+    }
+
     @Override
     public void revertModifications(Object[] modifiedArguments, Object previousValue) {
         modifiedArguments[updatedArgumentIndex] = previousValue;
@@ -2,6 +2,8 @@ package org.openl.rules.variation;
 
 import javax.xml.bind.annotation.XmlRootElement;
 
+import com.rits.cloning.Cloner;
+
 /**
  * Complex variation combines multiple variations that all will be applied to arguments sequentially.
  *
@@ -72,6 +74,15 @@ public class ComplexVariation extends Variation {
         return arguments;
     }
 
+    @Override
+    public Object[] applyModificationOnCopy(Object[] originalArguments, Cloner cloner) {
+        Object[] arguments = originalArguments;
+        for (Variation variation : variations) {
+            arguments = variation.applyModificationOnCopy(arguments, cloner);
+        }
+        return arguments;
+    }
+
     @Override
     public void revertModifications(Object[] modifiedArguments, Object previousValue) {
         Object[] values;
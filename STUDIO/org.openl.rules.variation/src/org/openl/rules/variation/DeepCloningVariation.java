@@ -53,6 +53,11 @@ public class DeepCloningVariation extends Variation {
         return variation.applyModification(clone(originalArguments));
     }
 
+    @Override
+    public Object[] applyModificationOnCopy(Object[] originalArguments, Cloner cloner) {
+        return applyModification(originalArguments);
+    }
+
     @Override
     public Object currentValue(Object[] originalArguments) {
         return variation.currentValue(clone(originalArguments));
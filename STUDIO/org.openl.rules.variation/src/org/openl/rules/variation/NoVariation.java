@@ -2,6 +2,8 @@ package org.openl.rules.variation;
 
 import javax.xml.bind.annotation.XmlRootElement;
 
+import com.rits.cloning.Cloner;
+
 /**
  * Empty variation that represents original calculation without any changes of arguments.
  *
@@ -24,6 +26,11 @@ public class NoVariation extends Variation {
         return originalArguments;
     }
 
+    @Override
+    public Object[] applyModificationOnCopy(Object[] originalArguments, Cloner cloner) {
+        return originalArguments.clone();
+    }
+
     @Override
     public void revertModifications(Object[] modifiedArguments, Object previousValue) {
     }
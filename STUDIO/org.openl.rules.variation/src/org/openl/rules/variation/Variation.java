@@ -5,6 +5,8 @@ import java.util.UUID;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlSeeAlso;
 
+import com.rits.cloning.Cloner;
+
 /**
  * Common variations class. It should have unique ID and handle two phases: modifying arguments before the calculations
  * and rolling back changes after execution.
@@ -75,4 +77,18 @@ public abstract class Variation {
      */
     public abstract void revertModifications(Object[] modifiedArguments, Object previousValue);
 
+    /**
+     * Applies the modification to a copy of the original arguments, the original arguments stay unchanged, so there
+     * is no need to revert the modifications. The parts of the arguments which are not modified can be shared with the
+     * original arguments and with the copies of other variations, so it can be used only if the calculation does not
+     * change the arguments.
+     *
+     * @param originalArguments Original arguments for calculation.
+     * @param cloner Cloner to copy the arguments.
+     * @return Modified copy of the arguments.
+     */
+    public Object[] applyModificationOnCopy(Object[] originalArguments, Cloner cloner) {
+        return applyModification(cloner.deepClone(originalArguments));
+    }
+
 }
@@ -0,0 +1,171 @@
+package org.openl.rules.variation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.rits.cloning.Cloner;
+
+public class JXPathVariationTest {
+
+    private final Cloner cloner = new Cloner();
+
+    @Test
+    public void testModificationOnCopy() {
+        Policy policy = createPolicy();
+        Object[] arguments = { policy, "second" };
+
+        Object[] modified = new JXPathVariation("v", 0, "vehicle/owner/name", "Z").applyModificationOnCopy(arguments,
+            cloner);
+
+        assertNotSame(arguments, modified);
+        assertEquals("second", modified[1]);
+        Policy copy = (Policy) modified[0];
+        assertNotSame(policy, copy);
+        assertEquals("Z", copy.getVehicle().getOwner().getName());
+        assertEquals("A", policy.getVehicle().getOwner().getName());
+    }
+
+    @Test
+    public void testCollections() {
+        Policy policy = createPolicy();
+        Object[] arguments = { policy };
+
+        Policy copy = (Policy) new ComplexVariation("v",
+            new JXPathVariation("v1", 0, "drivers[2]/age", 99),
+            new JXPathVariation("v2", 0, "driverList[name = 'A']/age", 98),
+            new JXPathVariation("v3", 0, "driversByName/B/name", "Z")).applyModificationOnCopy(arguments, cloner)[0];
+
+        assertEquals(99, copy.getDrivers()[1].getAge());
+        assertEquals(98, copy.getDriverList().get(0).getAge());
+        assertEquals("Z", copy.getDriversByName().get("B").getName());
+        assertEquals(10, policy.getDrivers()[0].getAge());
+        assertEquals(20, policy.getDrivers()[1].getAge());
+        assertEquals("B", policy.getDriversByName().get("B").getName());
+    }
+
+    @Test
+    public void testCopiesAreIndependent() {
+        Policy policy = createPolicy();
+        Object[] arguments = { policy };
+
+        Object[] modified1 = new JXPathVariation("v1", 0, "drivers[1]/age", 1).applyModificationOnCopy(arguments,
+            cloner);
+        Object[] modified2 = new JXPathVariation("v2", 0, "drivers[1]/age", 2).applyModificationOnCopy(arguments,
+            cloner);
+
+        assertEquals(1, ((Policy) modified1[0]).getDrivers()[0].getAge());
+        assertEquals(2, ((Policy) modified2[0]).getDrivers()[0].getAge());
+        assertEquals(10, policy.getDrivers()[0].getAge());
+    }
+
+    @Test(expected = VariationRuntimeException.class)
+    public void testWrongArgumentIndex() {
+        new JXPathVariation("v", 1, "vehicle/owner/name", "Z").applyModificationOnCopy(new Object[] { createPolicy() },
+            cloner);
+    }
+
+    private static Policy createPolicy() {
+        Driver a = new Driver("A", 10);
+        Driver b = new Driver("B", 20);
+        Driver c = new Driver("C", 30);
+        Policy policy = new Policy();
+        policy.setDrivers(new Driver[] { a, b, c });
+        policy.setDriverList(new ArrayList<>(Arrays.asList(a, b)));
+        Map<String, Driver> driversByName = new HashMap<>();
+        driversByName.put("A", a);
+        driversByName.put("B", b);
+        policy.setDriversByName(driversByName);
+        Vehicle vehicle = new Vehicle();
+        vehicle.setOwner(new Driver("A", 10));
+        policy.setVehicle(vehicle);
+        return policy;
+    }
+
+    public static class Policy {
+        private Driver[] drivers;
+        private List<Driver> driverList;
+        private Map<String, Driver> driversByName;
+        private Vehicle vehicle;
+
+        public Driver[] getDrivers() {
+            return drivers;
+        }
+
+        public void setDrivers(Driver[] drivers) {
+            this.drivers = drivers;
+        }
+
+        public List<Driver> getDriverList() {
+            return driverList;
+        }
+
+        public void setDriverList(List<Driver> driverList) {
+            this.driverList = driverList;
+        }
+
+        public Map<String, Driver> getDriversByName() {
+            return driversByName;
+        }
+
+        public void setDriversByName(Map<String, Driver> driversByName) {
+            this.driversByName = driversByName;
+        }
+
+        public Vehicle getVehicle() {
+            return vehicle;
+        }
+
+        public void setVehicle(Vehicle vehicle) {
+            this.vehicle = vehicle;
+        }
+    }
+
+    public static class Vehicle {
+        private Driver owner;
+
+        public Driver getOwner() {
+            return owner;
+        }
+
+        public void setOwner(Driver owner) {
+            this.owner = owner;
+        }
+    }
+
+    public static class Driver {
+        private String name;
+        private int age;
+
+        public Driver() {
+        }
+
+        Driver(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package org.openl.rules.ruleservice.storelogdata.cassandra;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.ClassUtils;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.mapper.annotations.Computed;
+import com.datastax.oss.driver.api.mapper.annotations.CqlName;
+import com.datastax.oss.driver.api.mapper.annotations.Entity;
+import com.datastax.oss.driver.api.mapper.annotations.NamingStrategy;
+import com.datastax.oss.driver.api.mapper.annotations.PartitionKey;
+import com.datastax.oss.driver.api.mapper.annotations.Transient;
+import com.datastax.oss.driver.api.mapper.annotations.TransientProperties;
+
+/**
+ * Insert statement of an entity class which is prepared once and bound to the entities without the mapper, so the
+ * statements of the same partition can be grouped into a batch. Columns are named by the default naming convention of
+ * the mapper or by {@link CqlName}. Null values are left unset like the mapper does by default.
+ */
+final class CassandraInsertStatement {
+
+    private final PreparedStatement preparedStatement;
+    private final Column[] columns;
+    private final Column[] partitionKey;
+
+    private CassandraInsertStatement(PreparedStatement preparedStatement, Column[] columns, Column[] partitionKey) {
+        this.preparedStatement = preparedStatement;
+        this.columns = columns;
+        this.partitionKey = partitionKey;
+    }
+
+    /**
+     * @return the prepared statement or {@code null} if the entity uses the mapper features which are not supported
+     *         here, in this case the entity must be saved by its DAO.
+     */
+    static CassandraInsertStatement create(CqlSession session, Class<?> entityClass) throws IllegalAccessException {
+        if (!isSupported(entityClass)) {
+            return null;
+        }
+        List<Field> fields = Arrays.stream(entityClass.getDeclaredFields())
+            .filter(CassandraInsertStatement::isColumn)
+            .sorted(Comparator.comparing(Field::getName))
+            .collect(Collectors.toList());
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodType getterType = MethodType.methodType(Object.class, Object.class);
+        List<Column> columns = new ArrayList<>();
+        List<Column> partitionKey = new ArrayList<>();
+        for (Field field : fields) {
+            field.setAccessible(true);
+            Column column = new Column(getCqlName(field.getAnnotation(CqlName.class), field.getName()),
+                ClassUtils.primitiveToWrapper(field.getType()),
+                lookup.unreflectGetter(field).asType(getterType),
+                columns.size());
+            columns.add(column);
+            PartitionKey key = field.getAnnotation(PartitionKey.class);
+            if (key != null) {
+                column.partitionKeyOrder = key.value();
+                partitionKey.add(column);
+            }
+        }
+        if (columns.isEmpty()) {
+            return null;
+        }
+        partitionKey.sort(Comparator.comparingInt(c -> c.partitionKeyOrder));
+        String query = String.format("INSERT INTO %s (%s) VALUES (%s)",
+            getCqlName(entityClass.getAnnotation(CqlName.class), entityClass.getSimpleName()),
+            columns.stream().map(c -> c.name).collect(Collectors.joining(", ")),
+            columns.stream().map(c -> "?").collect(Collectors.joining(", ")));
+        return new CassandraInsertStatement(session.prepare(query),
+            columns.toArray(new Column[0]),
+            partitionKey.toArray(new Column[0]));
+    }
+
+    private static boolean isSupported(Class<?> entityClass) {
+        return entityClass.isAnnotationPresent(Entity.class) && !entityClass
+            .isAnnotationPresent(NamingStrategy.class) && !entityClass.isAnnotationPresent(TransientProperties.class);
+    }
+
+    private static boolean isColumn(Field field) {
+        int modifiers = field.getModifiers();
+        return !field.isSynthetic() && !Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field
+            .isAnnotationPresent(Transient.class) && !field.isAnnotationPresent(Computed.class);
+    }
+
+    private static String getCqlName(CqlName cqlName, String javaName) {
+        return cqlName != null ? cqlName.value() : toSnakeCase(javaName);
+    }
+
+    /**
+     * Converts the java name to the CQL name in the same way as the default naming convention of the mapper, e.g.
+     * {@code incomingTime} to {@code incoming_time}.
+     */
+    static String toSnakeCase(String javaName) {
+        StringBuilder sb = new StringBuilder(javaName.length() + 4);
+        for (int i = 0; i < javaName.length(); i++) {
+            char c = javaName.charAt(i);
+            if (Character.isUpperCase(c)) {
+                if (i > 0) {
+                    sb.append('_');
+                }
+                sb.append(Character.toLowerCase(c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    BoundStatement bind(Object entity) {
+        BoundStatementBuilder builder = preparedStatement.boundStatementBuilder();
+        for (Column column : columns) {
+            Object value = column.get(entity);
+            if (value != null) {
+                builder = builder.set(column.index, value, (Class<Object>) column.type);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return values of the partition key columns of the entity
+     */
+    List<Object> getPartitionKey(Object entity) {
+        List<Object> key = new ArrayList<>(partitionKey.length);
+        for (Column column : partitionKey) {
+            key.add(column.get(entity));
+        }
+        return key;
+    }
+
+    private static final class Column {
+        private final String name;
+        private final Class<?> type;
+        private final MethodHandle getter;
+        private final int index;
+        private int partitionKeyOrder;
+
+        Column(String name, Class<?> type, MethodHandle getter, int index) {
+            this.name = name;
+            this.type = type;
+            this.getter = getter;
+            this.index = index;
+        }
+
+        Object get(Object entity) {
+            try {
+                return (Object) getter.invokeExact(entity);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
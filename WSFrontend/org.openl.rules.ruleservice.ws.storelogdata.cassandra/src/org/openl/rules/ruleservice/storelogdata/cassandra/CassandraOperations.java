@@ -3,12 +3,21 @@ package org.openl.rules.ruleservice.storelogdata.cassandra;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import org.openl.rules.ruleservice.core.OpenLService;
 import org.openl.rules.ruleservice.publish.RuleServicePublisherListener;
@@ -25,6 +34,10 @@ import org.springframework.context.ApplicationContextAware;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DriverException;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
 import com.datastax.oss.driver.api.mapper.annotations.Entity;
 
@@ -38,7 +51,14 @@ public class CassandraOperations implements InitializingBean, DisposableBean, Ru
         Collections.unmodifiableSet(new HashSet<>()));
     private final AtomicReference<Map<Class<?>, CassandraEntitySaver>> entitySavers = new AtomicReference<>(
         Collections.unmodifiableMap(new HashMap<>()));
+    private final AtomicReference<Map<Class<?>, Optional<CassandraInsertStatement>>> insertStatements =
+            new AtomicReference<>(Collections.emptyMap());
+    private final Map<String, LatencyHistogram> latencyHistograms = new ConcurrentHashMap<>();
     private boolean enabled;
+    private int maxInFlightRequests = 1024;
+    private Semaphore inFlightPermits;
+    private boolean batchEnabled;
+    private int batchSize = 20;
 
     public boolean isEnabled() {
         return enabled;
@@ -54,6 +74,9 @@ public class CassandraOperations implements InitializingBean, DisposableBean, Ru
     }
 
     private synchronized void init() {
+        if (maxInFlightRequests > 0) {
+            inFlightPermits = new Semaphore(maxInFlightRequests);
+        }
         if (session == null) {
             session = CqlSession.builder()
                 .withConfigLoader(ConfigLoader.fromApplicationContext(applicationContext))
@@ -127,13 +150,145 @@ public class CassandraOperations implements InitializingBean, DisposableBean, Ru
                 LOG.error("Failed to save cassandra entity. Annotation @EntitySupport is not presented in class '{}'.",
                     entity.getClass().getTypeName());
             } else {
-                getEntitySaver(entity.getClass()).insert(entity);
+                CassandraEntitySaver cassandraEntitySaver = getEntitySaver(entity.getClass());
+                execute(entity.getClass(), () -> cassandraEntitySaver.insert(entity));
             }
         } catch (ReflectiveOperationException | DaoCreationException e) {
             LOG.error("Failed to save cassandra entity '{}'.", entity.getClass().getTypeName(), e);
         }
     }
 
+    /**
+     * Saves the entities. If batches are enabled, then the insert statements of the entities with the same partition
+     * key are sent by unlogged batches.
+     */
+    public void saveAll(Collection<?> entities) {
+        if (!isEnabled()) {
+            throw new IllegalStateException("Failed to save an entity to Cassandra. Feature is not enabled.");
+        }
+        if (!isBatchEnabled()) {
+            entities.forEach(this::save);
+            return;
+        }
+        Map<Class<?>, List<Object>> entitiesByClass = new LinkedHashMap<>();
+        for (Object entity : entities) {
+            if (entity != null) {
+                entitiesByClass.computeIfAbsent(entity.getClass(), e -> new ArrayList<>()).add(entity);
+            }
+        }
+        for (Map.Entry<Class<?>, List<Object>> entry : entitiesByClass.entrySet()) {
+            Class<?> entityClass = entry.getKey();
+            CassandraInsertStatement insertStatement;
+            try {
+                createSchemaIfMissed(entityClass);
+                insertStatement = getInsertStatement(entityClass);
+            } catch (IllegalAccessException | DriverException | SchemaCreationException e) {
+                LOG.error("Failed to prepare insert statement for cassandra entity '{}'.",
+                    entityClass.getTypeName(),
+                    e);
+                continue;
+            }
+            if (insertStatement == null) {
+                entry.getValue().forEach(this::save);
+            } else {
+                saveBatches(entityClass, insertStatement, entry.getValue());
+            }
+        }
+    }
+
+    private void saveBatches(Class<?> entityClass, CassandraInsertStatement insertStatement, List<Object> entities) {
+        Map<List<Object>, List<BatchableStatement<?>>> statementsByPartition = new LinkedHashMap<>();
+        for (Object entity : entities) {
+            try {
+                statementsByPartition.computeIfAbsent(insertStatement.getPartitionKey(entity), e -> new ArrayList<>())
+                    .add(insertStatement.bind(entity));
+            } catch (RuntimeException e) {
+                LOG.error("Failed to bind cassandra entity '{}'.", entityClass.getTypeName(), e);
+            }
+        }
+        for (List<BatchableStatement<?>> statements : statementsByPartition.values()) {
+            for (int i = 0; i < statements.size(); i += batchSize) {
+                List<BatchableStatement<?>> batch = statements.subList(i, Math.min(i + batchSize, statements.size()));
+                Statement<?> statement = batch.size() == 1 ? batch.get(0)
+                                                           : BatchStatement.newInstance(DefaultBatchType.UNLOGGED,
+                                                               batch);
+                execute(entityClass, () -> session.executeAsync(statement));
+            }
+        }
+    }
+
+    private CassandraInsertStatement getInsertStatement(Class<?> entityClass) throws IllegalAccessException {
+        Map<Class<?>, Optional<CassandraInsertStatement>> current;
+        Map<Class<?>, Optional<CassandraInsertStatement>> next;
+        Optional<CassandraInsertStatement> insertStatement = null;
+        do {
+            current = insertStatements.get();
+            Optional<CassandraInsertStatement> currentInsertStatement = current.get(entityClass);
+            if (currentInsertStatement != null) {
+                return currentInsertStatement.orElse(null);
+            }
+            if (insertStatement == null) {
+                insertStatement = Optional.ofNullable(CassandraInsertStatement.create(session, entityClass));
+            }
+            next = new HashMap<>(current);
+            next.put(entityClass, insertStatement);
+        } while (!insertStatements.compareAndSet(current, Collections.unmodifiableMap(next)));
+        return insertStatement.orElse(null);
+    }
+
+    /**
+     * Sends the request asynchronously. The calling thread waits if the maximum count of the requests are in flight,
+     * so the requests are not accumulated by the driver faster than Cassandra can handle them.
+     */
+    private void execute(Class<?> entityClass, Supplier<CompletionStage<?>> request) {
+        Semaphore permits = inFlightPermits;
+        if (permits != null) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOG.error("Interrupted while waiting to save cassandra entity '{}'.", entityClass.getTypeName());
+                return;
+            }
+        }
+        LatencyHistogram latencyHistogram = latencyHistograms.computeIfAbsent(entityClass.getName(),
+            e -> new LatencyHistogram());
+        long start = System.nanoTime();
+        CompletionStage<?> result;
+        try {
+            result = request.get();
+        } catch (RuntimeException e) {
+            if (permits != null) {
+                permits.release();
+            }
+            throw e;
+        }
+        result.whenComplete((r, e) -> {
+            if (permits != null) {
+                permits.release();
+            }
+            latencyHistogram.record(System.nanoTime() - start);
+            if (e != null) {
+                LOG.error("Failed to save cassandra entity '{}'.", entityClass.getTypeName(), e);
+            }
+        });
+    }
+
+    /**
+     * @return count of the requests which are sent but not completed yet
+     */
+    public int getInFlightRequests() {
+        Semaphore permits = inFlightPermits;
+        return permits == null ? 0 : maxInFlightRequests - permits.availablePermits();
+    }
+
+    /**
+     * @return latency histograms of the insert requests by names of the entity classes
+     */
+    public Map<String, LatencyHistogram> getLatencyHistograms() {
+        return Collections.unmodifiableMap(latencyHistograms);
+    }
+
     @Override
     public void onDeploy(OpenLService service) {
         // Only onUndeploy is used for clear used classes to prevent memory leak.
@@ -144,6 +299,7 @@ public class CassandraOperations implements InitializingBean, DisposableBean, Ru
         if (isEnabled()) {
             entitiesWithAlreadyCreatedSchema.set(Collections.emptySet());
             entitySavers.set(Collections.emptyMap());
+            insertStatements.set(Collections.emptyMap());
         }
     }
 
@@ -206,6 +362,30 @@ public class CassandraOperations implements InitializingBean, DisposableBean, Ru
         this.schemaCreationEnabled = createSchemaEnabled;
     }
 
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    public void setMaxInFlightRequests(int maxInFlightRequests) {
+        this.maxInFlightRequests = maxInFlightRequests;
+    }
+
+    public boolean isBatchEnabled() {
+        return batchEnabled;
+    }
+
+    public void setBatchEnabled(boolean batchEnabled) {
+        this.batchEnabled = batchEnabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+
     @Override
     public void afterPropertiesSet() {
         if (isEnabled()) {
@@ -1,6 +1,9 @@
 package org.openl.rules.ruleservice.storelogdata.cassandra;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
 import org.openl.binding.MethodUtil;
@@ -40,6 +43,41 @@ public class CassandraStoreLogDataService implements StoreLogDataService {
 
     @Override
     public void save(StoreLogData storeLogData) {
+        Object[] entities = createEntities(storeLogData);
+        if (entities == null) {
+            return;
+        }
+        for (Object entity : entities) {
+            if (entity != null) {
+                try {
+                    cassandraOperations.save(entity);
+                } catch (Exception e) {
+                    // Continue the loop if exception occurs
+                    LOG.error("Failed on cassandra entity save operation.", e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<StoreLogData> storeLogDataCollection) {
+        List<Object> entities = new ArrayList<>();
+        for (StoreLogData storeLogData : storeLogDataCollection) {
+            Object[] storeLogDataEntities = createEntities(storeLogData);
+            if (storeLogDataEntities != null) {
+                for (Object entity : storeLogDataEntities) {
+                    if (entity != null) {
+                        entities.add(entity);
+                    }
+                }
+            }
+        }
+        if (!entities.isEmpty()) {
+            cassandraOperations.saveAll(entities);
+        }
+    }
+
+    private Object[] createEntities(StoreLogData storeLogData) {
         Object[] entities;
 
         StoreLogDataToCassandra storeLogDataToCassandraAnnotation = storeLogData.getServiceClass()
@@ -51,7 +89,7 @@ public class CassandraStoreLogDataService implements StoreLogDataService {
         }
 
         if (storeLogDataToCassandraAnnotation == null) {
-            return;
+            return null;
         }
 
         if (storeLogDataToCassandraAnnotation.value().length == 0) {
@@ -73,7 +111,7 @@ public class CassandraStoreLogDataService implements StoreLogDataService {
                                     .printQualifiedMethodName(serviceMethod) + "'") : StringUtils.EMPTY,
                                 entityClass.getTypeName()), e);
                         }
-                        return;
+                        return null;
                     }
                 }
                 i++;
@@ -93,18 +131,9 @@ public class CassandraStoreLogDataService implements StoreLogDataService {
                         LOG.error("Failed to populate cassandra entity '{}'.", entity.getClass().getTypeName(), e);
                     }
                 }
-                return;
-            }
-        }
-        for (Object entity : entities) {
-            if (entity != null) {
-                try {
-                    cassandraOperations.save(entity);
-                } catch (Exception e) {
-                    // Continue the loop if exception occurs
-                    LOG.error("Failed on cassandra entity save operation.", e);
-                }
+                return null;
             }
         }
+        return entities;
     }
 }
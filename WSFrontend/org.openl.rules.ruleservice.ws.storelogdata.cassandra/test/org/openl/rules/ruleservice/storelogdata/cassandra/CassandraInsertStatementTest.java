@@ -0,0 +1,37 @@
+package org.openl.rules.ruleservice.storelogdata.cassandra;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+
+public class CassandraInsertStatementTest {
+
+    @Test
+    public void testToSnakeCase() {
+        assertEquals("incoming_time", CassandraInsertStatement.toSnakeCase("incomingTime"));
+        assertEquals("default_cassandra_entity", CassandraInsertStatement.toSnakeCase("DefaultCassandraEntity"));
+        assertEquals("url", CassandraInsertStatement.toSnakeCase("url"));
+    }
+
+    @Test
+    public void testCreate() throws Exception {
+        CqlSession session = Mockito.mock(CqlSession.class);
+        Mockito.when(session.prepare(Mockito.anyString())).thenReturn(Mockito.mock(PreparedStatement.class));
+
+        CassandraInsertStatement insertStatement = CassandraInsertStatement.create(session,
+            DefaultCassandraEntity.class);
+
+        Mockito.verify(session)
+            .prepare("INSERT INTO openl_log_data (id, incoming_time, method_name, outcoming_time, publisher_type, " +
+                    "request, response, service_name, url) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        DefaultCassandraEntity entity = new DefaultCassandraEntity();
+        entity.setId("1");
+        assertEquals(Collections.singletonList("1"), insertStatement.getPartitionKey(entity));
+    }
+}
@@ -0,0 +1,30 @@
+package org.openl.rules.ruleservice.storelogdata.cassandra;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testRecord() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(99));
+
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(3));
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(3));
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(100));
+        histogram.record(TimeUnit.SECONDS.toNanos(100));
+
+        assertEquals(4, histogram.getCount());
+        assertEquals(TimeUnit.SECONDS.toNanos(100), histogram.getMaxTime());
+        assertEquals(2, histogram.getBuckets()[2]);
+        assertEquals(1, histogram.getBuckets()[7]);
+        assertEquals(1, histogram.getBuckets()[histogram.getBuckets().length - 1]);
+        assertEquals(4, histogram.getPercentile(50));
+        assertEquals(128, histogram.getPercentile(75));
+        assertEquals(TimeUnit.SECONDS.toMicros(100), histogram.getPercentile(100));
+    }
+}
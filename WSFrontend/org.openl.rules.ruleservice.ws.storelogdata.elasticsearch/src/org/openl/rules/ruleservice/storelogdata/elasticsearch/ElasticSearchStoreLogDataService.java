@@ -4,6 +4,9 @@ import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
@@ -28,6 +31,8 @@ public class ElasticSearchStoreLogDataService implements StoreLogDataService {
 
     private ElasticsearchOperations elasticsearchOperations;
 
+    private ElasticsearchBulkIndexer bulkIndexer;
+
     private final StoreLogDataMapper storeLogDataMapper = new StoreLogDataMapper();
 
     public ElasticsearchOperations getElasticsearchOperations() {
@@ -38,6 +43,18 @@ public class ElasticSearchStoreLogDataService implements StoreLogDataService {
         this.elasticsearchOperations = elasticsearchOperations;
     }
 
+    public ElasticsearchBulkIndexer getBulkIndexer() {
+        return bulkIndexer;
+    }
+
+    public void setBulkIndexer(ElasticsearchBulkIndexer bulkIndexer) {
+        this.bulkIndexer = bulkIndexer;
+    }
+
+    private boolean isBulkIndexing() {
+        return bulkIndexer != null && bulkIndexer.isEnabled();
+    }
+
     @Override
     public boolean isEnabled() {
         return enabled;
@@ -49,6 +66,42 @@ public class ElasticSearchStoreLogDataService implements StoreLogDataService {
 
     @Override
     public void save(StoreLogData storeLogData) {
+        List<IndexQuery> indexQueries = createIndexQueries(storeLogData);
+        if (indexQueries == null) {
+            return;
+        }
+        if (isBulkIndexing()) {
+            bulkIndexer.index(indexQueries);
+            return;
+        }
+        for (IndexQuery indexQuery : indexQueries) {
+            try {
+                elasticsearchOperations.index(indexQuery);
+                elasticsearchOperations.refresh(indexQuery.getIndexName());
+            } catch (Exception e) {
+                // Continue the loop if exception occurs
+                log.error("Failed on ElasticSearch entity save operation.", e);
+            }
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<StoreLogData> storeLogData) {
+        if (!isBulkIndexing()) {
+            StoreLogDataService.super.saveAll(storeLogData);
+            return;
+        }
+        List<IndexQuery> indexQueries = new ArrayList<>();
+        for (StoreLogData data : storeLogData) {
+            List<IndexQuery> dataIndexQueries = createIndexQueries(data);
+            if (dataIndexQueries != null) {
+                indexQueries.addAll(dataIndexQueries);
+            }
+        }
+        bulkIndexer.index(indexQueries);
+    }
+
+    private List<IndexQuery> createIndexQueries(StoreLogData storeLogData) {
         Object[] entities;
 
         StoreLogDataToElasticsearch storeLogDataToElasticsearchAnnotation = storeLogData.getServiceClass()
@@ -59,7 +112,7 @@ public class ElasticSearchStoreLogDataService implements StoreLogDataService {
             storeLogDataToElasticsearchAnnotation = serviceMethod.getAnnotation(StoreLogDataToElasticsearch.class);
         }
         if (storeLogDataToElasticsearchAnnotation == null) {
-            return;
+            return null;
         }
 
         if (storeLogDataToElasticsearchAnnotation.value().length == 0) {
@@ -81,15 +134,14 @@ public class ElasticSearchStoreLogDataService implements StoreLogDataService {
                                     .printQualifiedMethodName(serviceMethod) + "'" : StringUtils.EMPTY,
                                 entityClass.getTypeName()), e);
                         }
-                        return;
+                        return null;
                     }
                 }
                 i++;
             }
         }
 
-        IndexQuery[] indexQueries = new IndexQuery[entities.length];
-        int i = 0;
+        List<IndexQuery> indexQueries = new ArrayList<>(entities.length);
 
         for (Object entity : entities) {
             try {
@@ -107,7 +159,7 @@ public class ElasticSearchStoreLogDataService implements StoreLogDataService {
                             e);
                     }
                 }
-                return;
+                return null;
             }
         }
 
@@ -121,19 +173,9 @@ public class ElasticSearchStoreLogDataService implements StoreLogDataService {
                 .withSource(null)
                 .withParentId(null)
                 .build();
-            indexQueries[i++] = indexQuery;
-        }
-        for (IndexQuery indexQuery : indexQueries) {
-            if (indexQuery != null) {
-                try {
-                    elasticsearchOperations.index(indexQuery);
-                    elasticsearchOperations.refresh(indexQuery.getIndexName());
-                } catch (Exception e) {
-                    // Continue the loop if exception occurs
-                    log.error("Failed on ElasticSearch entity save operation.", e);
-                }
-            }
+            indexQueries.add(indexQuery);
         }
+        return indexQueries;
     }
 
     private String extractId(Object entity) {
@@ -0,0 +1,271 @@
+package org.openl.rules.ruleservice.storelogdata.elasticsearch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.elasticsearch.ElasticsearchException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+
+/**
+ * Collects index queries of many requests and sends them by the bulk API when the configured count of queries is
+ * collected or the flush interval is elapsed. Failed documents of a bulk request are retried with exponential backoff.
+ */
+public class ElasticsearchBulkIndexer implements InitializingBean, DisposableBean {
+
+    private final Logger log = LoggerFactory.getLogger(ElasticsearchBulkIndexer.class);
+
+    private ElasticsearchOperations elasticsearchOperations;
+    private boolean enabled;
+    private int bulkSize = 500;
+    private long flushInterval = 1000;
+    private int maxRetries = 3;
+    private long retryBackoff = 100;
+
+    private final List<IndexQuery> pendingQueries = new ArrayList<>();
+    private final Object flushLock = new Object();
+    private ScheduledExecutorService flushExecutor;
+
+    private final LongAdder flushCount = new LongAdder();
+    private final LongAdder flushTime = new LongAdder();
+    private final LongAdder indexedCount = new LongAdder();
+    private final LongAdder retriedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private volatile long lastFlushTime;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (isEnabled() && flushInterval > 0) {
+            flushExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "elasticsearch-store-log-data-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flushExecutor.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdownNow();
+        }
+        flush();
+    }
+
+    /**
+     * Adds the queries to the next bulk request. The bulk request is sent by the calling thread if the bulk size is
+     * reached.
+     */
+    public void index(Collection<IndexQuery> indexQueries) {
+        boolean full;
+        synchronized (pendingQueries) {
+            pendingQueries.addAll(indexQueries);
+            full = pendingQueries.size() >= bulkSize;
+        }
+        if (full) {
+            flush();
+        }
+    }
+
+    /**
+     * Sends all pending queries.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            List<IndexQuery> queries;
+            synchronized (pendingQueries) {
+                if (pendingQueries.isEmpty()) {
+                    return;
+                }
+                queries = new ArrayList<>(pendingQueries);
+                pendingQueries.clear();
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < queries.size(); i += bulkSize) {
+                bulkIndex(queries.subList(i, Math.min(i + bulkSize, queries.size())));
+            }
+            lastFlushTime = System.nanoTime() - start;
+            flushTime.add(lastFlushTime);
+            flushCount.increment();
+        }
+    }
+
+    private void bulkIndex(List<IndexQuery> queries) {
+        List<IndexQuery> remaining = queries;
+        for (int attempt = 0;; attempt++) {
+            try {
+                elasticsearchOperations.bulkIndex(remaining);
+                indexedCount.add(remaining.size());
+                refresh(remaining);
+                return;
+            } catch (ElasticsearchException e) {
+                List<IndexQuery> failed = getFailedQueries(remaining, e.getFailedDocuments());
+                indexedCount.add(remaining.size() - failed.size());
+                if (failed.size() < remaining.size()) {
+                    refresh(remaining);
+                }
+                remaining = failed;
+                if (attempt >= maxRetries) {
+                    fail(remaining, e);
+                    return;
+                }
+            } catch (Exception e) {
+                if (attempt >= maxRetries) {
+                    fail(remaining, e);
+                    return;
+                }
+            }
+            retriedCount.add(remaining.size());
+            if (!sleep(retryBackoff << Math.min(attempt, 16))) {
+                fail(remaining, null);
+                return;
+            }
+        }
+    }
+
+    private static List<IndexQuery> getFailedQueries(List<IndexQuery> queries, Map<String, String> failedDocuments) {
+        if (failedDocuments == null || failedDocuments.isEmpty()) {
+            // The failed documents are unknown, so all of them are retried
+            return queries;
+        }
+        List<IndexQuery> failed = new ArrayList<>();
+        for (IndexQuery query : queries) {
+            if (failedDocuments.containsKey(query.getId())) {
+                failed.add(query);
+            }
+        }
+        return failed.isEmpty() ? queries : failed;
+    }
+
+    private void refresh(List<IndexQuery> queries) {
+        Set<String> indexNames = new LinkedHashSet<>();
+        for (IndexQuery query : queries) {
+            indexNames.add(query.getIndexName());
+        }
+        for (String indexName : indexNames) {
+            try {
+                elasticsearchOperations.refresh(indexName);
+            } catch (Exception e) {
+                log.error("Failed to refresh ElasticSearch index '{}'.", indexName, e);
+            }
+        }
+    }
+
+    private void fail(List<IndexQuery> queries, Exception e) {
+        failedCount.add(queries.size());
+        log.error("Failed to index {} ElasticSearch entities.", queries.size(), e);
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * @return count of the not sent queries
+     */
+    public int getPendingCount() {
+        synchronized (pendingQueries) {
+            return pendingQueries.size();
+        }
+    }
+
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    /**
+     * @return total time of the flushes in nanoseconds including retries
+     */
+    public long getFlushTime() {
+        return flushTime.sum();
+    }
+
+    /**
+     * @return time of the last flush in nanoseconds
+     */
+    public long getLastFlushTime() {
+        return lastFlushTime;
+    }
+
+    public long getIndexedCount() {
+        return indexedCount.sum();
+    }
+
+    public long getRetriedCount() {
+        return retriedCount.sum();
+    }
+
+    /**
+     * @return count of the documents which are not indexed after all retries
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    public ElasticsearchOperations getElasticsearchOperations() {
+        return elasticsearchOperations;
+    }
+
+    public void setElasticsearchOperations(ElasticsearchOperations elasticsearchOperations) {
+        this.elasticsearchOperations = elasticsearchOperations;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBulkSize() {
+        return bulkSize;
+    }
+
+    public void setBulkSize(int bulkSize) {
+        this.bulkSize = Math.max(1, bulkSize);
+    }
+
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(long flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = Math.max(0, maxRetries);
+    }
+
+    public long getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    public void setRetryBackoff(long retryBackoff) {
+        this.retryBackoff = Math.max(0, retryBackoff);
+    }
+}
@@ -0,0 +1,91 @@
+package org.openl.rules.ruleservice.storelogdata.elasticsearch;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.elasticsearch.ElasticsearchException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+
+public class ElasticsearchBulkIndexerTest {
+
+    private ElasticsearchOperations elasticsearchOperations;
+    private ElasticsearchBulkIndexer bulkIndexer;
+
+    @Before
+    public void init() {
+        elasticsearchOperations = Mockito.mock(ElasticsearchOperations.class);
+        bulkIndexer = new ElasticsearchBulkIndexer();
+        bulkIndexer.setElasticsearchOperations(elasticsearchOperations);
+        bulkIndexer.setEnabled(true);
+        bulkIndexer.setFlushInterval(0);
+        bulkIndexer.setRetryBackoff(0);
+        bulkIndexer.setBulkSize(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFlushByBulkSize() {
+        bulkIndexer.index(Collections.singletonList(query("1")));
+        Mockito.verify(elasticsearchOperations, Mockito.never()).bulkIndex(Mockito.anyList());
+        assertEquals(1, bulkIndexer.getPendingCount());
+
+        bulkIndexer.index(Arrays.asList(query("2"), query("3")));
+        ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(elasticsearchOperations, Mockito.times(2)).bulkIndex(captor.capture());
+        assertEquals(2, captor.getAllValues().get(0).size());
+        assertEquals(1, captor.getAllValues().get(1).size());
+        Mockito.verify(elasticsearchOperations, Mockito.times(2)).refresh("index");
+        assertEquals(0, bulkIndexer.getPendingCount());
+        assertEquals(3, bulkIndexer.getIndexedCount());
+        assertEquals(1, bulkIndexer.getFlushCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRetryFailedDocuments() {
+        Mockito.doThrow(
+            new ElasticsearchException("Bulk indexing has failures.", Collections.singletonMap("2", "failure")))
+            .doNothing()
+            .when(elasticsearchOperations)
+            .bulkIndex(Mockito.anyList());
+
+        bulkIndexer.index(Arrays.asList(query("1"), query("2")));
+        ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(elasticsearchOperations, Mockito.times(2)).bulkIndex(captor.capture());
+        List<IndexQuery> retried = captor.getAllValues().get(1);
+        assertEquals(1, retried.size());
+        assertEquals("2", retried.get(0).getId());
+        assertEquals(2, bulkIndexer.getIndexedCount());
+        assertEquals(1, bulkIndexer.getRetriedCount());
+        assertEquals(0, bulkIndexer.getFailedCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFailAfterRetries() {
+        bulkIndexer.setMaxRetries(1);
+        Mockito.doThrow(new IllegalStateException("Connection refused"))
+            .when(elasticsearchOperations)
+            .bulkIndex(Mockito.anyList());
+
+        bulkIndexer.index(Arrays.asList(query("1"), query("2")));
+        Mockito.verify(elasticsearchOperations, Mockito.times(2)).bulkIndex(Mockito.anyList());
+        assertEquals(0, bulkIndexer.getIndexedCount());
+        assertEquals(2, bulkIndexer.getFailedCount());
+    }
+
+    private static IndexQuery query(String id) {
+        IndexQuery indexQuery = new IndexQuery();
+        indexQuery.setId(id);
+        indexQuery.setIndexName("index");
+        return indexQuery;
+    }
+}
@@ -1,118 +1,207 @@
 package org.openl.rules.ruleservice.storelogdata.hive;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Date;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class HiveEntityDao {
+    private static final Map<Class<?>, ValueBinder> VALUE_BINDERS = new HashMap<>();
+
+    static {
+        VALUE_BINDERS.put(String.class, (st, i, v) -> st.setString(i, (String) v));
+        addBinder(Integer.class, int.class, Types.INTEGER, (st, i, v) -> st.setInt(i, (Integer) v));
+        addBinder(Long.class, long.class, Types.BIGINT, (st, i, v) -> st.setLong(i, (Long) v));
+        addBinder(Boolean.class, boolean.class, Types.BOOLEAN, (st, i, v) -> st.setBoolean(i, (Boolean) v));
+        addBinder(Short.class, short.class, Types.SMALLINT, (st, i, v) -> st.setShort(i, (Short) v));
+        addBinder(Byte.class, byte.class, Types.TINYINT, (st, i, v) -> st.setByte(i, (Byte) v));
+        addBinder(Double.class, double.class, Types.DOUBLE, (st, i, v) -> st.setDouble(i, (Double) v));
+        addBinder(Float.class, float.class, Types.FLOAT, (st, i, v) -> st.setFloat(i, (Float) v));
+        VALUE_BINDERS.put(BigDecimal.class, (st, i, v) -> st.setBigDecimal(i, (BigDecimal) v));
+        VALUE_BINDERS.put(ZonedDateTime.class,
+            (st, i, v) -> st.setTimestamp(i,
+                v == null ? null : Timestamp.valueOf(((ZonedDateTime) v).toLocalDateTime())));
+        VALUE_BINDERS.put(LocalDateTime.class,
+            (st, i, v) -> st.setTimestamp(i, v == null ? null : Timestamp.valueOf((LocalDateTime) v)));
+        VALUE_BINDERS.put(LocalDate.class,
+            (st, i, v) -> st.setDate(i, v == null ? null : java.sql.Date.valueOf((LocalDate) v)));
+        VALUE_BINDERS.put(Date.class,
+            (st, i, v) -> st.setDate(i, v == null ? null : new java.sql.Date(((Date) v).getTime())));
+    }
+
+    private final Connection connection;
+    private final Class<?> entityClass;
     private final PreparedStatement preparedStatement;
-    private final ArrayList<Field> sortedFields;
-    private final Set<Class<?>> supportedTypes = new HashSet<>(Arrays.asList(Byte.class,
-        byte.class,
-        Short.class,
-        short.class,
-        Integer.class,
-        int.class,
-        Long.class,
-        long.class,
-        Float.class,
-        float.class,
-        Double.class,
-        double.class,
-        BigDecimal.class,
-        Boolean.class,
-        boolean.class,
-        String.class,
-        LocalDateTime.class,
-        LocalDate.class,
-        ZonedDateTime.class,
-        Date.class));
+    private final FieldBinder[] binders;
+    private final int batchSize;
+    private final boolean batchUpdatesSupported;
+    private PreparedStatement batchStatement;
 
     public HiveEntityDao(Connection connection, Class<?> entityClass) throws SQLException,
                                                                       UnsupportedFieldTypeException {
+        this(connection, entityClass, 1);
+    }
+
+    /**
+     * @param batchSize count of rows which are usually inserted at once by {@link #insertAll(List)}. The statement for
+     *            this count of rows is prepared once if the driver does not support batch updates.
+     */
+    public HiveEntityDao(Connection connection, Class<?> entityClass, int batchSize) throws SQLException,
+                                                                                     UnsupportedFieldTypeException {
         checkTypes(entityClass);
+        this.connection = connection;
+        this.entityClass = entityClass;
+        this.batchSize = batchSize;
         preparedStatement = new HiveStatementBuilder(connection, entityClass).buildInsertStatement();
-        sortedFields = Arrays.stream(entityClass.getDeclaredFields())
-                .filter(f -> !f.isSynthetic())
-                .sorted(Comparator.comparing(Field::getName))
-                .peek(f -> f.setAccessible(true))
-                .collect(Collectors.toCollection(ArrayList::new));
+        binders = createBinders(entityClass);
+        batchUpdatesSupported = isBatchUpdatesSupported(connection);
+    }
+
+    private static void addBinder(Class<?> type, Class<?> primitiveType, int sqlType, ValueBinder binder) {
+        ValueBinder nullSafeBinder = (st, i, v) -> {
+            if (v == null) {
+                st.setNull(i, sqlType);
+            } else {
+                binder.bind(st, i, v);
+            }
+        };
+        VALUE_BINDERS.put(type, nullSafeBinder);
+        VALUE_BINDERS.put(primitiveType, nullSafeBinder);
+    }
+
+    private static boolean isBatchUpdatesSupported(Connection connection) {
+        try {
+            DatabaseMetaData metaData = connection.getMetaData();
+            return metaData != null && metaData.supportsBatchUpdates();
+        } catch (SQLException e) {
+            return false;
+        }
     }
 
     private void checkTypes(Class<?> entityClass) throws UnsupportedFieldTypeException {
         for (Field field : entityClass.getDeclaredFields()) {
-            if (!field.isSynthetic() && !supportedTypes.contains(field.getType())) {
+            if (!field.isSynthetic() && !VALUE_BINDERS.containsKey(field.getType())) {
                 throw new UnsupportedFieldTypeException(String.format(
                     "Entity '%s' contains field '%s' with unsupported type '%s'. Allowed types are '%s'.",
                     entityClass.getTypeName(),
                     field.getName(),
                     field.getType().getTypeName(),
-                    supportedTypes.stream().map(Class::getName).collect(Collectors.joining(", "))));
+                    VALUE_BINDERS.keySet().stream().map(Class::getName).collect(Collectors.joining(", "))));
+            }
+        }
+    }
+
+    /**
+     * Creates the binders of the entity fields in the order of the statement parameters. The getter and the statement
+     * setter of every field are resolved once, so the entities are bound without the reflection.
+     */
+    private static FieldBinder[] createBinders(Class<?> entityClass) throws UnsupportedFieldTypeException {
+        List<Field> sortedFields = Arrays.stream(entityClass.getDeclaredFields())
+            .filter(f -> !f.isSynthetic())
+            .sorted(Comparator.comparing(Field::getName))
+            .collect(Collectors.toList());
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodType getterType = MethodType.methodType(Object.class, Object.class);
+        FieldBinder[] binders = new FieldBinder[sortedFields.size()];
+        for (int index = 0; index < binders.length; index++) {
+            Field field = sortedFields.get(index);
+            MethodHandle getter;
+            try {
+                field.setAccessible(true);
+                getter = lookup.unreflectGetter(field).asType(getterType);
+            } catch (IllegalAccessException | RuntimeException e) {
+                throw new UnsupportedFieldTypeException(String.format("Field '%s' of class '%s' can not be stored.",
+                    field.getName(),
+                    entityClass.getTypeName()), e);
             }
+            ValueBinder valueBinder = VALUE_BINDERS.get(field.getType());
+            int parameter = index + 1;
+            binders[index] = (st, offset, entity) -> valueBinder.bind(st, offset + parameter, getValue(getter, entity));
         }
+        return binders;
     }
 
-    public void insert(Object entity) throws IllegalAccessException, SQLException, UnsupportedFieldTypeException {
-        for (int index = 0; index < sortedFields.size(); index++) {
-            setValue(index + 1, sortedFields.get(index), entity);
+    private static Object getValue(MethodHandle getter, Object entity) {
+        try {
+            return (Object) getter.invokeExact(entity);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
         }
+    }
+
+    public synchronized void insert(Object entity) throws SQLException {
+        bind(preparedStatement, 0, entity);
         preparedStatement.execute();
     }
 
-    private void setValue(int index, Field field, Object entity) throws IllegalAccessException,
-                                                                 SQLException,
-                                                                 UnsupportedFieldTypeException {
-        if (String.class.equals(field.getType())) {
-            preparedStatement.setString(index, (String) field.get(entity));
-        } else if (Integer.class.equals(field.getType()) || int.class.equals(field.getType())) {
-            preparedStatement.setInt(index, field.getInt(entity));
-        } else if (Long.class.equals(field.getType()) || long.class.equals(field.getType())) {
-            preparedStatement.setLong(index, field.getLong(entity));
-        } else if (Boolean.class.equals(field.getType()) || boolean.class.equals(field.getType())) {
-            preparedStatement.setBoolean(index, field.getBoolean(entity));
-        } else if (Short.class.equals(field.getType()) || short.class.equals(field.getType())) {
-            preparedStatement.setShort(index, field.getShort(entity));
-        } else if (Byte.class.equals(field.getType()) || byte.class.equals(field.getType())) {
-            preparedStatement.setByte(index, field.getByte(entity));
-        } else if (Double.class.equals(field.getType()) || double.class.equals(field.getType())) {
-            preparedStatement.setDouble(index, field.getDouble(entity));
-        } else if (Float.class.equals(field.getType()) || float.class.equals(field.getType())) {
-            preparedStatement.setFloat(index, field.getFloat(entity));
-        } else if (BigDecimal.class.equals(field.getType())) {
-            preparedStatement.setBigDecimal(index, (BigDecimal) field.get(entity));
-        } else if (ZonedDateTime.class.equals(field.getType())) {
-            ZonedDateTime zonedDateTime = (ZonedDateTime) field.get(entity);
-            preparedStatement.setTimestamp(index,
-                zonedDateTime == null ? null : java.sql.Timestamp.valueOf(zonedDateTime.toLocalDateTime()));
-        } else if (LocalDateTime.class.equals(field.getType())) {
-            LocalDateTime localDateTime = (LocalDateTime) field.get(entity);
-            preparedStatement.setTimestamp(index, localDateTime == null ? null : Timestamp.valueOf(localDateTime));
-        } else if (LocalDate.class.equals(field.getType())) {
-            LocalDate date = (LocalDate) field.get(entity);
-            preparedStatement.setDate(index, date == null ? null : java.sql.Date.valueOf(date));
-        } else if (Date.class.equals(field.getType())) {
-            Date date = (Date) field.get(entity);
-            preparedStatement.setDate(index, date == null ? null : new java.sql.Date(date.getTime()));
+    /**
+     * Inserts the entities by a single batch. If the driver does not support batch updates, then a single statement
+     * with multiple rows is executed.
+     */
+    public synchronized void insertAll(List<?> entities) throws SQLException {
+        if (entities.isEmpty()) {
+            return;
+        }
+        if (entities.size() == 1) {
+            insert(entities.get(0));
+        } else if (batchUpdatesSupported) {
+            for (Object entity : entities) {
+                bind(preparedStatement, 0, entity);
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        } else if (entities.size() == batchSize) {
+            if (batchStatement == null) {
+                batchStatement = new HiveStatementBuilder(connection, entityClass).buildInsertStatement(batchSize);
+            }
+            insertRows(batchStatement, entities);
         } else {
-            throw new UnsupportedFieldTypeException(
-                String.format("Field '%s' of class '%s' can not be stored. Unsupported field type '%s'.",
-                    field.getName(),
-                    field.getType().getTypeName(),
-                    field.getType()));
+            try (PreparedStatement statement = new HiveStatementBuilder(connection, entityClass)
+                .buildInsertStatement(entities.size())) {
+                insertRows(statement, entities);
+            }
+        }
+    }
+
+    private void insertRows(PreparedStatement statement, List<?> entities) throws SQLException {
+        for (int row = 0; row < entities.size(); row++) {
+            bind(statement, row * binders.length, entities.get(row));
+        }
+        statement.execute();
+    }
+
+    private void bind(PreparedStatement statement, int offset, Object entity) throws SQLException {
+        for (FieldBinder binder : binders) {
+            binder.bind(statement, offset, entity);
         }
     }
 
+    @FunctionalInterface
+    private interface ValueBinder {
+        void bind(PreparedStatement statement, int index, Object value) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface FieldBinder {
+        void bind(PreparedStatement statement, int offset, Object entity) throws SQLException;
+    }
 }
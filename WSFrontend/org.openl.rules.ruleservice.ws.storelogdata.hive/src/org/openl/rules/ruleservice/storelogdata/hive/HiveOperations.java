@@ -7,11 +7,18 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.openl.rules.ruleservice.core.OpenLService;
@@ -35,6 +42,10 @@ public class HiveOperations implements InitializingBean, DisposableBean, RuleSer
         Collections.unmodifiableMap(new HashMap<>()));
     private boolean enabled;
     private String connectionURL;
+    private int batchSize = 100;
+    private long flushInterval = 1000;
+    private final Map<Class<?>, List<Object>> pendingEntities = new LinkedHashMap<>();
+    private ScheduledExecutorService flushExecutor;
 
     @Override
     public void afterPropertiesSet() {
@@ -44,6 +55,14 @@ public class HiveOperations implements InitializingBean, DisposableBean, RuleSer
             } catch (Exception e) {
                 log.error("Hive initialization failure.", e);
             }
+            if (flushInterval > 0) {
+                flushExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+                    Thread thread = new Thread(r, "hive-store-log-data-flush");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                flushExecutor.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+            }
         }
     }
 
@@ -64,6 +83,12 @@ public class HiveOperations implements InitializingBean, DisposableBean, RuleSer
 
     @Override
     public void destroy() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdownNow();
+        }
+        if (isEnabled()) {
+            flush();
+        }
         if (connection != null) {
             try {
                 connection.close();
@@ -81,6 +106,7 @@ public class HiveOperations implements InitializingBean, DisposableBean, RuleSer
     @Override
     public void onUndeploy(String deployPath) {
         if (isEnabled()) {
+            flush();
             entitiesWithAlreadyCreatedSchema.set(Collections.emptySet());
             entitySavers.set(Collections.emptyMap());
         }
@@ -101,6 +127,69 @@ public class HiveOperations implements InitializingBean, DisposableBean, RuleSer
         }
     }
 
+    /**
+     * Inserts the entities by batches of the configured size. If the flush interval is positive, then the entities
+     * which do not fill a batch are kept until the next batch or the flush by the interval.
+     */
+    public void saveAll(Collection<?> entities) {
+        if (!isEnabled()) {
+            throw new IllegalStateException("Failed to save entities to Hive. Feature is not enabled.");
+        }
+        Map<Class<?>, List<Object>> readyEntities = new LinkedHashMap<>();
+        synchronized (pendingEntities) {
+            for (Object entity : entities) {
+                if (entity == null) {
+                    continue;
+                }
+                List<Object> pending = pendingEntities.computeIfAbsent(entity.getClass(), e -> new ArrayList<>());
+                pending.add(entity);
+                if (pending.size() >= batchSize) {
+                    readyEntities.computeIfAbsent(entity.getClass(), e -> new ArrayList<>()).addAll(pending);
+                    pending.clear();
+                }
+            }
+            if (flushInterval <= 0) {
+                movePendingEntities(readyEntities);
+            }
+        }
+        insertAll(readyEntities);
+    }
+
+    /**
+     * Inserts all pending entities.
+     */
+    public void flush() {
+        Map<Class<?>, List<Object>> readyEntities = new LinkedHashMap<>();
+        synchronized (pendingEntities) {
+            movePendingEntities(readyEntities);
+        }
+        insertAll(readyEntities);
+    }
+
+    private void movePendingEntities(Map<Class<?>, List<Object>> readyEntities) {
+        for (Map.Entry<Class<?>, List<Object>> entry : pendingEntities.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                readyEntities.computeIfAbsent(entry.getKey(), e -> new ArrayList<>()).addAll(entry.getValue());
+            }
+        }
+        pendingEntities.clear();
+    }
+
+    private void insertAll(Map<Class<?>, List<Object>> entitiesByClass) {
+        for (Map.Entry<Class<?>, List<Object>> entry : entitiesByClass.entrySet()) {
+            List<Object> entities = entry.getValue();
+            try {
+                createTableIfNotExists(entry.getKey());
+                HiveEntityDao hiveEntityDao = getHiveEntityDao(entry.getKey());
+                for (int i = 0; i < entities.size(); i += batchSize) {
+                    hiveEntityDao.insertAll(entities.subList(i, Math.min(i + batchSize, entities.size())));
+                }
+            } catch (Exception e) {
+                log.error("Failed to save hive entities.", e);
+            }
+        }
+    }
+
     private HiveEntityDao getHiveEntityDao(Class<?> entityClass) throws SQLException, UnsupportedFieldTypeException {
         HiveEntityDao hiveEntityDao = null;
         Map<Class<?>, HiveEntityDao> current;
@@ -112,7 +201,7 @@ public class HiveOperations implements InitializingBean, DisposableBean, RuleSer
                 return currentEntitySaver;
             } else {
                 if (hiveEntityDao == null) {
-                    hiveEntityDao = new HiveEntityDao(connection, entityClass);
+                    hiveEntityDao = new HiveEntityDao(connection, entityClass, batchSize);
                 }
                 next = new HashMap<>(current);
                 next.put(entityClass, hiveEntityDao);
@@ -177,6 +266,26 @@ public class HiveOperations implements InitializingBean, DisposableBean, RuleSer
         this.connectionURL = connectionURL;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * @param flushInterval time in milliseconds after which not full batches are inserted. Not positive value means
+     *            that the entities are inserted without waiting for a full batch.
+     */
+    public void setFlushInterval(long flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
     private static String extractSqlQueryForEntity(Class<?> entityClass) throws IOException {
         InputStream inputStream = entityClass
             .getResourceAsStream("/" + entityClass.getName().replaceAll("\\.", "/") + ".sql");
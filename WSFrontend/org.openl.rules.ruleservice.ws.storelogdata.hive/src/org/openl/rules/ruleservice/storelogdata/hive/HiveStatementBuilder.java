@@ -4,6 +4,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -12,7 +13,7 @@ import org.openl.util.StringUtils;
 
 public final class HiveStatementBuilder {
 
-    private static final String INSERT_QUERY = "INSERT INTO TABLE %s (%s) VALUES (%s)";
+    private static final String INSERT_QUERY = "INSERT INTO TABLE %s (%s) VALUES %s";
     private final Class<?> entityClass;
     private final Connection connection;
 
@@ -29,8 +30,20 @@ public final class HiveStatementBuilder {
         return connection.prepareStatement(buildQuery());
     }
 
+    /**
+     * Builds the statement which inserts the given count of rows at once.
+     */
+    public PreparedStatement buildInsertStatement(int rows) throws SQLException {
+        return connection.prepareStatement(buildQuery(rows));
+    }
+
     String buildQuery() {
-        return String.format(INSERT_QUERY, getTableName(), getFields(), getParameters());
+        return buildQuery(1);
+    }
+
+    String buildQuery(int rows) {
+        String values = String.join(",", Collections.nCopies(rows, "(" + getParameters() + ")"));
+        return String.format(INSERT_QUERY, getTableName(), getFields(), values);
     }
 
     String getTableName() {
@@ -1,6 +1,9 @@
 package org.openl.rules.ruleservice.storelogdata.hive;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
 import org.openl.binding.MethodUtil;
@@ -24,16 +27,45 @@ public class HiveStoreLogDataService implements StoreLogDataService {
 
     @Override
     public void save(StoreLogData storeLogData) {
+        Object[] entities = createEntities(storeLogData);
+        if (entities != null) {
+            saveEntities(entities);
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<StoreLogData> storeLogData) {
+        List<Object> entities = new ArrayList<>();
+        for (StoreLogData data : storeLogData) {
+            Object[] dataEntities = createEntities(data);
+            if (dataEntities != null) {
+                for (Object entity : dataEntities) {
+                    if (entity != null) {
+                        entities.add(entity);
+                    }
+                }
+            }
+        }
+        if (!entities.isEmpty()) {
+            try {
+                hiveOperations.saveAll(entities);
+            } catch (Exception e) {
+                log.error("Failed on hive entity save operation.", e);
+            }
+        }
+    }
+
+    private Object[] createEntities(StoreLogData storeLogData) {
         StoreLogDataToHive storeLogDataAnnotation = getAnnotation(storeLogData);
         if (storeLogDataAnnotation == null)
-            return;
+            return null;
 
         Object[] entities = getEntities(storeLogDataAnnotation, storeLogData.getServiceMethod());
         if (entities == null)
-            return;
+            return null;
 
         mapEntities(storeLogData, entities, storeLogData.getServiceMethod());
-        saveEntities(entities);
+        return entities;
     }
 
     private void saveEntities(Object[] entities) {
@@ -4,4 +4,8 @@ public class UnsupportedFieldTypeException extends Exception {
     public UnsupportedFieldTypeException(String message) {
         super(message);
     }
+
+    public UnsupportedFieldTypeException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -0,0 +1,16 @@
+package org.openl.rules.ruleservice.storelogdata.hive;
+
+import org.openl.rules.ruleservice.storelogdata.hive.annotation.Entity;
+
+@Entity("boxed")
+public class BoxedEntity {
+    private Integer value;
+
+    public Integer getValue() {
+        return value;
+    }
+
+    public void setValue(Integer value) {
+        this.value = value;
+    }
+}
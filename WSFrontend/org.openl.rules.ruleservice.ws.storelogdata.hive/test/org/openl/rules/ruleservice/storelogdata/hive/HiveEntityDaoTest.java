@@ -1,14 +1,19 @@
 package org.openl.rules.ruleservice.storelogdata.hive;
 
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.contains;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.Date;
 
 import org.junit.Before;
@@ -59,6 +64,56 @@ public class HiveEntityDaoTest {
         hiveEntityDao.insert(defaultHiveEntity);
     }
 
+    @Test
+    public void insertTest_boundValues() throws SQLException, UnsupportedFieldTypeException {
+        HiveEntityDao hiveEntityDao = new HiveEntityDao(connection, DefaultHiveEntity.class);
+        DefaultHiveEntity defaultHiveEntity = getDefaultHiveEntity();
+        defaultHiveEntity.setOutcomingTime(null);
+        hiveEntityDao.insert(defaultHiveEntity);
+        // Fields are bound in the alphabetical order
+        Mockito.verify(preparedStatement).setString(1, "id");
+        Mockito.verify(preparedStatement).setString(3, "methodName");
+        Mockito.verify(preparedStatement).setTimestamp(4, null);
+        Mockito.verify(preparedStatement).setString(9, "url");
+        Mockito.verify(preparedStatement).execute();
+    }
+
+    @Test
+    public void insertAllTest_batchUpdates() throws SQLException, UnsupportedFieldTypeException {
+        DatabaseMetaData metaData = Mockito.mock(DatabaseMetaData.class);
+        Mockito.when(metaData.supportsBatchUpdates()).thenReturn(true);
+        Mockito.when(connection.getMetaData()).thenReturn(metaData);
+        HiveEntityDao hiveEntityDao = new HiveEntityDao(connection, DefaultHiveEntity.class, 2);
+        hiveEntityDao.insertAll(Arrays.asList(getDefaultHiveEntity(), getDefaultHiveEntity()));
+        Mockito.verify(preparedStatement, Mockito.times(2)).addBatch();
+        Mockito.verify(preparedStatement).executeBatch();
+        Mockito.verify(preparedStatement, Mockito.never()).execute();
+    }
+
+    @Test
+    public void insertAllTest_multipleRows() throws SQLException, UnsupportedFieldTypeException {
+        PreparedStatement multiRowStatement = Mockito.mock(PreparedStatement.class);
+        Mockito.when(connection.prepareStatement(contains("),("))).thenReturn(multiRowStatement);
+        HiveEntityDao hiveEntityDao = new HiveEntityDao(connection, SimpleEntity.class, 2);
+        SimpleEntity second = getSimpleEntity();
+        second.setId("second");
+        hiveEntityDao.insertAll(Arrays.asList(getSimpleEntity(), second));
+        hiveEntityDao.insertAll(Arrays.asList(getSimpleEntity(), second));
+        // The statement for the batch size is prepared once
+        Mockito.verify(connection).prepareStatement(contains("),("));
+        Mockito.verify(multiRowStatement, Mockito.times(2)).setString(4, "id");
+        Mockito.verify(multiRowStatement, Mockito.times(2)).setString(14, "second");
+        Mockito.verify(multiRowStatement, Mockito.times(2)).execute();
+        Mockito.verify(multiRowStatement, Mockito.never()).setNull(anyInt(), anyInt());
+    }
+
+    @Test
+    public void insertTest_nullBoxedValue() throws SQLException, UnsupportedFieldTypeException {
+        HiveEntityDao hiveEntityDao = new HiveEntityDao(connection, BoxedEntity.class);
+        hiveEntityDao.insert(new BoxedEntity());
+        Mockito.verify(preparedStatement).setNull(1, Types.INTEGER);
+    }
+
     @Test(expected = UnsupportedFieldTypeException.class)
     public void insertTest_unsupportedType() throws SQLException, UnsupportedFieldTypeException {
         new HiveEntityDao(connection, WrongTypeEntity.class);
@@ -1,5 +1,9 @@
 package org.openl.rules.ruleservice.storelogdata;
 
+import java.util.Collection;
+
+import org.slf4j.LoggerFactory;
+
 /**
  * Interface for service that responsible for storing logging info into external resource.
  *
@@ -9,5 +13,19 @@ package org.openl.rules.ruleservice.storelogdata;
 public interface StoreLogDataService {
     void save(StoreLogData storeLogData);
 
+    /**
+     * Saves the batch of data. Services which support batch writes should override this method, by default the data
+     * are saved one by one and a failed one does not prevent saving of the rest.
+     */
+    default void saveAll(Collection<StoreLogData> storeLogData) {
+        for (StoreLogData data : storeLogData) {
+            try {
+                save(data);
+            } catch (Exception e) {
+                LoggerFactory.getLogger(getClass()).error("Failed on save operation.", e);
+            }
+        }
+    }
+
     boolean isEnabled();
 }
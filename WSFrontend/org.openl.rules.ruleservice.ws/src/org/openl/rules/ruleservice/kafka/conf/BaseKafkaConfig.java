@@ -23,6 +23,12 @@ public class BaseKafkaConfig {
     @JsonProperty(value = "dlt.topic.name")
     private String dltTopic;
 
+    @JsonProperty(value = "pipelined")
+    private boolean pipelined;
+
+    @JsonProperty(value = "max.in.flight.records")
+    private int maxInFlightRecords = 1024;
+
     public Properties getConsumerConfigs() {
         return consumerConfigs;
     }
@@ -71,4 +77,28 @@ public class BaseKafkaConfig {
         this.dltTopic = dltTopic;
     }
 
+    /**
+     * In the pipelined mode the records of every partition are processed in order independently of other partitions
+     * and the offsets are committed asynchronously as soon as the records are processed.
+     */
+    public boolean isPipelined() {
+        return pipelined;
+    }
+
+    public void setPipelined(boolean pipelined) {
+        this.pipelined = pipelined;
+    }
+
+    /**
+     * The maximum number of polled but not processed records of a partition in the pipelined mode. The partition is
+     * paused when the limit is reached.
+     */
+    public int getMaxInFlightRecords() {
+        return maxInFlightRecords;
+    }
+
+    public void setMaxInFlightRecords(int maxInFlightRecords) {
+        this.maxInFlightRecords = maxInFlightRecords;
+    }
+
 }
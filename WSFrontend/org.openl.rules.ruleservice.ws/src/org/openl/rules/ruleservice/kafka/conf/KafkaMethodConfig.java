@@ -9,6 +9,12 @@ public class KafkaMethodConfig extends BaseKafkaConfig {
     @JsonProperty(value = "method.parameters")
     private String methodParameters;
 
+    @JsonProperty(value = "invocation.batch.size")
+    private int invocationBatchSize;
+
+    @JsonProperty(value = "invocation.batch.producer.tuning")
+    private boolean invocationBatchProducerTuning = true;
+
     public String getMethodParameters() {
         return methodParameters;
     }
@@ -24,4 +30,33 @@ public class KafkaMethodConfig extends BaseKafkaConfig {
     public void setMethodName(String methodName) {
         this.methodName = methodName;
     }
+
+    /**
+     * The maximum count of polled records which are invoked one by one by a single task. The batches are invoked
+     * concurrently. In the pipelined mode it is the count of records of a partition which are invoked by a task before
+     * the other partitions get the thread. Zero disables the batch invocation.
+     * <p>
+     * The batch reduces the count of executor tasks only. The records are invoked through the service bean one by one,
+     * so every record uses the runtime environment which the service bean keeps for the current thread, as without
+     * batches. A runtime environment shared by the records of a batch is not supported.
+     */
+    public int getInvocationBatchSize() {
+        return invocationBatchSize;
+    }
+
+    public void setInvocationBatchSize(int invocationBatchSize) {
+        this.invocationBatchSize = invocationBatchSize;
+    }
+
+    /**
+     * If enabled, then the producer of the batch invocation gets linger and compression configs suitable for the
+     * batched output. Explicitly configured producer values are not overridden.
+     */
+    public boolean isInvocationBatchProducerTuning() {
+        return invocationBatchProducerTuning;
+    }
+
+    public void setInvocationBatchProducerTuning(boolean invocationBatchProducerTuning) {
+        this.invocationBatchProducerTuning = invocationBatchProducerTuning;
+    }
 }
@@ -22,6 +22,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serializer;
 import org.openl.rules.ruleservice.core.OpenLService;
@@ -320,6 +321,12 @@ public class KafkaRuleServicePublisher implements RuleServicePublisher, Resource
         return config;
     }
 
+    private static void tuneProducerConfigsForBatches(Properties configs) {
+        configs.putIfAbsent(ProducerConfig.LINGER_MS_CONFIG, "20");
+        configs.putIfAbsent(ProducerConfig.BATCH_SIZE_CONFIG, "131072");
+        configs.putIfAbsent(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+    }
+
     protected Properties cleanupConfigs(Properties config) {
         Properties props = new Properties();
         props.putAll(config);
@@ -438,8 +445,21 @@ public class KafkaRuleServicePublisher implements RuleServicePublisher, Resource
             cleanupConfigs(mergedKafkaConfig.getConsumerConfigs()));
         kafkaConsumers.add(consumer);
 
+        int invocationBatchSize = 0;
+        boolean tunedForBatches = false;
+        if (mergedKafkaConfig instanceof KafkaMethodConfig) {
+            KafkaMethodConfig kafkaMethodConfig = (KafkaMethodConfig) mergedKafkaConfig;
+            invocationBatchSize = kafkaMethodConfig.getInvocationBatchSize();
+            if (invocationBatchSize > 0 && kafkaMethodConfig.isInvocationBatchProducerTuning()) {
+                tuneProducerConfigsForBatches(mergedKafkaConfig.getProducerConfigs());
+                tunedForBatches = true;
+            }
+        }
+
         // Build Method Kafka Producer or reuse shared
-        boolean possibleToReuseShared = config.getProducerConfigs() == null || config.getProducerConfigs().isEmpty();
+        boolean possibleToReuseShared = !tunedForBatches && (config.getProducerConfigs() == null || config
+            .getProducerConfigs()
+            .isEmpty());
         ObjectSerializer objectSerializer = null;
         KafkaProducer<String, Object> producer = null;
         if (possibleToReuseShared) {
@@ -480,7 +500,10 @@ public class KafkaRuleServicePublisher implements RuleServicePublisher, Resource
             dltProducer,
             objectSerializer,
             getStoreLogDataManager(),
-            isStoreLogDataEnabled());
+            isStoreLogDataEnabled(),
+            mergedKafkaConfig.isPipelined(),
+            mergedKafkaConfig.getMaxInFlightRecords(),
+            invocationBatchSize);
         kafkaServices.add(kafkaService);
 
         kafkaService.start();
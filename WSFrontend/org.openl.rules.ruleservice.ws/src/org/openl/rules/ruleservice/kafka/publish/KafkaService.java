@@ -3,11 +3,18 @@ package org.openl.rules.ruleservice.kafka.publish;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -15,13 +22,15 @@ import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
-import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
-import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.header.Header;
 import org.openl.rules.project.model.RulesDeploy.PublisherType;
@@ -43,6 +52,9 @@ public final class KafkaService implements Runnable {
         TimeUnit.SECONDS,
             new LinkedBlockingQueue<>());
 
+    private static final String RECORDS_LAG_METRIC = "records-lag";
+    private static final long RECORDS_LAG_UPDATE_INTERVAL_MS = 1000;
+
     private final Logger log = LoggerFactory.getLogger(KafkaService.class);
 
     private volatile boolean flag = true;
@@ -51,24 +63,34 @@ public final class KafkaService implements Runnable {
     private final String outTopic;
     private final String dltTopic;
     private final Map<TopicPartition, OffsetAndMetadata> currentOffsets = new HashMap<>();
-    private final KafkaProducer<String, Object> producer;
-    private final KafkaProducer<String, byte[]> dltProducer;
-    private final KafkaConsumer<String, RequestMessage> consumer;
+    private final Producer<String, Object> producer;
+    private final Producer<String, byte[]> dltProducer;
+    private final Consumer<String, RequestMessage> consumer;
     private Thread loopRunningThread;
     private final ObjectSerializer objectSerializer;
     private final boolean storeLoggingEnabled;
     private StoreLogDataManager storeLogDataManager;
+    private final boolean pipelined;
+    private final int maxInFlightRecords;
+    private final int batchSize;
+    private final Map<TopicPartition, PartitionProcessor> partitionProcessors = new ConcurrentHashMap<>();
+    // The consumer is not thread safe, so the lag is read by the polling thread and published as a snapshot
+    private volatile Map<TopicPartition, Long> recordsLag = Collections.emptyMap();
+    private long recordsLagUpdateTime;
 
     public static KafkaService createService(OpenLService service,
             String inTopic,
             String outTopic,
             String dltTopic,
-            KafkaConsumer<String, RequestMessage> consumer,
-            KafkaProducer<String, Object> producer,
-            KafkaProducer<String, byte[]> dltProducer,
+            Consumer<String, RequestMessage> consumer,
+            Producer<String, Object> producer,
+            Producer<String, byte[]> dltProducer,
             ObjectSerializer objectSerializer,
             StoreLogDataManager storeLogDataManager,
-            boolean storeLogDataEnabled) {
+            boolean storeLogDataEnabled,
+            boolean pipelined,
+            int maxInFlightRecords,
+            int batchSize) {
         return new KafkaService(service,
             inTopic,
             outTopic,
@@ -78,19 +100,25 @@ public final class KafkaService implements Runnable {
             dltProducer,
             objectSerializer,
             storeLogDataManager,
-            storeLogDataEnabled);
+            storeLogDataEnabled,
+            pipelined,
+            maxInFlightRecords,
+            batchSize);
     }
 
     private KafkaService(OpenLService service,
             String inTopic,
             String outTopic,
             String dltTopic,
-            KafkaConsumer<String, RequestMessage> consumer,
-            KafkaProducer<String, Object> producer,
-            KafkaProducer<String, byte[]> dltProducer,
+            Consumer<String, RequestMessage> consumer,
+            Producer<String, Object> producer,
+            Producer<String, byte[]> dltProducer,
             ObjectSerializer objectSerializer,
             StoreLogDataManager storeLogDataManager,
-            boolean storeLoggingEnabled) {
+            boolean storeLoggingEnabled,
+            boolean pipelined,
+            int maxInFlightRecords,
+            int batchSize) {
         this.service = Objects.requireNonNull(service);
         this.inTopic = Objects.requireNonNull(inTopic);
         this.producer = Objects.requireNonNull(producer);
@@ -103,6 +131,9 @@ public final class KafkaService implements Runnable {
         this.outTopic = outTopic;
         this.dltTopic = dltTopic;
         this.storeLoggingEnabled = storeLoggingEnabled;
+        this.pipelined = pipelined;
+        this.maxInFlightRecords = Math.max(1, maxInFlightRecords);
+        this.batchSize = Math.max(0, batchSize);
     }
 
     public boolean isStoreLogDataEnabled() {
@@ -113,6 +144,99 @@ public final class KafkaService implements Runnable {
         return storeLogDataManager;
     }
 
+    public boolean isPipelined() {
+        return pipelined;
+    }
+
+    public boolean isBatchInvocation() {
+        return batchSize > 0;
+    }
+
+    /**
+     * Returns the count of the polled records which are not processed yet. It is always zero if the service is not
+     * pipelined, because the records are processed before the next poll.
+     */
+    public int getInFlightRecords() {
+        int count = 0;
+        for (PartitionProcessor processor : partitionProcessors.values()) {
+            count += processor.inFlight;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the count of the polled records which offsets are not committed yet. It includes the records in flight.
+     */
+    public long getUncommittedRecords() {
+        long count = 0;
+        for (PartitionProcessor processor : partitionProcessors.values()) {
+            count += processor.fetchedOffset - processor.committedOffset;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the records lag of the assigned partitions reported by the consumer. The lag is updated by the polling
+     * thread once a second, the partitions with unknown lag are absent.
+     */
+    public Map<TopicPartition, Long> getRecordsLag() {
+        return recordsLag;
+    }
+
+    /**
+     * Returns the consuming state of the service and its partitions.
+     */
+    public Map<String, Object> getInfo() {
+        Map<TopicPartition, Long> lag = recordsLag;
+        Map<String, Map<String, Object>> partitions = new TreeMap<>();
+        for (Map.Entry<TopicPartition, Long> entry : lag.entrySet()) {
+            getPartitionInfo(partitions, entry.getKey()).put("recordsLag", entry.getValue());
+        }
+        for (PartitionProcessor processor : partitionProcessors.values()) {
+            Map<String, Object> partitionInfo = getPartitionInfo(partitions, processor.partition);
+            partitionInfo.put("inFlightRecords", processor.inFlight);
+            partitionInfo.put("uncommittedRecords", processor.fetchedOffset - processor.committedOffset);
+        }
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("pipelined", pipelined);
+        info.put("batchSize", batchSize);
+        info.put("inFlightRecords", getInFlightRecords());
+        info.put("uncommittedRecords", getUncommittedRecords());
+        info.put("recordsLag", lag.values().stream().mapToLong(Long::longValue).sum());
+        info.put("partitions", partitions);
+        return info;
+    }
+
+    private static Map<String, Object> getPartitionInfo(Map<String, Map<String, Object>> partitions,
+            TopicPartition partition) {
+        return partitions.computeIfAbsent(partition.toString(), e -> new LinkedHashMap<>());
+    }
+
+    /**
+     * Takes the records lag from the consumer metrics. The metrics are not requested from the broker.
+     */
+    private void updateRecordsLag() {
+        long now = System.currentTimeMillis();
+        if (now - recordsLagUpdateTime < RECORDS_LAG_UPDATE_INTERVAL_MS) {
+            return;
+        }
+        recordsLagUpdateTime = now;
+        Map<TopicPartition, Long> lag = new HashMap<>();
+        for (Map.Entry<MetricName, ? extends Metric> entry : consumer.metrics().entrySet()) {
+            MetricName metricName = entry.getKey();
+            if (RECORDS_LAG_METRIC.equals(metricName.name())) {
+                String topic = metricName.tags().get("topic");
+                String partition = metricName.tags().get("partition");
+                Object value = entry.getValue().metricValue();
+                if (topic != null && partition != null && value instanceof Number && !Double
+                    .isNaN(((Number) value).doubleValue())) {
+                    lag.put(new TopicPartition(topic, Integer.parseInt(partition)), ((Number) value).longValue());
+                }
+            }
+        }
+        recordsLag = Collections.unmodifiableMap(lag);
+    }
+
     public OpenLService getService() {
         return service;
     }
@@ -145,6 +269,10 @@ public final class KafkaService implements Runnable {
         consumer.subscribe(Collections.singletonList(getInTopic()), new ConsumerRebalanceListener() {
             @Override
             public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+                if (pipelined) {
+                    revokePartitions(partitions);
+                    return;
+                }
                 if (log.isInfoEnabled()) {
                     log.info("Lost partitions in rebalance. Committing current offsets: {}", currentOffsets);
                 }
@@ -171,6 +299,7 @@ public final class KafkaService implements Runnable {
         try {
             initialize();
             runLoop();
+            KafkaServiceInfo.register(this);
         } catch (Exception e) {
             throw new KafkaServiceException("Failed to start kafka service.", e);
         }
@@ -182,93 +311,42 @@ public final class KafkaService implements Runnable {
 
     @Override
     public void run() {
+        if (pipelined) {
+            runPipelined();
+            return;
+        }
         while (flag) {
             try {
                 ConsumerRecords<String, RequestMessage> records = consumer.poll(Duration.ofMillis(100));
+                updateRecordsLag();
                 if (!records.isEmpty()) {
-                    CountDownLatch countDownLatch = new CountDownLatch(records.count());
                     ZonedDateTime incomingTime = ZonedDateTime.now();
-                    for (ConsumerRecord<String, RequestMessage> consumerRecord : records) {
-                        executor.submit(() -> {
-                            StoreLogData storeLogData = isStoreLogDataEnabled() ? StoreLogDataHolder.get() : null;
-                            try {
-                                if (storeLogData != null) {
-                                    storeLogData.setServiceClass(service.getServiceClass());
-                                    storeLogData.setServiceName(service.getName());
-                                    storeLogData.setIncomingMessageTime(incomingTime);
-                                    storeLogData.setPublisherType(PublisherType.KAFKA);
-                                    storeLogData.setObjectSerializer(getObjectSerializer());
-                                    storeLogData.setConsumerRecord(consumerRecord);
-                                }
-                                RequestMessage requestMessage = consumerRecord.value();
-                                if (storeLogData != null) {
-                                    storeLogData.setServiceMethod(requestMessage.getMethod());
-                                    storeLogData.setParameters(requestMessage.getParameters());
-                                }
-                                String outputTopic = getOutTopic(consumerRecord);
-                                if (!StringUtils.isBlank(outputTopic)) {
-                                    Object result = requestMessage.getMethod()
-                                        .invoke(service.getServiceBean(), requestMessage.getParameters());
-                                    Header header = consumerRecord.headers().lastHeader(KafkaHeaders.REPLY_PARTITION);
-                                    ProducerRecord<String, Object> producerRecord;
-                                    if (header == null) {
-                                        producerRecord = new ProducerRecord<>(outputTopic,
-                                            consumerRecord.key(),
-                                            result);
-                                    } else {
-                                        Integer partition = Integer
-                                            .parseInt(new String(header.value(), StandardCharsets.UTF_8));
-                                        producerRecord = new ProducerRecord<>(outputTopic,
-                                            partition,
-                                            consumerRecord.key(),
-                                            result);
-                                    }
-                                    forwardHeadersToOutput(consumerRecord, producerRecord);
-                                    if (storeLogData != null) {
-                                        storeLogData.setOutcomingMessageTime(ZonedDateTime.now());
-                                    }
-                                    producer.send(producerRecord, (metadata, exception) -> {
-                                        if (storeLogData != null) {
-                                            storeLogData.setProducerRecord(producerRecord);
-                                        }
-                                        if (exception != null) {
-                                            try {
-                                                if (log.isErrorEnabled()) {
-                                                    log.error(String.format(
-                                                        "Failed to send a result message for method '%s' in service '%s' to output topic '%s'.",
-                                                        requestMessage.getMethod(),
-                                                        getService().getDeployPath(),
-                                                        getOutTopic(consumerRecord)), exception);
-                                                }
-                                            } catch (Exception e) {
-                                                log.error("Unexpected error.", e);
-                                            }
-                                            sendErrorToDlt(consumerRecord, exception, storeLogData);
-                                        } else if (storeLogData != null) {
-                                            getStoreLogDataManager().store(storeLogData);
-                                        }
-                                    });
-                                } else {
-                                    if (storeLogData != null) {
-                                        storeLogData.setOutcomingMessageTime(ZonedDateTime.now());
-                                        getStoreLogDataManager().store(storeLogData);
+                    CountDownLatch countDownLatch;
+                    if (isBatchInvocation()) {
+                        List<List<ConsumerRecord<String, RequestMessage>>> batches = splitToBatches(records);
+                        countDownLatch = new CountDownLatch(batches.size());
+                        for (List<ConsumerRecord<String, RequestMessage>> batch : batches) {
+                            executor.submit(() -> {
+                                try {
+                                    for (ConsumerRecord<String, RequestMessage> consumerRecord : batch) {
+                                        process(consumerRecord, incomingTime);
                                     }
+                                } finally {
+                                    countDownLatch.countDown();
                                 }
-                            } catch (Exception e) {
-                                if (log.isErrorEnabled()) {
-                                    log.error(
-                                        String.format("Failed to process a message from input topic '%s'.",
-                                            getInTopic()),
-                                        e);
-                                }
-                                sendErrorToDlt(consumerRecord, e, storeLogData);
-                            } finally {
-                                countDownLatch.countDown();
-                                if (isStoreLogDataEnabled()) {
-                                    StoreLogDataHolder.remove();
+                            });
+                        }
+                    } else {
+                        countDownLatch = new CountDownLatch(records.count());
+                        for (ConsumerRecord<String, RequestMessage> consumerRecord : records) {
+                            executor.submit(() -> {
+                                try {
+                                    process(consumerRecord, incomingTime);
+                                } finally {
+                                    countDownLatch.countDown();
                                 }
-                            }
-                        });
+                            });
+                        }
                     }
                     countDownLatch.await();
                     for (ConsumerRecord<String, RequestMessage> record : records) {
@@ -292,6 +370,224 @@ public final class KafkaService implements Runnable {
         }
     }
 
+    /**
+     * Splits the polled records to batches of the configured size. The batches are invoked concurrently, but every batch
+     * is invoked by a single task, so the executor handles a task per batch instead of a record. The records are still
+     * invoked one by one with the runtime environment of the thread. The results are not flushed by the batch, so the
+     * producer sends them according to its linger and batch size configs.
+     */
+    private List<List<ConsumerRecord<String, RequestMessage>>> splitToBatches(
+            ConsumerRecords<String, RequestMessage> records) {
+        List<ConsumerRecord<String, RequestMessage>> polledRecords = new ArrayList<>(records.count());
+        records.forEach(polledRecords::add);
+        List<List<ConsumerRecord<String, RequestMessage>>> batches = new ArrayList<>();
+        for (int i = 0; i < polledRecords.size(); i += batchSize) {
+            batches.add(polledRecords.subList(i, Math.min(i + batchSize, polledRecords.size())));
+        }
+        return batches;
+    }
+
+    private void runPipelined() {
+        while (flag) {
+            try {
+                ConsumerRecords<String, RequestMessage> records = consumer.poll(Duration.ofMillis(100));
+                updateRecordsLag();
+                if (!records.isEmpty()) {
+                    ZonedDateTime incomingTime = ZonedDateTime.now();
+                    for (TopicPartition partition : records.partitions()) {
+                        partitionProcessors.computeIfAbsent(partition, PartitionProcessor::new)
+                            .add(records.records(partition), incomingTime);
+                    }
+                }
+                applyBackPressure();
+                commitCompletedOffsets();
+                recoverFailedPartitions();
+            } catch (Exception e) {
+                log.error("Something wrong.", e);
+            }
+        }
+        try {
+            revokePartitions(new ArrayList<>(partitionProcessors.keySet()));
+        } catch (Exception e) {
+            log.error("Failed to commit offsets on stop.", e);
+        }
+    }
+
+    /**
+     * Pauses fetching from the partitions which have too many records in flight and resumes it when the half of them
+     * are processed.
+     */
+    private void applyBackPressure() {
+        Set<TopicPartition> paused = consumer.paused();
+        List<TopicPartition> toPause = new ArrayList<>();
+        List<TopicPartition> toResume = new ArrayList<>();
+        for (PartitionProcessor processor : partitionProcessors.values()) {
+            int inFlight = processor.inFlight;
+            if (inFlight >= maxInFlightRecords && !paused.contains(processor.partition)) {
+                toPause.add(processor.partition);
+            } else if (inFlight <= maxInFlightRecords / 2 && paused.contains(processor.partition)) {
+                toResume.add(processor.partition);
+            }
+        }
+        if (!toPause.isEmpty()) {
+            consumer.pause(toPause);
+            log.debug("Consuming is paused for partitions: {}", toPause);
+        }
+        if (!toResume.isEmpty()) {
+            consumer.resume(toResume);
+            log.debug("Consuming is resumed for partitions: {}", toResume);
+        }
+    }
+
+    /**
+     * Commits the offsets of the processed records asynchronously. The offset is acknowledged by the callback of the
+     * commit, which is invoked on the polling thread. If the commit fails, then the offset is committed again after the
+     * next poll.
+     */
+    private void commitCompletedOffsets() {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        List<PartitionProcessor> processors = new ArrayList<>();
+        for (PartitionProcessor processor : partitionProcessors.values()) {
+            long completedOffset = processor.completedOffset;
+            if (completedOffset > Math.max(processor.committedOffset, processor.committingOffset)) {
+                offsets.put(processor.partition, new OffsetAndMetadata(completedOffset));
+                processor.committingOffset = completedOffset;
+                processors.add(processor);
+            }
+        }
+        if (!offsets.isEmpty()) {
+            consumer.commitAsync(offsets, (committedOffsets, exception) -> {
+                for (PartitionProcessor processor : processors) {
+                    long offset = offsets.get(processor.partition).offset();
+                    if (exception == null) {
+                        processor.committedOffset = Math.max(processor.committedOffset, offset);
+                    } else if (processor.committingOffset == offset) {
+                        processor.committingOffset = processor.committedOffset;
+                    }
+                }
+                if (exception != null) {
+                    log.warn("Failed to commit offsets: {}", offsets, exception);
+                } else {
+                    log.debug("Offsets have been committed: {}", offsets);
+                }
+            });
+        }
+    }
+
+    /**
+     * Removes the processors which have failed with an unexpected error and seeks their partitions to the first not
+     * processed record, so the dropped records are consumed again.
+     */
+    private void recoverFailedPartitions() {
+        for (PartitionProcessor processor : partitionProcessors.values()) {
+            if (processor.failed) {
+                partitionProcessors.remove(processor.partition);
+                long completedOffset = processor.completedOffset;
+                consumer.seek(processor.partition, completedOffset);
+                if (consumer.paused().contains(processor.partition)) {
+                    consumer.resume(Collections.singletonList(processor.partition));
+                }
+                log.warn("Consuming of partition {} is restarted from offset {} after a failure.",
+                    processor.partition,
+                    completedOffset);
+            }
+        }
+    }
+
+    /**
+     * Drops not started records of the partitions, waits for the records which are being processed and commits the
+     * offsets of the processed ones. Dropped records are consumed again by the new owner of the partition.
+     */
+    private void revokePartitions(Collection<TopicPartition> partitions) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (TopicPartition partition : partitions) {
+            PartitionProcessor processor = partitionProcessors.remove(partition);
+            if (processor != null) {
+                long completedOffset = processor.revoke();
+                if (completedOffset > processor.committedOffset) {
+                    offsets.put(partition, new OffsetAndMetadata(completedOffset));
+                }
+            }
+        }
+        if (!offsets.isEmpty()) {
+            if (log.isInfoEnabled()) {
+                log.info("Lost partitions in rebalance. Committing current offsets: {}", offsets);
+            }
+            consumer.commitSync(offsets);
+        }
+    }
+
+    private void process(ConsumerRecord<String, RequestMessage> consumerRecord, ZonedDateTime incomingTime) {
+        StoreLogData storeLogData = isStoreLogDataEnabled() ? StoreLogDataHolder.get() : null;
+        try {
+            if (storeLogData != null) {
+                storeLogData.setServiceClass(service.getServiceClass());
+                storeLogData.setServiceName(service.getName());
+                storeLogData.setIncomingMessageTime(incomingTime);
+                storeLogData.setPublisherType(PublisherType.KAFKA);
+                storeLogData.setObjectSerializer(getObjectSerializer());
+                storeLogData.setConsumerRecord(consumerRecord);
+            }
+            RequestMessage requestMessage = consumerRecord.value();
+            if (storeLogData != null) {
+                storeLogData.setServiceMethod(requestMessage.getMethod());
+                storeLogData.setParameters(requestMessage.getParameters());
+            }
+            String outputTopic = getOutTopic(consumerRecord);
+            if (!StringUtils.isBlank(outputTopic)) {
+                Object result = requestMessage.getMethod()
+                    .invoke(service.getServiceBean(), requestMessage.getParameters());
+                Header header = consumerRecord.headers().lastHeader(KafkaHeaders.REPLY_PARTITION);
+                ProducerRecord<String, Object> producerRecord;
+                if (header == null) {
+                    producerRecord = new ProducerRecord<>(outputTopic, consumerRecord.key(), result);
+                } else {
+                    Integer partition = Integer.parseInt(new String(header.value(), StandardCharsets.UTF_8));
+                    producerRecord = new ProducerRecord<>(outputTopic, partition, consumerRecord.key(), result);
+                }
+                forwardHeadersToOutput(consumerRecord, producerRecord);
+                if (storeLogData != null) {
+                    storeLogData.setOutcomingMessageTime(ZonedDateTime.now());
+                }
+                producer.send(producerRecord, (metadata, exception) -> {
+                    if (storeLogData != null) {
+                        storeLogData.setProducerRecord(producerRecord);
+                    }
+                    if (exception != null) {
+                        try {
+                            if (log.isErrorEnabled()) {
+                                log.error(String.format(
+                                    "Failed to send a result message for method '%s' in service '%s' to output topic '%s'.",
+                                    requestMessage.getMethod(),
+                                    getService().getDeployPath(),
+                                    getOutTopic(consumerRecord)), exception);
+                            }
+                        } catch (Exception e) {
+                            log.error("Unexpected error.", e);
+                        }
+                        sendErrorToDlt(consumerRecord, exception, storeLogData);
+                    } else if (storeLogData != null) {
+                        getStoreLogDataManager().store(storeLogData);
+                    }
+                });
+            } else {
+                if (storeLogData != null) {
+                    storeLogData.setOutcomingMessageTime(ZonedDateTime.now());
+                    getStoreLogDataManager().store(storeLogData);
+                }
+            }
+        } catch (Exception e) {
+            if (log.isErrorEnabled()) {
+                log.error(String.format("Failed to process a message from input topic '%s'.", getInTopic()), e);
+            }
+            sendErrorToDlt(consumerRecord, e, storeLogData);
+        } finally {
+            if (isStoreLogDataEnabled()) {
+                StoreLogDataHolder.remove();
+            }
+        }
+    }
+
     private void forwardHeadersToDlt(ConsumerRecord<?, ?> originalRecord, ProducerRecord<?, ?> record) {
         for (Header header : originalRecord.headers()) {
             record.headers().add(header);
@@ -383,7 +679,131 @@ public final class KafkaService implements Runnable {
         }
     }
 
+    /**
+     * Processes the records of a single partition in the order of the offsets. At most one task of the processor is
+     * submitted to the executor at a time, so the partitions are processed concurrently, but the records of a
+     * partition are processed sequentially. If the task fails with an unexpected error, then the processor drops the
+     * pending records and stops, the polling thread seeks the partition back to the failed record.
+     */
+    private final class PartitionProcessor implements Runnable {
+        private static final int MAX_RECORDS_PER_TASK = 64;
+
+        private final TopicPartition partition;
+        private final ArrayDeque<PendingRecord> pending = new ArrayDeque<>();
+        private boolean running;
+        private boolean revoked;
+        private volatile boolean failed;
+        private volatile int inFlight;
+        private volatile long fetchedOffset = -1;
+        private volatile long completedOffset = -1;
+        // Changed by the polling thread only
+        private volatile long committingOffset = -1;
+        private volatile long committedOffset = -1;
+
+        PartitionProcessor(TopicPartition partition) {
+            this.partition = partition;
+        }
+
+        synchronized void add(List<ConsumerRecord<String, RequestMessage>> records, ZonedDateTime incomingTime) {
+            if (revoked || failed || records.isEmpty()) {
+                return;
+            }
+            for (ConsumerRecord<String, RequestMessage> record : records) {
+                pending.add(new PendingRecord(record, incomingTime));
+            }
+            inFlight += records.size();
+            if (committedOffset < 0) {
+                committedOffset = records.get(0).offset();
+                completedOffset = committedOffset;
+            }
+            fetchedOffset = records.get(records.size() - 1).offset() + 1;
+            if (!running) {
+                running = true;
+                executor.submit(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                // The records of a partition are invoked by a single task anyway, the batch size limits their count
+                int maxRecords = isBatchInvocation() ? batchSize : MAX_RECORDS_PER_TASK;
+                for (int processed = 0; processed < maxRecords; processed++) {
+                    PendingRecord next = nextRecord();
+                    if (next == null) {
+                        return;
+                    }
+                    process(next.record, next.incomingTime);
+                    complete(next.record);
+                }
+                // Gives a chance to the other partitions
+                executor.submit(this);
+            } catch (RuntimeException | Error e) {
+                log.error("Failed to process records of partition {}.", partition, e);
+                fail();
+                throw e;
+            }
+        }
+
+        private synchronized void complete(ConsumerRecord<String, RequestMessage> record) {
+            completedOffset = record.offset() + 1;
+            inFlight--;
+        }
+
+        private synchronized void fail() {
+            failed = true;
+            pending.clear();
+            inFlight = 0;
+            running = false;
+            notifyAll();
+        }
+
+        private synchronized PendingRecord nextRecord() {
+            PendingRecord next = pending.poll();
+            if (next == null) {
+                running = false;
+                notifyAll();
+            }
+            return next;
+        }
+
+        /**
+         * Drops the pending records and waits for the current one. The failed record is not completed, so it is consumed
+         * again by the new owner of the partition.
+         *
+         * @return the offset to commit
+         */
+        synchronized long revoke() {
+            revoked = true;
+            inFlight -= pending.size();
+            pending.clear();
+            boolean interrupted = false;
+            while (running) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return completedOffset;
+        }
+    }
+
+    private static final class PendingRecord {
+        private final ConsumerRecord<String, RequestMessage> record;
+        private final ZonedDateTime incomingTime;
+
+        PendingRecord(ConsumerRecord<String, RequestMessage> record, ZonedDateTime incomingTime) {
+            this.record = record;
+            this.incomingTime = incomingTime;
+        }
+    }
+
     public void stop() throws InterruptedException {
+        KafkaServiceInfo.unregister(this);
         flag = false;
         loopRunningThread.join();
     }
@@ -0,0 +1,48 @@
+package org.openl.rules.ruleservice.kafka.publish;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Consuming state of the running kafka services: the records lag and the records which are polled, but not processed
+ * or not committed yet. The services are registered when they are started and are removed when they are stopped.
+ */
+public final class KafkaServiceInfo {
+
+    private static final Set<KafkaService> SERVICES = Collections.synchronizedSet(new LinkedHashSet<>());
+
+    private KafkaServiceInfo() {
+    }
+
+    static void register(KafkaService kafkaService) {
+        SERVICES.add(Objects.requireNonNull(kafkaService, "kafkaService cannot be null"));
+    }
+
+    static void unregister(KafkaService kafkaService) {
+        SERVICES.remove(kafkaService);
+    }
+
+    /**
+     * @return the state of the kafka services grouped by the deploy path of the service and the input topic
+     */
+    public static Map<String, Object> get() {
+        List<KafkaService> services;
+        synchronized (SERVICES) {
+            services = new ArrayList<>(SERVICES);
+        }
+        Map<String, Object> info = new TreeMap<>();
+        for (KafkaService kafkaService : services) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> topics = (Map<String, Object>) info
+                .computeIfAbsent(kafkaService.getService().getDeployPath(), e -> new TreeMap<>());
+            topics.put(kafkaService.getInTopic(), kafkaService.getInfo());
+        }
+        return info;
+    }
+}
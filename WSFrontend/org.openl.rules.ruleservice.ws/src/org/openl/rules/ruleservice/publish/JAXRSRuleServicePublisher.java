@@ -22,6 +22,7 @@ import org.openl.rules.ruleservice.core.RuleServiceUndeployException;
 import org.openl.rules.ruleservice.core.ServiceDescription;
 import org.openl.rules.ruleservice.databinding.annotation.JacksonBindingConfigurationUtils;
 import org.openl.rules.ruleservice.publish.jaxrs.JAXRSOpenLServiceEnhancer;
+import org.openl.rules.ruleservice.publish.jaxrs.JAXRSStreamingResource;
 import org.openl.rules.ruleservice.publish.jaxrs.storelogdata.JacksonObjectSerializer;
 import org.openl.rules.ruleservice.publish.jaxrs.swagger.OpenApiHackContainerRequestFilter;
 import org.openl.rules.ruleservice.publish.jaxrs.swagger.OpenApiHackContainerResponseFilter;
@@ -62,6 +63,8 @@ public class JAXRSRuleServicePublisher implements RuleServicePublisher {
 
     private boolean storeLogDataEnabled = false;
     private boolean swaggerPrettyPrint = false;
+    private boolean streamingRequestEnabled = false;
+    private int streamingRequestChunkSize = 100;
 
     // false is for testing purposes, see org.openl.rules.ruleservice.servlet.SpringInitializer
     @Autowired(required = false)
@@ -158,6 +161,22 @@ public class JAXRSRuleServicePublisher implements RuleServicePublisher {
         return swaggerPrettyPrint;
     }
 
+    public boolean isStreamingRequestEnabled() {
+        return streamingRequestEnabled;
+    }
+
+    public void setStreamingRequestEnabled(boolean streamingRequestEnabled) {
+        this.streamingRequestEnabled = streamingRequestEnabled;
+    }
+
+    public int getStreamingRequestChunkSize() {
+        return streamingRequestChunkSize;
+    }
+
+    public void setStreamingRequestChunkSize(int streamingRequestChunkSize) {
+        this.streamingRequestChunkSize = streamingRequestChunkSize;
+    }
+
     public ObjectFactory<JAXRSOpenLServiceEnhancer> getServiceEnhancerObjectFactory() {
         return serviceEnhancerObjectFactory;
     }
@@ -207,11 +226,17 @@ public class JAXRSRuleServicePublisher implements RuleServicePublisher {
             ((List) svrFactory.getProviders()).add(new OpenApiHackContainerRequestFilter(openApiObjectMapper));
             ((List) svrFactory.getProviders()).add(new OpenApiHackContainerResponseFilter());
 
+            ObjectMapper objectMapper = getObjectMapper(svrFactory);
             JAXRSOpenLServiceEnhancer jaxrsOpenLServiceEnhancer = getServiceEnhancerObjectFactory().getObject();
             Object proxyServiceBean = jaxrsOpenLServiceEnhancer.decorateServiceBean(service, swaggerObjectMapper, openApiObjectMapper, servletContextPath + url);
             // The first one is a decorated interface
             Class<?> serviceClass = proxyServiceBean.getClass().getInterfaces()[0];
-            svrFactory.setResourceClasses(serviceClass);
+            boolean streamingRequests = isStreamingRequestEnabled() && objectMapper != null;
+            if (streamingRequests) {
+                svrFactory.setResourceClasses(serviceClass, JAXRSStreamingResource.class);
+            } else {
+                svrFactory.setResourceClasses(serviceClass);
+            }
 
             Swagger2Feature swagger2Feature = getSwagger2Feature(serviceClass);
             svrFactory.getFeatures().add(swagger2Feature);
@@ -239,6 +264,13 @@ public class JAXRSRuleServicePublisher implements RuleServicePublisher {
                 ((List) svrFactory.getProviders()).add(wadlGenerator);
             }
             svrFactory.setResourceProvider(serviceClass, new SingletonResourceProvider(proxyServiceBean));
+            if (streamingRequests) {
+                svrFactory.setResourceProvider(JAXRSStreamingResource.class,
+                    new SingletonResourceProvider(new JAXRSStreamingResource(service.getServiceClass(),
+                        service.getServiceBean(),
+                        objectMapper,
+                        getStreamingRequestChunkSize())));
+            }
             ClassLoader origClassLoader = svrFactory.getBus().getExtension(ClassLoader.class);
             try {
                 svrFactory.getBus().setExtension(service.getClassLoader(), ClassLoader.class);
@@ -1,6 +1,7 @@
 package org.openl.rules.ruleservice.publish.jaxrs;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -12,6 +13,7 @@ public class JAXRSMethodHandler extends AbstractOpenLMethodHandler<Method, Metho
 
     private final Object target;
     private final Map<Method, Method> methodMap;
+    private final Map<Method, JAXRSMethodInvoker> invokers;
 
     @Override
     public Method getTargetMember(Method key) {
@@ -21,6 +23,16 @@ public class JAXRSMethodHandler extends AbstractOpenLMethodHandler<Method, Metho
     public JAXRSMethodHandler(Object target, Map<Method, Method> methodMap) {
         this.target = Objects.requireNonNull(target, "target cannot be null");
         this.methodMap = Objects.requireNonNull(methodMap, "methodMap cannot be null");
+        this.invokers = new HashMap<>();
+        for (Map.Entry<Method, Method> entry : methodMap.entrySet()) {
+            try {
+                invokers.put(entry.getKey(), JAXRSMethodInvoker.create(entry.getKey(), entry.getValue()));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(
+                    String.format("Failed to build invoker for method '%s'.", entry.getValue()),
+                    e);
+            }
+        }
     }
 
     @Override
@@ -30,27 +42,16 @@ public class JAXRSMethodHandler extends AbstractOpenLMethodHandler<Method, Metho
 
     @Override
     public Object invoke(Method method, Object[] args) throws Exception {
-        Method m = methodMap.get(method);
-        if (m == null) {
+        JAXRSMethodInvoker invoker = invokers.get(method);
+        if (invoker == null) {
             throw new IllegalStateException("Method is not found in the map of methods.");
         }
-        if (args != null && args.length == 1) {
-            int targetParamCount = m.getParameterTypes().length;
-            if (targetParamCount > 1) {
-                Object requestObject = args[0];
-                if (requestObject == null) {
-                    args = new Object[targetParamCount];
-                } else {
-                    args = (Object[]) requestObject.getClass().getMethod("_args").invoke(requestObject);
-                }
-            }
-        }
 
-        Object o = m.invoke(target, args);
+        Object o = invoker.invoke(target, args);
         if (o instanceof Response) {
             return o;
         } else {
             return Response.status(Response.Status.OK).entity(o).build();
         }
     }
-}
\ No newline at end of file
+}
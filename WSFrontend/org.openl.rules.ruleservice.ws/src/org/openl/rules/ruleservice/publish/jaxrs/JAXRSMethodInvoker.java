@@ -0,0 +1,140 @@
+package org.openl.rules.ruleservice.publish.jaxrs;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Calls the service method with the arguments of the enhanced JAX-RS method. The call is compiled once to a method
+ * handle, so the fields of the generated request bean are passed to the service method directly without the
+ * reflection and the array of the arguments. Only the exceptions thrown by the service method are wrapped in
+ * {@link InvocationTargetException}, the errors of the call itself are thrown as is.
+ */
+final class JAXRSMethodInvoker {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final MethodHandle invoker;
+
+    private JAXRSMethodInvoker(MethodHandle invoker) {
+        this.invoker = invoker;
+    }
+
+    /**
+     * @param method method of the enhanced interface
+     * @param targetMethod method of the service
+     */
+    static JAXRSMethodInvoker create(Method method, Method targetMethod) throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        targetMethod.setAccessible(true);
+        MethodHandle target = wrapTargetExceptions(lookup, lookup.unreflect(targetMethod));
+        int parameterCount = targetMethod.getParameterCount();
+        MethodHandle spreadTarget = target.asSpreader(Object[].class, parameterCount);
+        if (method.getParameterCount() == 1 && parameterCount > 1) {
+            return new JAXRSMethodInvoker(unwrapArguments(lookup, target, spreadTarget, method.getParameterTypes()[0]));
+        }
+        return new JAXRSMethodInvoker(spreadTarget.asType(INVOKER_TYPE));
+    }
+
+    /**
+     * Builds the call of the target with the values of the request bean fields. If the request bean is null, then the
+     * target is called with null arguments.
+     */
+    private static MethodHandle unwrapArguments(MethodHandles.Lookup lookup,
+            MethodHandle target,
+            MethodHandle spreadTarget,
+            Class<?> requestType) throws ReflectiveOperationException {
+        MethodType targetType = target.type();
+        int parameterCount = targetType.parameterCount() - 1;
+        MethodHandle unwrapped;
+        Field[] fields = getRequestFields(requestType);
+        if (fields.length == parameterCount) {
+            MethodHandle[] getters = new MethodHandle[parameterCount];
+            for (int i = 0; i < parameterCount; i++) {
+                fields[i].setAccessible(true);
+                getters[i] = lookup.unreflectGetter(fields[i])
+                    .asType(MethodType.methodType(targetType.parameterType(i + 1), requestType));
+            }
+            int[] reorder = new int[parameterCount + 1];
+            Arrays.fill(reorder, 1, reorder.length, 1);
+            unwrapped = MethodHandles.permuteArguments(MethodHandles.filterArguments(target, 1, getters),
+                MethodType.methodType(targetType.returnType(), targetType.parameterType(0), requestType),
+                reorder);
+        } else {
+            MethodHandle args = lookup.findVirtual(requestType, "_args", MethodType.methodType(Object[].class));
+            unwrapped = MethodHandles.filterArguments(spreadTarget, 1, args);
+        }
+        MethodHandle nullArguments = MethodHandles.dropArguments(
+            MethodHandles.insertArguments(spreadTarget, 1, (Object) new Object[parameterCount]),
+            1,
+            requestType);
+        MethodHandle isNull = MethodHandles.dropArguments(
+            lookup.findStatic(Objects.class, "isNull", MethodType.methodType(boolean.class, Object.class))
+                .asType(MethodType.methodType(boolean.class, requestType)),
+            0,
+            targetType.parameterType(0));
+        MethodHandle invoker = MethodHandles.guardWithTest(isNull, nullArguments, unwrapped)
+            .asType(MethodType.methodType(Object.class, Object.class, Object.class));
+        MethodHandle firstArgument = MethodHandles
+            .insertArguments(MethodHandles.arrayElementGetter(Object[].class), 1, 0);
+        return MethodHandles.filterArguments(invoker, 1, firstArgument);
+    }
+
+    /**
+     * Wraps the exceptions thrown by the target in {@link TargetException}, so they are distinguished from the errors
+     * of the argument adapters.
+     */
+    private static MethodHandle wrapTargetExceptions(MethodHandles.Lookup lookup,
+            MethodHandle target) throws ReflectiveOperationException {
+        MethodType targetType = target.type();
+        MethodHandle handler = lookup
+            .findStatic(JAXRSMethodInvoker.class,
+                "throwTargetException",
+                MethodType.methodType(Object.class, Throwable.class))
+            .asType(MethodType.methodType(targetType.returnType(), Throwable.class));
+        return MethodHandles.catchException(target,
+            Throwable.class,
+            MethodHandles.dropArguments(handler, 1, targetType.parameterList()));
+    }
+
+    private static Object throwTargetException(Throwable t) {
+        throw new TargetException(t);
+    }
+
+    private static Field[] getRequestFields(Class<?> requestType) {
+        return Arrays.stream(requestType.getDeclaredFields())
+            .filter(f -> f.isAnnotationPresent(ParameterIndex.class))
+            .sorted(Comparator.comparingInt(f -> f.getAnnotation(ParameterIndex.class).value()))
+            .toArray(Field[]::new);
+    }
+
+    /**
+     * @throws InvocationTargetException if the service method throws an exception, the same as the reflective call
+     */
+    Object invoke(Object target, Object[] args) throws InvocationTargetException {
+        try {
+            return (Object) invoker.invokeExact(target, args);
+        } catch (TargetException e) {
+            throw new InvocationTargetException(e.getCause());
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private static final class TargetException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        TargetException(Throwable cause) {
+            super(null, cause, false, false);
+        }
+    }
+}
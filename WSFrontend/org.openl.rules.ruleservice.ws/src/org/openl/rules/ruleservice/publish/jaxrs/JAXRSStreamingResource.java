@@ -0,0 +1,286 @@
+package org.openl.rules.ruleservice.publish.jaxrs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+/**
+ * Processes large JSON arrays of the service methods without reading the whole request into memory. The elements of
+ * the request array are read one by one and the service method is called for every chunk of them. The results of
+ * every chunk are written to the response array before the next chunk is read.
+ * <p>
+ * Only the methods with a single array or collection parameter are supported. The method must process the elements
+ * independently, e.g. {@code Result[] rate(Policy[] policies)}, because it is called with a part of the elements.
+ * <p>
+ * The first chunk is processed before the response is started, so if the request is not a JSON array or the first
+ * chunk fails, then the error is handled by the exception mappers as usual. When the response is started, its status
+ * cannot be changed anymore. If a next chunk cannot be read or its invocation fails, then the error is written as the
+ * last element of the response array, e.g. {@code [2, 4, {"error": {"message": "...", "type": "USER_ERROR"}}]}, the
+ * array is closed and the rest of the request is skipped.
+ */
+@Path("/" + JAXRSStreamingResource.PATH)
+public class JAXRSStreamingResource {
+
+    public static final String PATH = "_stream";
+
+    private static final JAXRSExceptionMapper ERROR_MAPPER = new JAXRSExceptionMapper();
+
+    private final Object serviceBean;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final Map<String, StreamingMethod> methods = new HashMap<>();
+
+    public JAXRSStreamingResource(Class<?> serviceClass, Object serviceBean, ObjectMapper objectMapper, int chunkSize) {
+        Objects.requireNonNull(serviceClass, "serviceClass cannot be null");
+        this.serviceBean = Objects.requireNonNull(serviceBean, "serviceBean cannot be null");
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper cannot be null");
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive.");
+        }
+        this.chunkSize = chunkSize;
+        Set<String> ambiguousNames = new HashSet<>();
+        for (Method method : serviceClass.getMethods()) {
+            if (method.getParameterCount() != 1 || !isSupportedParameterType(method.getParameterTypes()[0])) {
+                continue;
+            }
+            if (methods.containsKey(method.getName())) {
+                ambiguousNames.add(method.getName());
+            } else {
+                methods.put(method.getName(), new StreamingMethod(method));
+            }
+        }
+        methods.keySet().removeAll(ambiguousNames);
+    }
+
+    private static boolean isSupportedParameterType(Class<?> type) {
+        if (type.isArray()) {
+            return !type.getComponentType().isPrimitive();
+        }
+        return type == List.class || type == Collection.class || type == Set.class;
+    }
+
+    /**
+     * @param methodName name of the service method
+     * @param input JSON array of the method argument elements
+     * @return JSON array of the results
+     */
+    @POST
+    @Path("/{methodName}")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response invoke(@PathParam("methodName") String methodName, InputStream input) throws IOException {
+        StreamingMethod method = methods.get(methodName);
+        if (method == null) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        StreamingCall call = new StreamingCall(method, input);
+        return Response.ok((StreamingOutput) call::write).build();
+    }
+
+    void process(String methodName, InputStream input, OutputStream output) throws IOException {
+        StreamingMethod method = methods.get(methodName);
+        if (method == null) {
+            throw new IllegalArgumentException(String.format("Method '%s' is not supported.", methodName));
+        }
+        new StreamingCall(method, input).write(output);
+    }
+
+    /**
+     * Writes the error as an element of the response array. The error is the same as the exception mappers return.
+     */
+    private void writeError(JsonGenerator generator, Exception e) throws IOException {
+        Object error = ERROR_MAPPER.toResponse(e).getEntity();
+        objectMapper.writeValue(generator, Collections.singletonMap("error", error));
+    }
+
+    /**
+     * A single request. The first chunk is processed on creation, the next chunks are processed while the response is
+     * written.
+     */
+    private final class StreamingCall {
+        private final StreamingMethod method;
+        private final JsonParser parser;
+        private final List<Object> chunk = new ArrayList<>(chunkSize);
+        private final Object firstResult;
+        private final boolean firstChunkEmpty;
+        private boolean hasNext;
+
+        StreamingCall(StreamingMethod method, InputStream input) throws IOException {
+            this.method = method;
+            this.parser = objectMapper.getFactory().createParser(input);
+            try {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw MismatchedInputException.from(parser, method.parameterType, "JSON array is expected.");
+                }
+                hasNext = readChunk();
+                firstChunkEmpty = chunk.isEmpty();
+                firstResult = firstChunkEmpty ? null : method.invoke(serviceBean, chunk);
+            } catch (IOException | RuntimeException | Error e) {
+                parser.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Reads the next elements of the request array to the chunk.
+         *
+         * @return {@code false} if the end of the array is reached
+         */
+        private boolean readChunk() throws IOException {
+            chunk.clear();
+            while (chunk.size() < chunkSize) {
+                if (parser.nextToken() == JsonToken.END_ARRAY) {
+                    return false;
+                }
+                chunk.add(method.elementReader.readValue(parser));
+            }
+            return true;
+        }
+
+        void write(OutputStream output) throws IOException {
+            try (JsonParser ignored = parser;
+                    JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartArray();
+                if (!firstChunkEmpty) {
+                    method.writeResult(generator, firstResult);
+                }
+                while (hasNext) {
+                    generator.flush();
+                    Object result;
+                    try {
+                        hasNext = readChunk();
+                        if (chunk.isEmpty()) {
+                            break;
+                        }
+                        result = method.invoke(serviceBean, chunk);
+                    } catch (IOException | RuntimeException e) {
+                        // The response is started, so the error is reported in the response array
+                        writeError(generator, e);
+                        break;
+                    }
+                    method.writeResult(generator, result);
+                }
+                generator.writeEndArray();
+            }
+        }
+    }
+
+    private final class StreamingMethod {
+        private final JAXRSMethodInvoker invoker;
+        private final JavaType parameterType;
+        private final ObjectReader elementReader;
+        private final ObjectWriter resultWriter;
+        private final ObjectWriter resultElementWriter;
+
+        StreamingMethod(Method method) {
+            try {
+                this.invoker = JAXRSMethodInvoker.create(method, method);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(String.format("Failed to build invoker for method '%s'.", method),
+                    e);
+            }
+            this.parameterType = constructType(method.getGenericParameterTypes()[0]);
+            this.elementReader = objectMapper.readerFor(parameterType.getContentType());
+            if (method.getReturnType() == void.class) {
+                this.resultWriter = null;
+                this.resultElementWriter = null;
+            } else {
+                JavaType returnType = constructType(method.getGenericReturnType());
+                this.resultWriter = createWriter(returnType);
+                if (returnType.isArrayType() || returnType.isCollectionLikeType()) {
+                    this.resultElementWriter = createWriter(returnType.getContentType());
+                } else {
+                    this.resultElementWriter = null;
+                }
+            }
+        }
+
+        private JavaType constructType(Type type) {
+            return objectMapper.getTypeFactory().constructType(type);
+        }
+
+        private ObjectWriter createWriter(JavaType type) {
+            return objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        Object invoke(Object target, List<Object> elements) throws IOException {
+            Object argument;
+            if (parameterType.isArrayType()) {
+                argument = elements.toArray(
+                    (Object[]) Array.newInstance(parameterType.getContentType().getRawClass(), elements.size()));
+            } else if (parameterType.getRawClass() == Set.class) {
+                argument = new LinkedHashSet<>(elements);
+            } else {
+                argument = new ArrayList<>(elements);
+            }
+            try {
+                return invoker.invoke(target, new Object[] { argument });
+            } catch (InvocationTargetException e) {
+                Throwable t = e.getTargetException();
+                if (t instanceof RuntimeException) {
+                    throw (RuntimeException) t;
+                }
+                if (t instanceof IOException) {
+                    throw (IOException) t;
+                }
+                throw new IllegalStateException(t);
+            }
+        }
+
+        /**
+         * Writes the elements of the array or collection result to the response array. Other results are written as
+         * a single element.
+         */
+        void writeResult(JsonGenerator generator, Object result) throws IOException {
+            if (resultWriter == null) {
+                return;
+            }
+            if (resultElementWriter == null) {
+                resultWriter.writeValue(generator, result);
+            } else if (result instanceof Collection) {
+                for (Object element : (Collection<?>) result) {
+                    resultElementWriter.writeValue(generator, element);
+                }
+            } else if (result != null && result.getClass().isArray()) {
+                int length = Array.getLength(result);
+                for (int i = 0; i < length; i++) {
+                    resultElementWriter.writeValue(generator, Array.get(result, i));
+                }
+            }
+        }
+    }
+}
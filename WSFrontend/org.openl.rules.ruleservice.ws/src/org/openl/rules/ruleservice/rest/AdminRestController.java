@@ -13,8 +13,11 @@ import javax.ws.rs.core.Response;
 
 import org.openl.info.OpenLVersion;
 import org.openl.info.SysInfo;
+import org.openl.rules.calc.SpreadsheetResultConversionMetrics;
+import org.openl.rules.ruleservice.kafka.publish.KafkaServiceInfo;
 import org.openl.rules.ruleservice.publish.JAXRSRuleServicePublisher;
 import org.openl.rules.ruleservice.servlet.ServiceInfoProvider;
+import org.openl.rules.vm.ResultCacheInfo;
 import org.springframework.beans.factory.annotation.Autowired;
 
 @Produces(MediaType.APPLICATION_JSON)
@@ -79,6 +82,33 @@ public class AdminRestController {
         return Response.ok(OpenLVersion.get()).build();
     }
 
+    /**
+     * @return the size and the hit rate of the results shared between the calls of the cacheable tables.
+     */
+    @GET
+    @Path("/info/cache.json")
+    public Response getCacheInfo() {
+        return Response.ok(ResultCacheInfo.get()).build();
+    }
+
+    /**
+     * @return the count and the time of the conversions of spreadsheet results to the beans.
+     */
+    @GET
+    @Path("/info/conversion.json")
+    public Response getConversionInfo() {
+        return Response.ok(SpreadsheetResultConversionMetrics.get()).build();
+    }
+
+    /**
+     * @return the records lag and the records in flight of the kafka services by partitions.
+     */
+    @GET
+    @Path("/info/kafka.json")
+    public Response getKafkaInfo() {
+        return Response.ok(KafkaServiceInfo.get()).build();
+    }
+
     /**
      * @return a list of method descriptors of the given OpenL service.
      */
@@ -0,0 +1,304 @@
+package org.openl.rules.ruleservice.storelogdata;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores the data asynchronously with a bounded queue per store log data service. Every service has own worker
+ * threads which drain the queue by batches of the configured size or the data collected during the configured delay,
+ * so a slow storage does not delay other ones. If the queue is full, then the overflow policy of the service is
+ * applied.
+ */
+public final class BatchingStoreLogDataManager implements StoreLogDataManager {
+    private final Logger log = LoggerFactory.getLogger(BatchingStoreLogDataManager.class);
+
+    private final List<Writer> writers = new ArrayList<>();
+    private final int batchSize;
+    private final long batchDelayNanos;
+    private volatile boolean running = true;
+
+    /**
+     * @param storeLogDataServices services by names
+     * @param overflowPolicies overflow policies by names of the services
+     * @param queueCapacity capacity of the queue of every service
+     * @param workers count of the worker threads per service
+     * @param batchSize maximum count of the data saved at once
+     * @param batchDelayMillis maximum time to wait for the data to fill a batch
+     * @param spillDirectory directory of the spill files
+     */
+    public BatchingStoreLogDataManager(Map<String, StoreLogDataService> storeLogDataServices,
+            Map<String, StoreLogDataOverflowPolicy> overflowPolicies,
+            int queueCapacity,
+            int workers,
+            int batchSize,
+            long batchDelayMillis,
+            Path spillDirectory) {
+        Objects.requireNonNull(storeLogDataServices);
+        Objects.requireNonNull(overflowPolicies);
+        if (queueCapacity <= 0 || workers <= 0 || batchSize <= 0 || batchDelayMillis < 0) {
+            throw new IllegalArgumentException(
+                "Queue capacity, workers and batch size must be positive. Batch delay must not be negative.");
+        }
+        this.batchSize = batchSize;
+        this.batchDelayNanos = TimeUnit.MILLISECONDS.toNanos(batchDelayMillis);
+        for (Map.Entry<String, StoreLogDataService> entry : storeLogDataServices.entrySet()) {
+            StoreLogDataOverflowPolicy policy = overflowPolicies.get(entry.getKey());
+            if (policy == StoreLogDataOverflowPolicy.SPILL) {
+                Objects.requireNonNull(spillDirectory, "spillDirectory cannot be null");
+            }
+            writers.add(new Writer(entry.getKey(),
+                entry.getValue(),
+                policy == null ? StoreLogDataOverflowPolicy.BLOCK : policy,
+                queueCapacity,
+                spillDirectory));
+        }
+        for (Writer writer : writers) {
+            for (int i = 1; i <= workers; i++) {
+                Thread thread = new Thread(writer, "store-log-data-" + writer.name + "-" + i);
+                thread.setDaemon(true);
+                writer.threads.add(thread);
+                thread.start();
+            }
+        }
+    }
+
+    @Override
+    public void store(StoreLogData storeLogData) {
+        if (!storeLogData.isIgnorable() && !SimpleStoreLogDataManager.ignoreByFault(storeLogData)) {
+            for (Writer writer : writers) {
+                writer.offer(storeLogData);
+            }
+        }
+    }
+
+    /**
+     * @return count of the data in the queues of all services
+     */
+    public int getQueueSize() {
+        int size = 0;
+        for (Writer writer : writers) {
+            size += writer.queue.size();
+        }
+        return size;
+    }
+
+    /**
+     * @return count of the dropped data of all services
+     */
+    public long getDroppedCount() {
+        long count = 0;
+        for (Writer writer : writers) {
+            count += writer.dropped.sum();
+        }
+        return count;
+    }
+
+    /**
+     * @return count of the data written to the spill files of all services
+     */
+    public long getSpilledCount() {
+        long count = 0;
+        for (Writer writer : writers) {
+            count += writer.spilled.sum();
+        }
+        return count;
+    }
+
+    /**
+     * @return count of the data in the queues by names of the services
+     */
+    public Map<String, Integer> getQueueSizes() {
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        for (Writer writer : writers) {
+            sizes.put(writer.name, writer.queue.size());
+        }
+        return Collections.unmodifiableMap(sizes);
+    }
+
+    /**
+     * @return count of the dropped data by names of the services
+     */
+    public Map<String, Long> getDroppedCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Writer writer : writers) {
+            counts.put(writer.name, writer.dropped.sum());
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Stops accepting the data, saves the queued data and stops the workers. The data which are queued after the
+     * workers are stopped are dropped.
+     */
+    public void destroy() throws InterruptedException {
+        running = false;
+        for (Writer writer : writers) {
+            for (Thread thread : writer.threads) {
+                thread.join();
+            }
+            writer.dropQueued();
+            writer.closeSpillWriter();
+        }
+    }
+
+    private final class Writer implements Runnable {
+        private final String name;
+        private final StoreLogDataService storeLogDataService;
+        private final StoreLogDataOverflowPolicy policy;
+        private final BlockingQueue<StoreLogData> queue;
+        private final StoreLogDataSpillWriter spillWriter;
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder spilled = new LongAdder();
+        private final List<Thread> threads = new ArrayList<>();
+
+        Writer(String name,
+                StoreLogDataService storeLogDataService,
+                StoreLogDataOverflowPolicy policy,
+                int queueCapacity,
+                Path spillDirectory) {
+            this.name = name;
+            this.storeLogDataService = storeLogDataService;
+            this.policy = policy;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.spillWriter = policy == StoreLogDataOverflowPolicy.SPILL ? new StoreLogDataSpillWriter(
+                spillDirectory.resolve(name + ".log")) : null;
+        }
+
+        void offer(StoreLogData storeLogData) {
+            if (!running) {
+                dropped.increment();
+                return;
+            }
+            if (queue.offer(storeLogData)) {
+                dropIfStopped(storeLogData);
+                return;
+            }
+            switch (policy) {
+                case BLOCK:
+                    put(storeLogData);
+                    break;
+                case SPILL:
+                    try {
+                        spillWriter.write(storeLogData);
+                        spilled.increment();
+                    } catch (IOException | RuntimeException e) {
+                        dropped.increment();
+                        log.error("Failed to write store log data to the spill file of '{}'.", name, e);
+                    }
+                    break;
+                default:
+                    dropped.increment();
+                    break;
+            }
+        }
+
+        /**
+         * Waits for a free space in the queue while the manager is running. Once the manager is stopped the queue is not
+         * drained anymore, so the data are dropped instead of waiting forever.
+         */
+        private void put(StoreLogData storeLogData) {
+            try {
+                while (running) {
+                    if (queue.offer(storeLogData, 100, TimeUnit.MILLISECONDS)) {
+                        dropIfStopped(storeLogData);
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            dropped.increment();
+        }
+
+        /**
+         * The data queued after the workers are stopped are never saved, so they are taken back and dropped, unless
+         * they have been saved or dropped already.
+         */
+        private void dropIfStopped(StoreLogData storeLogData) {
+            if (!running && queue.remove(storeLogData)) {
+                dropped.increment();
+            }
+        }
+
+        void dropQueued() {
+            List<StoreLogData> queued = new ArrayList<>();
+            queue.drainTo(queued);
+            dropped.add(queued.size());
+        }
+
+        @Override
+        public void run() {
+            List<StoreLogData> batch = new ArrayList<>(batchSize);
+            while (running || !queue.isEmpty()) {
+                boolean interrupted = false;
+                try {
+                    StoreLogData first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    fillBatch(batch);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    interrupted = true;
+                }
+                if (!batch.isEmpty()) {
+                    save(batch);
+                    batch.clear();
+                }
+                if (interrupted) {
+                    return;
+                }
+            }
+        }
+
+        private void fillBatch(List<StoreLogData> batch) throws InterruptedException {
+            long deadline = System.nanoTime() + batchDelayNanos;
+            while (batch.size() < batchSize) {
+                if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                    continue;
+                }
+                long timeout = deadline - System.nanoTime();
+                if (timeout <= 0 || !running) {
+                    return;
+                }
+                StoreLogData next = queue.poll(timeout, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    return;
+                }
+                batch.add(next);
+            }
+        }
+
+        private void save(List<StoreLogData> batch) {
+            try {
+                storeLogDataService.saveAll(Collections.unmodifiableList(batch));
+            } catch (Exception e) {
+                log.error("Failed on save operation.", e);
+            }
+        }
+
+        void closeSpillWriter() {
+            if (spillWriter != null) {
+                try {
+                    spillWriter.close();
+                } catch (IOException e) {
+                    log.error("Failed to close the spill file of '{}'.", name, e);
+                }
+            }
+        }
+    }
+}
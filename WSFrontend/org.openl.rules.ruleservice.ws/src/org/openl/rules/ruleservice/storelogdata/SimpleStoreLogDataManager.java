@@ -40,7 +40,7 @@ public final class SimpleStoreLogDataManager implements StoreLogDataManager {
         }
     }
 
-    private boolean ignoreByFault(StoreLogData storeLogData) {
+    static boolean ignoreByFault(StoreLogData storeLogData) {
         Method serviceMethod = storeLogData.getServiceMethod();
         return storeLogData.isFault() && serviceMethod != null && serviceMethod
             .isAnnotationPresent(SkipFaultStoreLogData.class);
@@ -1,18 +1,25 @@
 package org.openl.rules.ruleservice.storelogdata;
 
+import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Objects;
 import java.util.stream.Collectors;
 
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 
-public class StoreLogDataManagerFactoryBean implements FactoryBean<SimpleStoreLogDataManager>, ApplicationContextAware {
+public class StoreLogDataManagerFactoryBean implements FactoryBean<StoreLogDataManager>, ApplicationContextAware,
+        DisposableBean {
+
+    private static final String OVERFLOW_POLICY_PROPERTY = "ruleservice.store.logs.batching.overflow";
 
     private final Logger log = LoggerFactory.getLogger(StoreLogDataManagerFactoryBean.class);
 
@@ -20,6 +27,16 @@ public class StoreLogDataManagerFactoryBean implements FactoryBean<SimpleStoreLo
 
     private boolean storeLogDataEnabled = false;
 
+    private boolean batchingEnabled = false;
+    private int queueCapacity = 10000;
+    private int workers = 1;
+    private int batchSize = 100;
+    private long batchDelay = 1000;
+    private String overflowPolicy = StoreLogDataOverflowPolicy.BLOCK.name();
+    private String spillDirectory;
+
+    private BatchingStoreLogDataManager batchingStoreLogDataManager;
+
     public boolean isStoreLogDataEnabled() {
         return storeLogDataEnabled;
     }
@@ -28,6 +45,62 @@ public class StoreLogDataManagerFactoryBean implements FactoryBean<SimpleStoreLo
         this.storeLogDataEnabled = storeLogDataEnabled;
     }
 
+    public boolean isBatchingEnabled() {
+        return batchingEnabled;
+    }
+
+    public void setBatchingEnabled(boolean batchingEnabled) {
+        this.batchingEnabled = batchingEnabled;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBatchDelay() {
+        return batchDelay;
+    }
+
+    public void setBatchDelay(long batchDelay) {
+        this.batchDelay = batchDelay;
+    }
+
+    public String getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(String overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public String getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    public void setSpillDirectory(String spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
     @Override
     public void setApplicationContext(ApplicationContext applicationContext) {
         this.applicationContext = applicationContext;
@@ -39,7 +112,7 @@ public class StoreLogDataManagerFactoryBean implements FactoryBean<SimpleStoreLo
     }
 
     @Override
-    public SimpleStoreLogDataManager getObject() {
+    public StoreLogDataManager getObject() {
         if (!isStoreLogDataEnabled()) {
             return null;
         }
@@ -47,26 +120,63 @@ public class StoreLogDataManagerFactoryBean implements FactoryBean<SimpleStoreLo
         Map<String, StoreLogDataService> storeLogDataServices = applicationContext
             .getBeansOfType(StoreLogDataService.class);
 
-        Collection<StoreLogDataService> activeStoreLogDataServices = storeLogDataServices.values()
+        Map<String, StoreLogDataService> activeStoreLogDataServices = storeLogDataServices.entrySet()
             .stream()
-            .filter(Objects::nonNull)
-            .filter(StoreLogDataService::isEnabled)
-            .collect(Collectors.toList());
+            .filter(e -> e.getValue() != null)
+            .filter(e -> e.getValue().isEnabled())
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
 
         if (activeStoreLogDataServices.isEmpty()) {
             throw new BeanInitializationException(
                 "Failed to find a store logging service. Please, verify your configuration.");
         } else {
-            for (StoreLogDataService storeLoggingService : activeStoreLogDataServices) {
+            for (StoreLogDataService storeLoggingService : activeStoreLogDataServices.values()) {
                 log.info("Store log data service '{}' is used.", storeLoggingService.getClass().getTypeName());
             }
-            return new SimpleStoreLogDataManager(activeStoreLogDataServices);
+            if (!isBatchingEnabled()) {
+                return new SimpleStoreLogDataManager(activeStoreLogDataServices.values());
+            }
+            batchingStoreLogDataManager = new BatchingStoreLogDataManager(activeStoreLogDataServices,
+                getOverflowPolicies(activeStoreLogDataServices.keySet()),
+                queueCapacity,
+                workers,
+                batchSize,
+                batchDelay,
+                StringUtils.isBlank(spillDirectory) ? null : Paths.get(spillDirectory));
+            return batchingStoreLogDataManager;
+        }
+    }
+
+    /**
+     * The policy of a service can be overridden by the property with the name of the service bean as a suffix.
+     */
+    private Map<String, StoreLogDataOverflowPolicy> getOverflowPolicies(Collection<String> names) {
+        Map<String, StoreLogDataOverflowPolicy> policies = new HashMap<>();
+        for (String name : names) {
+            String policy = applicationContext.getEnvironment()
+                .getProperty(OVERFLOW_POLICY_PROPERTY + "." + name, overflowPolicy);
+            try {
+                policies.put(name, StoreLogDataOverflowPolicy.valueOf(policy.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new BeanInitializationException(
+                    String.format("Unknown store log data overflow policy '%s' for '%s'.", policy, name),
+                    e);
+            }
+            log.info("Store log data service '{}' uses overflow policy '{}'.", name, policies.get(name));
         }
+        return policies;
     }
 
     @Override
     public Class<?> getObjectType() {
-        return SimpleStoreLogDataManager.class;
+        return StoreLogDataManager.class;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (batchingStoreLogDataManager != null) {
+            batchingStoreLogDataManager.destroy();
+        }
     }
 
 }
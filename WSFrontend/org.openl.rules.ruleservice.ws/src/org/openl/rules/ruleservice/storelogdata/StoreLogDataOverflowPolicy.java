@@ -0,0 +1,20 @@
+package org.openl.rules.ruleservice.storelogdata;
+
+/**
+ * Defines what to do with the data if the queue of a store log data service is full.
+ */
+public enum StoreLogDataOverflowPolicy {
+    /**
+     * The data are dropped and counted.
+     */
+    DROP,
+    /**
+     * The thread which stores the data waits for a free space in the queue. The data are dropped if the manager is
+     * stopped.
+     */
+    BLOCK,
+    /**
+     * The data are written to the spill file of the service instead of the queue. The spill files are not read back.
+     */
+    SPILL
+}
@@ -0,0 +1,94 @@
+package org.openl.rules.ruleservice.storelogdata;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.cxf.interceptor.LoggingMessage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Appends the data which do not fit into the queue of a store log data service to a file. Every line of the file is a
+ * JSON object with the request and the response of the call. The file is write-only for the manager: the data are not
+ * replayed to the storage, but they can be loaded into it later by external tools.
+ */
+final class StoreLogDataSpillWriter implements Closeable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Path file;
+    private BufferedWriter writer;
+
+    StoreLogDataSpillWriter(Path file) {
+        this.file = file;
+    }
+
+    synchronized void write(StoreLogData storeLogData) throws IOException {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("incomingTime", toString(storeLogData.getIncomingMessageTime()));
+        values.put("outcomingTime", toString(storeLogData.getOutcomingMessageTime()));
+        values.put("serviceName", storeLogData.getServiceName());
+        values.put("methodName",
+            storeLogData.getServiceMethod() == null ? null : storeLogData.getServiceMethod().getName());
+        values.put("publisherType", toString(storeLogData.getPublisherType()));
+        values.put("fault", storeLogData.isFault());
+        values.put("request", getRequest(storeLogData));
+        values.put("response", getResponse(storeLogData));
+        if (writer == null) {
+            Files.createDirectories(file.getParent());
+            writer = Files.newBufferedWriter(file,
+                StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+        }
+        writer.write(objectMapper.writeValueAsString(values));
+        writer.newLine();
+        writer.flush();
+    }
+
+    private static String getRequest(StoreLogData storeLogData) {
+        if (storeLogData.getRequestMessage() != null) {
+            return getPayload(storeLogData.getRequestMessage());
+        }
+        if (storeLogData.getConsumerRecord() != null && storeLogData.getConsumerRecord().value() != null) {
+            return storeLogData.getConsumerRecord().value().asText();
+        }
+        return null;
+    }
+
+    private static String getResponse(StoreLogData storeLogData) {
+        if (storeLogData.getResponseMessage() != null) {
+            return getPayload(storeLogData.getResponseMessage());
+        }
+        if (storeLogData.getProducerRecord() != null && storeLogData.getObjectSerializer() != null) {
+            try {
+                return storeLogData.getObjectSerializer().writeValueAsString(storeLogData.getProducerRecord().value());
+            } catch (ProcessingException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static String getPayload(LoggingMessage message) {
+        return message.getPayload() == null ? null : message.getPayload().toString();
+    }
+
+    private static String toString(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+}
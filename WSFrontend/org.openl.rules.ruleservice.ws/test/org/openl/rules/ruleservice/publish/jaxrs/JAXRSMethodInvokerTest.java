@@ -0,0 +1,126 @@
+package org.openl.rules.ruleservice.publish.jaxrs;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+public class JAXRSMethodInvokerTest {
+
+    private final Service service = new ServiceImpl();
+
+    @Test
+    public void testInvokeWithArguments() throws Exception {
+        Method method = Service.class.getMethod("concat", String.class, int.class);
+        JAXRSMethodInvoker invoker = JAXRSMethodInvoker.create(method, method);
+
+        assertEquals("a1", invoker.invoke(service, new Object[] { "a", 1 }));
+    }
+
+    @Test
+    public void testInvokeWithoutArguments() throws Exception {
+        Method method = Service.class.getMethod("hello");
+        JAXRSMethodInvoker invoker = JAXRSMethodInvoker.create(method, method);
+
+        assertEquals("Hello", invoker.invoke(service, null));
+        assertEquals("Hello", invoker.invoke(service, new Object[0]));
+    }
+
+    @Test
+    public void testInvokeVoidMethod() throws Exception {
+        Method method = Service.class.getMethod("doNothing");
+        JAXRSMethodInvoker invoker = JAXRSMethodInvoker.create(method, method);
+
+        assertNull(invoker.invoke(service, null));
+    }
+
+    @Test
+    public void testUnwrapRequest() throws Exception {
+        JAXRSMethodInvoker invoker = JAXRSMethodInvoker.create(
+            EnhancedService.class.getMethod("concat", ConcatRequest.class),
+            Service.class.getMethod("concat", String.class, Integer.class));
+
+        ConcatRequest request = new ConcatRequest();
+        request.b = 2;
+        request.a = "b";
+        assertEquals("b2", invoker.invoke(service, new Object[] { request }));
+        assertEquals("nullnull", invoker.invoke(service, new Object[] { null }));
+    }
+
+    @Test
+    public void testTargetException() throws Exception {
+        Method method = Service.class.getMethod("fail");
+        JAXRSMethodInvoker invoker = JAXRSMethodInvoker.create(method, method);
+        try {
+            invoker.invoke(service, null);
+            fail();
+        } catch (InvocationTargetException e) {
+            assertSame(ServiceImpl.EXCEPTION, e.getTargetException());
+        }
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void testWrongArgumentTypeIsNotTargetException() throws Exception {
+        Method method = Service.class.getMethod("concat", String.class, int.class);
+        JAXRSMethodInvoker invoker = JAXRSMethodInvoker.create(method, method);
+
+        invoker.invoke(service, new Object[] { 1, "a" });
+    }
+
+    public interface Service {
+        String concat(String a, int b);
+
+        String concat(String a, Integer b);
+
+        String hello();
+
+        void doNothing();
+
+        String fail();
+    }
+
+    public interface EnhancedService {
+        Object concat(ConcatRequest request);
+    }
+
+    public static class ConcatRequest {
+        @ParameterIndex(1)
+        private Integer b;
+
+        @ParameterIndex(0)
+        private String a;
+    }
+
+    private static class ServiceImpl implements Service {
+        static final RuntimeException EXCEPTION = new IllegalStateException();
+
+        @Override
+        public String concat(String a, int b) {
+            return a + b;
+        }
+
+        @Override
+        public String concat(String a, Integer b) {
+            return a + b;
+        }
+
+        @Override
+        public String hello() {
+            return "Hello";
+        }
+
+        @Override
+        public void doNothing() {
+        }
+
+        @Override
+        public String fail() {
+            throw EXCEPTION;
+        }
+    }
+}
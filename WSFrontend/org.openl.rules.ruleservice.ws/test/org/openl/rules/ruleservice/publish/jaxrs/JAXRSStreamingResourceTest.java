@@ -0,0 +1,143 @@
+package org.openl.rules.ruleservice.publish.jaxrs;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class JAXRSStreamingResourceTest {
+
+    private final ServiceImpl service = new ServiceImpl();
+    private final JAXRSStreamingResource resource = new JAXRSStreamingResource(Service.class,
+        service,
+        new ObjectMapper(),
+        2);
+
+    @Test
+    public void testArrayByChunks() throws IOException {
+        assertEquals("[2,4,6,8,10]", process("twice", "[1, 2, 3, 4, 5]"));
+        assertEquals(3, service.calls);
+    }
+
+    @Test
+    public void testCollection() throws IOException {
+        assertEquals("[\"A\",\"B\",\"C\"]", process("upper", "[\"a\", \"b\", \"c\"]"));
+    }
+
+    @Test
+    public void testSingleResultPerChunk() throws IOException {
+        assertEquals("[2,1]", process("count", "[1, 2, 3]"));
+    }
+
+    @Test
+    public void testEmptyArray() throws IOException {
+        assertEquals("[]", process("twice", "[]"));
+        assertEquals(0, service.calls);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAmbiguousMethod() throws IOException {
+        process("overloaded", "[1]");
+    }
+
+    @Test(expected = IOException.class)
+    public void testNotArray() throws IOException {
+        process("twice", "{}");
+    }
+
+    @Test
+    public void testErrorInFirstChunkIsThrownBeforeResponse() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            process("twice", "[1, null, 3]", output);
+            fail();
+        } catch (NullPointerException e) {
+            assertEquals(0, output.size());
+        }
+    }
+
+    @Test
+    public void testErrorInNextChunkIsWrittenToResponse() throws IOException {
+        JsonNode response = new ObjectMapper().readTree(process("twice", "[1, 2, 3, null, 5, 6]"));
+        assertEquals(3, response.size());
+        assertEquals(2, response.get(0).asInt());
+        assertEquals(4, response.get(1).asInt());
+        assertEquals("SYSTEM", response.get(2).get("error").get("type").asText());
+        // The rest of the request is skipped
+        assertEquals(2, service.calls);
+    }
+
+    @Test
+    public void testMalformedNextChunkIsWrittenToResponse() throws IOException {
+        JsonNode response = new ObjectMapper().readTree(process("twice", "[1, 2, \"a\", 4]"));
+        assertEquals(3, response.size());
+        assertFalse(response.get(2).get("error").get("message").asText().isEmpty());
+        assertEquals(1, service.calls);
+    }
+
+    private String process(String methodName, String request) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        process(methodName, request, output);
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private void process(String methodName, String request, ByteArrayOutputStream output) throws IOException {
+        resource.process(methodName, new ByteArrayInputStream(request.getBytes(StandardCharsets.UTF_8)), output);
+    }
+
+    public interface Service {
+        Integer[] twice(Integer[] values);
+
+        List<String> upper(List<String> values);
+
+        int count(Integer[] values);
+
+        void overloaded(Integer[] values);
+
+        void overloaded(List<Integer> values);
+    }
+
+    private static class ServiceImpl implements Service {
+        int calls;
+
+        @Override
+        public Integer[] twice(Integer[] values) {
+            calls++;
+            Integer[] result = new Integer[values.length];
+            for (int i = 0; i < values.length; i++) {
+                result[i] = values[i] * 2;
+            }
+            return result;
+        }
+
+        @Override
+        public List<String> upper(List<String> values) {
+            return values.stream().map(String::toUpperCase).collect(Collectors.toCollection(ArrayList::new));
+        }
+
+        @Override
+        public int count(Integer[] values) {
+            return values.length;
+        }
+
+        @Override
+        public void overloaded(Integer[] values) {
+        }
+
+        @Override
+        public void overloaded(List<Integer> values) {
+        }
+    }
+}
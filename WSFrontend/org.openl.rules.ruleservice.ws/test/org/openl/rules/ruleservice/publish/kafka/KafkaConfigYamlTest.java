@@ -6,6 +6,7 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.openl.rules.ruleservice.kafka.conf.KafkaDeploy;
+import org.openl.rules.ruleservice.kafka.conf.KafkaMethodConfig;
 import org.openl.rules.ruleservice.kafka.conf.YamlObjectMapperBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
@@ -47,5 +48,20 @@ public class KafkaConfigYamlTest {
         ObjectMapper mapper = YamlObjectMapperBuilder.newInstance();
         KafkaDeploy kafkaConfig = mapper.readValue(resource.getInputStream(), KafkaDeploy.class);
         Assert.assertNotNull(kafkaConfig);
+        Assert.assertEquals(2, kafkaConfig.getMethodConfigs().size());
+
+        KafkaMethodConfig method1 = kafkaConfig.getMethodConfigs().get(0);
+        Assert.assertEquals("method1", method1.getMethodName());
+        Assert.assertFalse(method1.isPipelined());
+        Assert.assertEquals(1024, method1.getMaxInFlightRecords());
+        Assert.assertEquals(0, method1.getInvocationBatchSize());
+        Assert.assertTrue(method1.isInvocationBatchProducerTuning());
+
+        KafkaMethodConfig method2 = kafkaConfig.getMethodConfigs().get(1);
+        Assert.assertEquals("method2", method2.getMethodName());
+        Assert.assertTrue(method2.isPipelined());
+        Assert.assertEquals(100, method2.getMaxInFlightRecords());
+        Assert.assertEquals(16, method2.getInvocationBatchSize());
+        Assert.assertFalse(method2.isInvocationBatchProducerTuning());
     }
 }
@@ -0,0 +1,423 @@
+package org.openl.rules.ruleservice.publish.kafka;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetCommitCallback;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.consumer.RetriableCommitFailedException;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.Test;
+import org.openl.rules.common.impl.CommonVersionImpl;
+import org.openl.rules.ruleservice.core.AbstractOpenLServiceInitializer;
+import org.openl.rules.ruleservice.core.DeploymentDescription;
+import org.openl.rules.ruleservice.core.OpenLService;
+import org.openl.rules.ruleservice.kafka.RequestMessage;
+import org.openl.rules.ruleservice.kafka.publish.KafkaService;
+import org.openl.rules.ruleservice.kafka.publish.KafkaServiceInfo;
+
+public class KafkaServiceTest {
+
+    private static final String IN_TOPIC = "in";
+    private static final String OUT_TOPIC = "out";
+    private static final String DLT_TOPIC = "dlt";
+    private static final TopicPartition PARTITION_0 = new TopicPartition(IN_TOPIC, 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition(IN_TOPIC, 1);
+
+    private final MockProducer<String, byte[]> dltProducer = new MockProducer<>(true,
+        new StringSerializer(),
+        new ByteArraySerializer());
+
+    /**
+     * The service method is static, so it is invoked without a service bean.
+     */
+    public static String hello(String name) {
+        return "Hello, " + name;
+    }
+
+    @Test(timeout = 20000)
+    public void testPipelinedPartitionsAreProcessedInOrder() throws Exception {
+        TestConsumer consumer = new TestConsumer();
+        MockProducer<String, Object> producer = createProducer();
+        consumer.assign(PARTITION_0, PARTITION_1);
+        for (int i = 0; i < 100; i++) {
+            consumer.addRequest(PARTITION_0, i, "a" + i);
+            consumer.addRequest(PARTITION_1, i, "b" + i);
+        }
+
+        KafkaService kafkaService = createService(consumer, producer, true, 8, 0);
+        kafkaService.start();
+        try {
+            waitForCommittedOffset(consumer, PARTITION_0, 100);
+            waitForCommittedOffset(consumer, PARTITION_1, 100);
+            assertEquals(0, kafkaService.getInFlightRecords());
+            assertEquals(0, kafkaService.getUncommittedRecords());
+        } finally {
+            kafkaService.stop();
+        }
+
+        assertEquals(expectedResults("a", 100), getResults(producer, PARTITION_0));
+        assertEquals(expectedResults("b", 100), getResults(producer, PARTITION_1));
+        assertEquals(0, dltProducer.history().size());
+    }
+
+    @Test(timeout = 20000)
+    public void testPipelinedFailedCommitIsRetried() throws Exception {
+        TestConsumer consumer = new TestConsumer() {
+            private boolean failed;
+
+            @Override
+            public synchronized void commitAsync(Map<TopicPartition, OffsetAndMetadata> offsets,
+                    OffsetCommitCallback callback) {
+                OffsetAndMetadata offset = offsets.get(PARTITION_0);
+                if (!failed && offset != null && offset.offset() == 10) {
+                    failed = true;
+                    callback.onComplete(offsets, new RetriableCommitFailedException("Test failure"));
+                    return;
+                }
+                super.commitAsync(offsets, callback);
+            }
+        };
+        MockProducer<String, Object> producer = createProducer();
+        consumer.assign(PARTITION_0);
+        for (int i = 0; i < 10; i++) {
+            consumer.addRequest(PARTITION_0, i, "a" + i);
+        }
+
+        KafkaService kafkaService = createService(consumer, producer, true, 1024, 0);
+        kafkaService.start();
+        try {
+            waitForCommittedOffset(consumer, PARTITION_0, 10);
+            assertEquals(0, kafkaService.getUncommittedRecords());
+        } finally {
+            kafkaService.stop();
+        }
+        assertEquals(expectedResults("a", 10), getResults(producer, PARTITION_0));
+    }
+
+    @Test(timeout = 20000)
+    public void testPipelinedPartitionIsConsumedAgainAfterError() throws Exception {
+        TestConsumer consumer = new TestConsumer();
+        MockProducer<String, Object> producer = new MockProducer<String, Object>(true,
+            new StringSerializer(),
+            (topic, data) -> new byte[0]) {
+            private boolean failed;
+
+            @Override
+            public synchronized Future<RecordMetadata> send(ProducerRecord<String, Object> record,
+                    Callback callback) {
+                if (!failed && "Hello, a3".equals(record.value())) {
+                    failed = true;
+                    throw new Error("Test error");
+                }
+                return super.send(record, callback);
+            }
+        };
+        consumer.assign(PARTITION_0, PARTITION_1);
+        for (int i = 0; i < 10; i++) {
+            consumer.addRequest(PARTITION_0, i, "a" + i);
+            consumer.addRequest(PARTITION_1, i, "b" + i);
+        }
+
+        KafkaService kafkaService = createService(consumer, producer, true, 1024, 0);
+        kafkaService.start();
+        try {
+            waitForCommittedOffset(consumer, PARTITION_0, 10);
+            waitForCommittedOffset(consumer, PARTITION_1, 10);
+            assertEquals(0, kafkaService.getInFlightRecords());
+        } finally {
+            kafkaService.stop();
+        }
+
+        assertEquals(Collections.singletonList(3L), consumer.seeks.get(PARTITION_0));
+        assertEquals(expectedResults("a", 10), getResults(producer, PARTITION_0));
+        assertEquals(expectedResults("b", 10), getResults(producer, PARTITION_1));
+    }
+
+    @Test(timeout = 20000)
+    public void testPipelinedStopDoesNotWaitForFailedPartition() throws Exception {
+        TestConsumer consumer = new TestConsumer();
+        MockProducer<String, Object> producer = new MockProducer<String, Object>(true,
+            new StringSerializer(),
+            (topic, data) -> new byte[0]) {
+            @Override
+            public synchronized Future<RecordMetadata> send(ProducerRecord<String, Object> record,
+                    Callback callback) {
+                if ("Hello, a5".equals(record.value())) {
+                    throw new Error("Test error");
+                }
+                return super.send(record, callback);
+            }
+        };
+        consumer.assign(PARTITION_0);
+        for (int i = 0; i < 10; i++) {
+            consumer.addRequest(PARTITION_0, i, "a" + i);
+        }
+
+        KafkaService kafkaService = createService(consumer, producer, true, 1024, 0);
+        kafkaService.start();
+        try {
+            waitForCommittedOffset(consumer, PARTITION_0, 5);
+        } finally {
+            kafkaService.stop();
+        }
+
+        assertEquals(5, consumer.committed(Collections.singleton(PARTITION_0)).get(PARTITION_0).offset());
+        assertEquals(expectedResults("a", 5), getResults(producer, PARTITION_0));
+    }
+
+    @Test(timeout = 20000)
+    public void testBatchInvocationDoesNotFlushProducer() throws Exception {
+        TestConsumer consumer = new TestConsumer();
+        AtomicInteger flushes = new AtomicInteger();
+        MockProducer<String, Object> producer = new MockProducer<String, Object>(true,
+            new StringSerializer(),
+            (topic, data) -> new byte[0]) {
+            @Override
+            public synchronized void flush() {
+                flushes.incrementAndGet();
+                super.flush();
+            }
+        };
+        consumer.assign(PARTITION_0, PARTITION_1);
+        for (int i = 0; i < 10; i++) {
+            consumer.addRequest(PARTITION_0, i, "a" + i);
+            consumer.addRequest(PARTITION_1, i, "b" + i);
+        }
+
+        KafkaService kafkaService = createService(consumer, producer, false, 1024, 4);
+        kafkaService.start();
+        try {
+            waitForCommittedOffset(consumer, PARTITION_0, 10);
+            waitForCommittedOffset(consumer, PARTITION_1, 10);
+        } finally {
+            kafkaService.stop();
+        }
+
+        assertEquals(new HashSet<>(expectedResults("a", 10)), new HashSet<>(getResults(producer, PARTITION_0)));
+        assertEquals(new HashSet<>(expectedResults("b", 10)), new HashSet<>(getResults(producer, PARTITION_1)));
+        assertEquals(20, producer.history().size());
+        assertEquals(0, flushes.get());
+    }
+
+    @Test(timeout = 20000)
+    public void testPipelinedBatchInvocation() throws Exception {
+        TestConsumer consumer = new TestConsumer();
+        MockProducer<String, Object> producer = createProducer();
+        consumer.assign(PARTITION_0, PARTITION_1);
+        for (int i = 0; i < 50; i++) {
+            consumer.addRequest(PARTITION_0, i, "a" + i);
+            consumer.addRequest(PARTITION_1, i, "b" + i);
+        }
+
+        KafkaService kafkaService = createService(consumer, producer, true, 1024, 3);
+        kafkaService.start();
+        try {
+            waitForCommittedOffset(consumer, PARTITION_0, 50);
+            waitForCommittedOffset(consumer, PARTITION_1, 50);
+        } finally {
+            kafkaService.stop();
+        }
+
+        assertEquals(expectedResults("a", 50), getResults(producer, PARTITION_0));
+        assertEquals(expectedResults("b", 50), getResults(producer, PARTITION_1));
+    }
+
+    @Test(timeout = 20000)
+    public void testInfo() throws Exception {
+        TestConsumer consumer = new TestConsumer() {
+            @Override
+            public synchronized Map<MetricName, ? extends Metric> metrics() {
+                Map<String, String> tags = new HashMap<>();
+                tags.put("topic", IN_TOPIC);
+                tags.put("partition", "0");
+                MetricName metricName = new MetricName("records-lag", "consumer-fetch-manager-metrics", "", tags);
+                return Collections.singletonMap(metricName, new Metric() {
+                    @Override
+                    public MetricName metricName() {
+                        return metricName;
+                    }
+
+                    @Override
+                    public double value() {
+                        return 7;
+                    }
+
+                    @Override
+                    public Object metricValue() {
+                        return 7.0;
+                    }
+                });
+            }
+        };
+        MockProducer<String, Object> producer = createProducer();
+        consumer.assign(PARTITION_0);
+        for (int i = 0; i < 10; i++) {
+            consumer.addRequest(PARTITION_0, i, "a" + i);
+        }
+
+        KafkaService kafkaService = createService(consumer, producer, true, 1024, 0);
+        kafkaService.start();
+        Map<String, Object> info;
+        try {
+            waitForCommittedOffset(consumer, PARTITION_0, 10);
+            assertEquals(Collections.singletonMap(PARTITION_0, 7L), kafkaService.getRecordsLag());
+            info = KafkaServiceInfo.get();
+        } finally {
+            kafkaService.stop();
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> serviceInfo = (Map<String, Object>) ((Map<String, Object>) info.get("test")).get(IN_TOPIC);
+        assertEquals(true, serviceInfo.get("pipelined"));
+        assertEquals(7L, serviceInfo.get("recordsLag"));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> partitionInfo = ((Map<String, Map<String, Object>>) serviceInfo.get("partitions"))
+            .get(PARTITION_0.toString());
+        assertEquals(7L, partitionInfo.get("recordsLag"));
+        assertEquals(0, partitionInfo.get("inFlightRecords"));
+        assertFalse(KafkaServiceInfo.get().containsKey("test"));
+    }
+
+    private KafkaService createService(MockConsumer<String, RequestMessage> consumer,
+            MockProducer<String, Object> producer,
+            boolean pipelined,
+            int maxInFlightRecords,
+            int batchSize) {
+        return KafkaService.createService(createOpenLService(),
+            IN_TOPIC,
+            OUT_TOPIC,
+            DLT_TOPIC,
+            consumer,
+            producer,
+            dltProducer,
+            String::valueOf,
+            null,
+            false,
+            pipelined,
+            maxInFlightRecords,
+            batchSize);
+    }
+
+    private static OpenLService createOpenLService() {
+        return new OpenLService.OpenLServiceBuilder().setName("test")
+            .setDeployPath("test")
+            .setDeployment(new DeploymentDescription("test", new CommonVersionImpl("0")))
+            .build(new AbstractOpenLServiceInitializer() {
+                @Override
+                protected void init(OpenLService openLService) {
+                }
+            });
+    }
+
+    private static MockProducer<String, Object> createProducer() {
+        return new MockProducer<>(true, new StringSerializer(), (topic, data) -> new byte[0]);
+    }
+
+    private static void waitForCommittedOffset(MockConsumer<?, ?> consumer,
+            TopicPartition partition,
+            long offset) throws InterruptedException {
+        while (true) {
+            OffsetAndMetadata committed = consumer.committed(Collections.singleton(partition)).get(partition);
+            if (committed != null && committed.offset() >= offset) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static List<Object> getResults(MockProducer<String, Object> producer, TopicPartition partition) {
+        List<Object> results = new ArrayList<>();
+        for (ProducerRecord<String, Object> record : producer.history()) {
+            assertEquals(OUT_TOPIC, record.topic());
+            if (String.valueOf(partition.partition()).equals(record.key())) {
+                results.add(record.value());
+            }
+        }
+        return results;
+    }
+
+    private static List<Object> expectedResults(String prefix, int count) {
+        List<Object> results = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            results.add(hello(prefix + i));
+        }
+        return results;
+    }
+
+    /**
+     * Keeps the added records and returns them again after a seek, as the broker does. The assigned partitions are
+     * positioned at the beginning, so the consumer does not reset them by the seeks which are recorded.
+     */
+    private static class TestConsumer extends MockConsumer<String, RequestMessage> {
+        private final Map<TopicPartition, List<ConsumerRecord<String, RequestMessage>>> log = new HashMap<>();
+        private final Map<TopicPartition, List<Long>> seeks = new HashMap<>();
+
+        TestConsumer() {
+            super(OffsetResetStrategy.EARLIEST);
+        }
+
+        void assign(TopicPartition... partitions) {
+            Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+            for (TopicPartition partition : partitions) {
+                beginningOffsets.put(partition, 0L);
+            }
+            updateBeginningOffsets(beginningOffsets);
+            schedulePollTask(() -> {
+                rebalance(Arrays.asList(partitions));
+                for (TopicPartition partition : partitions) {
+                    super.seek(partition, 0);
+                }
+                for (List<ConsumerRecord<String, RequestMessage>> records : log.values()) {
+                    records.forEach(this::addRecord);
+                }
+            });
+        }
+
+        synchronized void addRequest(TopicPartition partition, long offset, String name) throws Exception {
+            Method method = KafkaServiceTest.class.getMethod("hello", String.class);
+            byte[] rawData = name.getBytes(StandardCharsets.UTF_8);
+            RequestMessage requestMessage = new RequestMessage(method, new Object[] { name }, rawData, null);
+            log.computeIfAbsent(partition, e -> new ArrayList<>())
+                .add(new ConsumerRecord<>(partition.topic(),
+                    partition.partition(),
+                    offset,
+                    String.valueOf(partition.partition()),
+                    requestMessage));
+        }
+
+        @Override
+        public synchronized void seek(TopicPartition partition, long offset) {
+            super.seek(partition, offset);
+            seeks.computeIfAbsent(partition, e -> new ArrayList<>()).add(offset);
+            for (ConsumerRecord<String, RequestMessage> record : log.get(partition)) {
+                if (record.offset() >= offset) {
+                    addRecord(record);
+                }
+            }
+        }
+    }
+}
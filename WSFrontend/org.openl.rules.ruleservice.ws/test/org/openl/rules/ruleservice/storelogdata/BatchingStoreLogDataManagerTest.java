@@ -0,0 +1,252 @@
+package org.openl.rules.ruleservice.storelogdata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BatchingStoreLogDataManagerTest {
+
+    private static final String SERVICE_NAME = "testStoreLogDataService";
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test(timeout = 20000)
+    public void testDataAreSavedByBatches() throws Exception {
+        TestStoreLogDataService service = new TestStoreLogDataService();
+        BatchingStoreLogDataManager manager = createManager(service, StoreLogDataOverflowPolicy.BLOCK, 100, 10);
+        List<StoreLogData> stored = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            StoreLogData storeLogData = createStoreLogData(i);
+            stored.add(storeLogData);
+            manager.store(storeLogData);
+        }
+        manager.destroy();
+
+        assertEquals(stored, service.getSaved());
+        for (Integer batchSize : service.getBatchSizes()) {
+            assertTrue(batchSize <= 10);
+        }
+        assertEquals(0, manager.getQueueSize());
+        assertEquals(0, manager.getDroppedCount());
+    }
+
+    @Test
+    public void testFailedDataDoNotPreventSavingOfBatch() {
+        TestStoreLogDataService service = new TestStoreLogDataService() {
+            @Override
+            public void save(StoreLogData storeLogData) {
+                if ("service1".equals(storeLogData.getServiceName())) {
+                    throw new IllegalStateException("Test failure");
+                }
+                super.save(storeLogData);
+            }
+        };
+        service.saveAll(Arrays.asList(createStoreLogData(0), createStoreLogData(1), createStoreLogData(2)));
+
+        assertEquals(2, service.getSaved().size());
+        assertEquals("service0", service.getSaved().get(0).getServiceName());
+        assertEquals("service2", service.getSaved().get(1).getServiceName());
+    }
+
+    @Test(timeout = 20000)
+    public void testDropPolicy() throws Exception {
+        TestStoreLogDataService service = new TestStoreLogDataService();
+        service.block();
+        BatchingStoreLogDataManager manager = createManager(service, StoreLogDataOverflowPolicy.DROP, 1, 1);
+        manager.store(createStoreLogData(0));
+        service.awaitBlocked();
+        manager.store(createStoreLogData(1));
+        manager.store(createStoreLogData(2));
+        manager.store(createStoreLogData(3));
+
+        assertEquals(1, manager.getQueueSize());
+        assertEquals(2, manager.getDroppedCount());
+        assertEquals(Collections.singletonMap(SERVICE_NAME, 2L), manager.getDroppedCounts());
+
+        service.release();
+        manager.destroy();
+        assertEquals(2, service.getSaved().size());
+        assertEquals(0, manager.getSpilledCount());
+    }
+
+    @Test(timeout = 20000)
+    public void testBlockPolicyWaitsForFreeSpace() throws Exception {
+        TestStoreLogDataService service = new TestStoreLogDataService();
+        service.block();
+        BatchingStoreLogDataManager manager = createManager(service, StoreLogDataOverflowPolicy.BLOCK, 1, 1);
+        manager.store(createStoreLogData(0));
+        service.awaitBlocked();
+        manager.store(createStoreLogData(1));
+
+        Thread producer = new Thread(() -> manager.store(createStoreLogData(2)));
+        producer.start();
+        producer.join(300);
+        assertTrue(producer.isAlive());
+
+        service.release();
+        producer.join();
+        manager.destroy();
+        assertEquals(3, service.getSaved().size());
+        assertEquals(0, manager.getDroppedCount());
+    }
+
+    @Test(timeout = 20000)
+    public void testBlockPolicyDropsDataWhenStopped() throws Exception {
+        TestStoreLogDataService service = new TestStoreLogDataService();
+        service.block();
+        BatchingStoreLogDataManager manager = createManager(service, StoreLogDataOverflowPolicy.BLOCK, 1, 1);
+        manager.store(createStoreLogData(0));
+        service.awaitBlocked();
+        manager.store(createStoreLogData(1));
+
+        Thread producer = new Thread(() -> manager.store(createStoreLogData(2)));
+        producer.start();
+        Thread destroyer = new Thread(() -> {
+            try {
+                manager.destroy();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        destroyer.start();
+        service.release();
+        producer.join();
+        destroyer.join();
+
+        manager.store(createStoreLogData(3));
+        assertEquals(4, service.getSaved().size() + manager.getDroppedCount());
+        assertEquals(0, manager.getQueueSize());
+    }
+
+    @Test(timeout = 20000)
+    public void testSpillPolicy() throws Exception {
+        TestStoreLogDataService service = new TestStoreLogDataService();
+        service.block();
+        Path spillDirectory = tempFolder.getRoot().toPath().resolve("spill");
+        BatchingStoreLogDataManager manager = new BatchingStoreLogDataManager(
+            Collections.singletonMap(SERVICE_NAME, service),
+            Collections.singletonMap(SERVICE_NAME, StoreLogDataOverflowPolicy.SPILL),
+            1,
+            1,
+            1,
+            0,
+            spillDirectory);
+        manager.store(createStoreLogData(0));
+        service.awaitBlocked();
+        manager.store(createStoreLogData(1));
+        manager.store(createStoreLogData(2));
+        manager.store(createStoreLogData(3));
+
+        assertEquals(2, manager.getSpilledCount());
+        assertEquals(0, manager.getDroppedCount());
+
+        service.release();
+        manager.destroy();
+        assertEquals(2, service.getSaved().size());
+        List<String> lines = Files.readAllLines(spillDirectory.resolve(SERVICE_NAME + ".log"));
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"serviceName\":\"service2\""));
+        assertTrue(lines.get(1).contains("\"serviceName\":\"service3\""));
+    }
+
+    @Test(timeout = 20000)
+    public void testIgnorableDataAreNotStored() throws Exception {
+        TestStoreLogDataService service = new TestStoreLogDataService();
+        BatchingStoreLogDataManager manager = createManager(service, StoreLogDataOverflowPolicy.BLOCK, 100, 10);
+        StoreLogData storeLogData = createStoreLogData(0);
+        storeLogData.ignore();
+        manager.store(storeLogData);
+        manager.destroy();
+
+        assertTrue(service.getSaved().isEmpty());
+        assertTrue(service.getBatchSizes().isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongQueueCapacity() {
+        createManager(new TestStoreLogDataService(), StoreLogDataOverflowPolicy.BLOCK, 0, 10);
+    }
+
+    private static BatchingStoreLogDataManager createManager(StoreLogDataService service,
+            StoreLogDataOverflowPolicy policy,
+            int queueCapacity,
+            int batchSize) {
+        Map<String, StoreLogDataService> services = new HashMap<>();
+        services.put(SERVICE_NAME, service);
+        Map<String, StoreLogDataOverflowPolicy> policies = new HashMap<>();
+        policies.put(SERVICE_NAME, policy);
+        return new BatchingStoreLogDataManager(services, policies, queueCapacity, 1, batchSize, 10, null);
+    }
+
+    private static StoreLogData createStoreLogData(int i) {
+        StoreLogData storeLogData = new StoreLogData();
+        storeLogData.setServiceName("service" + i);
+        return storeLogData;
+    }
+
+    private static class TestStoreLogDataService implements StoreLogDataService {
+        private final List<StoreLogData> saved = new ArrayList<>();
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private volatile CountDownLatch released = new CountDownLatch(0);
+
+        void block() {
+            released = new CountDownLatch(1);
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            blocked.await();
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        @Override
+        public void saveAll(Collection<StoreLogData> storeLogData) {
+            synchronized (this) {
+                batchSizes.add(storeLogData.size());
+            }
+            blocked.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StoreLogDataService.super.saveAll(storeLogData);
+        }
+
+        @Override
+        public synchronized void save(StoreLogData storeLogData) {
+            saved.add(storeLogData);
+        }
+
+        synchronized List<StoreLogData> getSaved() {
+            return new ArrayList<>(saved);
+        }
+
+        synchronized List<Integer> getBatchSizes() {
+            return new ArrayList<>(batchSizes);
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+    }
+}
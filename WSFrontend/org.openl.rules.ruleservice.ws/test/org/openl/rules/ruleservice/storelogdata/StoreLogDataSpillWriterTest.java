@@ -0,0 +1,79 @@
+package org.openl.rules.ruleservice.storelogdata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.apache.cxf.interceptor.LoggingMessage;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openl.rules.project.model.RulesDeploy.PublisherType;
+import org.openl.rules.ruleservice.kafka.RequestMessage;
+
+public class StoreLogDataSpillWriterTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testWrite() throws Exception {
+        Path file = tempFolder.getRoot().toPath().resolve("spill").resolve("test.log");
+        try (StoreLogDataSpillWriter writer = new StoreLogDataSpillWriter(file)) {
+            StoreLogData restData = new StoreLogData();
+            restData.setServiceName("restService");
+            restData.setPublisherType(PublisherType.RESTFUL);
+            LoggingMessage requestMessage = new LoggingMessage("", "1");
+            requestMessage.getPayload().append("restRequest");
+            restData.setRequestMessage(requestMessage);
+            LoggingMessage responseMessage = new LoggingMessage("", "1");
+            responseMessage.getPayload().append("restResponse");
+            restData.setResponseMessage(responseMessage);
+            writer.write(restData);
+
+            StoreLogData kafkaData = new StoreLogData();
+            kafkaData.setServiceName("kafkaService");
+            kafkaData.setPublisherType(PublisherType.KAFKA);
+            byte[] rawData = "kafkaRequest".getBytes(StandardCharsets.UTF_8);
+            kafkaData.setConsumerRecord(new ConsumerRecord<>("in",
+                0,
+                0,
+                "key",
+                new RequestMessage(null, new IllegalStateException(), rawData, null)));
+            kafkaData.setProducerRecord(new ProducerRecord<>("out", "key", "kafkaResponse"));
+            kafkaData.setObjectSerializer(String::valueOf);
+            writer.write(kafkaData);
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"serviceName\":\"restService\""));
+        assertTrue(lines.get(0).contains("\"publisherType\":\"RESTFUL\""));
+        assertTrue(lines.get(0).contains("\"request\":\"restRequest\""));
+        assertTrue(lines.get(0).contains("\"response\":\"restResponse\""));
+        assertTrue(lines.get(1).contains("\"serviceName\":\"kafkaService\""));
+        assertTrue(lines.get(1).contains("\"publisherType\":\"KAFKA\""));
+        assertTrue(lines.get(1).contains("\"request\":\"kafkaRequest\""));
+        assertTrue(lines.get(1).contains("\"response\":\"kafkaResponse\""));
+    }
+
+    @Test
+    public void testFileIsAppended() throws Exception {
+        Path file = tempFolder.getRoot().toPath().resolve("test.log");
+        StoreLogData storeLogData = new StoreLogData();
+        storeLogData.setServiceName("service");
+        try (StoreLogDataSpillWriter writer = new StoreLogDataSpillWriter(file)) {
+            writer.write(storeLogData);
+        }
+        try (StoreLogDataSpillWriter writer = new StoreLogDataSpillWriter(file)) {
+            writer.write(storeLogData);
+        }
+        assertEquals(2, Files.readAllLines(file).size());
+    }
+}
@@ -337,11 +337,15 @@ public class RuleServiceOpenLServiceInstantiationFactoryImpl implements RuleServ
     }
 
     @Override
-    public void clean(ServiceDescription serviceDescription) {
-        dependencyManagerMap.remove(serviceDescription.getDeployment()).resetAll();
+    public synchronized void clean(ServiceDescription serviceDescription) {
+        RuleServiceDependencyManager dependencyManager = dependencyManagerMap
+            .remove(serviceDescription.getDeployment());
+        if (dependencyManager != null) {
+            dependencyManager.resetAll();
+        }
     }
 
-    private RuleServiceDependencyManager getDependencyManager(ServiceDescription serviceDescription) {
+    private synchronized RuleServiceDependencyManager getDependencyManager(ServiceDescription serviceDescription) {
         RuleServiceDependencyManager dependencyManager;
         DeploymentDescription deployment = serviceDescription.getDeployment();
         if (dependencyManagerMap.containsKey(deployment)) {
@@ -0,0 +1,216 @@
+package org.openl.rules.ruleservice.management;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.openl.rules.project.model.Module;
+import org.openl.rules.project.model.ProjectDependencyDescriptor;
+import org.openl.rules.project.model.ProjectDescriptor;
+import org.openl.rules.ruleservice.core.DeploymentDescription;
+import org.openl.rules.ruleservice.core.MaxThreadsForCompileSemaphore;
+import org.openl.rules.ruleservice.core.OpenLService;
+import org.openl.rules.ruleservice.core.RuleServiceInstantiationFactory;
+import org.openl.rules.ruleservice.core.ServiceDescription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compiles the services concurrently. A service is compiled after the services of the projects it depends on in the
+ * same deployment, so the shared dependencies are compiled once and reused. The services which do not depend on each
+ * other are compiled in parallel, the number of the compiling threads is limited by
+ * {@link MaxThreadsForCompileSemaphore}.
+ */
+final class ServiceCompilationScheduler {
+
+    private final Logger log = LoggerFactory.getLogger(ServiceCompilationScheduler.class);
+
+    private final RuleServiceInstantiationFactory ruleServiceInstantiationFactory;
+    private final int threads;
+
+    ServiceCompilationScheduler(RuleServiceInstantiationFactory ruleServiceInstantiationFactory, int threads) {
+        this.ruleServiceInstantiationFactory = Objects.requireNonNull(ruleServiceInstantiationFactory,
+            "ruleServiceInstantiationFactory cannot be null");
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be positive.");
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * @return compiled services. The services failed to compile are returned with the compilation error, see
+     *         {@link OpenLService#getException()}. The services which cannot be created are absent in the result.
+     */
+    Map<ServiceDescription, OpenLService> compile(Collection<ServiceDescription> serviceDescriptions) {
+        if (serviceDescriptions.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        long start = System.currentTimeMillis();
+        Map<ServiceDescription, Set<ServiceDescription>> dependencies = buildDependencyGraph(serviceDescriptions);
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, serviceDescriptions.size()),
+            new CompilationThreadFactory());
+        Map<ServiceDescription, OpenLService> compiledServices = new ConcurrentHashMap<>();
+        try {
+            Map<ServiceDescription, CompletableFuture<Void>> futures = new HashMap<>();
+            for (ServiceDescription serviceDescription : sort(dependencies)) {
+                CompletableFuture<?>[] dependencyFutures = dependencies.get(serviceDescription)
+                    .stream()
+                    .map(futures::get)
+                    .filter(Objects::nonNull)
+                    .toArray(CompletableFuture[]::new);
+                futures.put(serviceDescription,
+                    CompletableFuture.allOf(dependencyFutures).thenRunAsync(() -> {
+                        OpenLService service = compile(serviceDescription, contextClassLoader);
+                        if (service != null) {
+                            compiledServices.put(serviceDescription, service);
+                        }
+                    }, executor));
+            }
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+        log.info("{} services have been compiled in [{}] ms, {} failed.",
+            serviceDescriptions.size(),
+            System.currentTimeMillis() - start,
+            serviceDescriptions.size() - compiledServices.values()
+                .stream()
+                .filter(service -> service.getException() == null)
+                .count());
+        return compiledServices;
+    }
+
+    private OpenLService compile(ServiceDescription serviceDescription, ClassLoader contextClassLoader) {
+        long start = System.nanoTime();
+        Thread thread = Thread.currentThread();
+        ClassLoader oldClassLoader = thread.getContextClassLoader();
+        OpenLService newService = null;
+        try {
+            thread.setContextClassLoader(contextClassLoader);
+            newService = ruleServiceInstantiationFactory.createService(serviceDescription);
+            OpenLService service = newService;
+            // Initialization of the service compiles it
+            MaxThreadsForCompileSemaphore.getInstance().run(service::getServiceBean);
+            return newService;
+        } catch (Exception e) {
+            log.error("Failed to compile service '{}'.", serviceDescription.getDeployPath(), e);
+            if (newService != null) {
+                // The service is registered with this error, so it is not compiled again
+                newService.setException(ExceptionUtils.getRootCause(e));
+            }
+            return newService;
+        } finally {
+            thread.setContextClassLoader(oldClassLoader);
+            log.info("Compilation of service '{}' in deployment '{}' took [{}] ms.",
+                serviceDescription.getDeployPath(),
+                serviceDescription.getDeployment().getName(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Links every service to the services of the same deployment which belong to the projects the service depends on.
+     */
+    static Map<ServiceDescription, Set<ServiceDescription>> buildDependencyGraph(
+            Collection<ServiceDescription> serviceDescriptions) {
+        Map<DeploymentDescription, Map<String, List<ServiceDescription>>> servicesByProject = new HashMap<>();
+        for (ServiceDescription serviceDescription : serviceDescriptions) {
+            for (ProjectDescriptor project : getProjects(serviceDescription)) {
+                servicesByProject.computeIfAbsent(serviceDescription.getDeployment(), e -> new HashMap<>())
+                    .computeIfAbsent(project.getName(), e -> new ArrayList<>())
+                    .add(serviceDescription);
+            }
+        }
+        Map<ServiceDescription, Set<ServiceDescription>> dependencies = new LinkedHashMap<>();
+        for (ServiceDescription serviceDescription : serviceDescriptions) {
+            Map<String, List<ServiceDescription>> deploymentServices = servicesByProject
+                .getOrDefault(serviceDescription.getDeployment(), Collections.emptyMap());
+            Set<ServiceDescription> serviceDependencies = new LinkedHashSet<>();
+            for (ProjectDescriptor project : getProjects(serviceDescription)) {
+                if (project.getDependencies() == null) {
+                    continue;
+                }
+                for (ProjectDependencyDescriptor dependency : project.getDependencies()) {
+                    for (ServiceDescription dependencyService : deploymentServices
+                        .getOrDefault(dependency.getName(), Collections.emptyList())) {
+                        if (dependencyService != serviceDescription) {
+                            serviceDependencies.add(dependencyService);
+                        }
+                    }
+                }
+            }
+            dependencies.put(serviceDescription, serviceDependencies);
+        }
+        return dependencies;
+    }
+
+    private static Collection<ProjectDescriptor> getProjects(ServiceDescription serviceDescription) {
+        Set<ProjectDescriptor> projects = new LinkedHashSet<>();
+        Collection<Module> modules = serviceDescription.getModules();
+        if (modules != null) {
+            for (Module module : modules) {
+                if (module.getProject() != null) {
+                    projects.add(module.getProject());
+                }
+            }
+        }
+        return projects;
+    }
+
+    /**
+     * Orders the services so that every service follows the services it depends on. The dependencies which close a
+     * cycle are ignored, such services are compiled independently and the cycle is reported by the compilation.
+     */
+    static List<ServiceDescription> sort(Map<ServiceDescription, Set<ServiceDescription>> dependencies) {
+        List<ServiceDescription> sorted = new ArrayList<>(dependencies.size());
+        Set<ServiceDescription> visited = new HashSet<>();
+        for (ServiceDescription serviceDescription : dependencies.keySet()) {
+            visit(serviceDescription, dependencies, visited, sorted);
+        }
+        return sorted;
+    }
+
+    private static void visit(ServiceDescription serviceDescription,
+            Map<ServiceDescription, Set<ServiceDescription>> dependencies,
+            Set<ServiceDescription> visited,
+            List<ServiceDescription> sorted) {
+        if (visited.add(serviceDescription)) {
+            for (ServiceDescription dependency : dependencies.get(serviceDescription)) {
+                visit(dependency, dependencies, visited, sorted);
+            }
+            sorted.add(serviceDescription);
+        }
+    }
+
+    private static final class CompilationThreadFactory implements ThreadFactory {
+        private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+        private final int poolNumber = POOL_NUMBER.incrementAndGet();
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r,
+                "openl-service-compilation-" + poolNumber + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -30,11 +31,13 @@ import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
 import org.openl.rules.project.model.RulesDeploy;
 import org.openl.rules.ruleservice.conf.ServiceConfigurer;
 import org.openl.rules.ruleservice.core.DeploymentDescription;
+import org.openl.rules.ruleservice.core.MaxThreadsForCompileSemaphore;
 import org.openl.rules.ruleservice.core.OpenLService;
 import org.openl.rules.ruleservice.core.RuleServiceDeployException;
 import org.openl.rules.ruleservice.core.RuleServiceInstantiationException;
 import org.openl.rules.ruleservice.core.RuleServiceInstantiationFactory;
 import org.openl.rules.ruleservice.core.RuleServiceRedeployLock;
+import org.openl.rules.ruleservice.core.RuleServiceStaticConfigurationUtil;
 import org.openl.rules.ruleservice.core.RuleServiceUndeployException;
 import org.openl.rules.ruleservice.core.ServiceDescription;
 import org.openl.rules.ruleservice.loader.DataSourceListener;
@@ -73,6 +76,9 @@ public class ServiceManagerImpl implements ServiceManager, DataSourceListener, S
     private ServiceDescription serviceDescriptionInProcess;
     private OpenLService openLServiceInProcess;
 
+    private boolean blueGreenDeployment;
+    private boolean parallelDeployment;
+
     public void setRuleServiceLoader(RuleServiceLoader ruleServiceLoader) {
         if (this.ruleServiceLoader != null) {
             this.ruleServiceLoader.setListener(null);
@@ -106,6 +112,23 @@ public class ServiceManagerImpl implements ServiceManager, DataSourceListener, S
         this.defaultRuleServicePublishers = Arrays.asList(defaultRuleServicePublishers);
     }
 
+    /**
+     * Enables blue/green redeployment. New versions of the services are compiled while the old versions keep serving
+     * the requests. The requests are blocked only for the time of replacing the old versions by the new ones.
+     */
+    public void setBlueGreenDeployment(boolean blueGreenDeployment) {
+        this.blueGreenDeployment = blueGreenDeployment;
+    }
+
+    /**
+     * Enables parallel compilation of the services. The services of the projects which do not depend on each other
+     * are compiled concurrently, the number of the compiling threads is limited by
+     * {@link MaxThreadsForCompileSemaphore}. The compiled services are published one by one.
+     */
+    public void setParallelDeployment(boolean parallelDeployment) {
+        this.parallelDeployment = parallelDeployment;
+    }
+
     /**
      * Determine services to be deployed on start.
      */
@@ -158,27 +181,48 @@ public class ServiceManagerImpl implements ServiceManager, DataSourceListener, S
         final Map<DeploymentDescription, List<ServiceDescription>> groupedServices = newServices.values()
             .stream()
             .collect(Collectors.groupingBy(ServiceDescription::getDeployment));
+        final List<List<ServiceDescription>> deploymentsToDeploy = groupedServices.values()
+            .stream()
+            .filter(this::hasAtLeastOneToDeploy)
+            .collect(Collectors.toList());
+        if (blueGreenDeployment) {
+            Map<ServiceDescription, OpenLService> compiledServices = compileServices(deploymentsToDeploy);
+            for (List<ServiceDescription> serviceDescriptionsForDeployment : deploymentsToDeploy) {
+                redeployBlueGreen(serviceDescriptionsForDeployment, compiledServices);
+            }
+            return;
+        }
         Lock lock = RuleServiceRedeployLock.getInstance().getWriteLock();
         try {
             lock.lock();
-            for (List<ServiceDescription> serviceDescriptionsForDeployment : groupedServices.values()) {
-                if (hasAtLeastOneToDeploy(serviceDescriptionsForDeployment)) {
-                    for (ServiceDescription serviceDescription : serviceDescriptionsForDeployment) {
-                        ServiceDescription old = services.get(serviceDescription.getDeployPath());
-                        if (old != null) {
-                            try {
-                                undeploy(old);
-                            } catch (RuleServiceUndeployException e) {
-                                log.error("Failed to undeploy service '{}'.", serviceDescription.getDeployPath(), e);
-                            }
+            for (List<ServiceDescription> serviceDescriptionsForDeployment : deploymentsToDeploy) {
+                for (ServiceDescription serviceDescription : serviceDescriptionsForDeployment) {
+                    ServiceDescription old = services.get(serviceDescription.getDeployPath());
+                    if (old != null) {
+                        try {
+                            undeploy(old);
+                        } catch (RuleServiceUndeployException e) {
+                            log.error("Failed to undeploy service '{}'.", serviceDescription.getDeployPath(), e);
                         }
                     }
-                    for (ServiceDescription serviceDescription : serviceDescriptionsForDeployment) {
-                        try {
+                }
+            }
+            Map<ServiceDescription, OpenLService> compiledServices = compileServices(deploymentsToDeploy);
+            for (List<ServiceDescription> serviceDescriptionsForDeployment : deploymentsToDeploy) {
+                for (ServiceDescription serviceDescription : serviceDescriptionsForDeployment) {
+                    try {
+                        if (parallelDeployment) {
+                            OpenLService newService = compiledServices.get(serviceDescription);
+                            if (isFailed(newService)) {
+                                registerFailedService(serviceDescription, newService);
+                            } else {
+                                deploy(serviceDescription, newService);
+                            }
+                        } else {
                             deploy(serviceDescription);
-                        } catch (RuleServiceDeployException e) {
-                            log.error("Failed to deploy service '{}'.", serviceDescription.getDeployPath(), e);
                         }
+                    } catch (RuleServiceDeployException e) {
+                        log.error("Failed to deploy service '{}'.", serviceDescription.getDeployPath(), e);
                     }
                 }
             }
@@ -187,6 +231,143 @@ public class ServiceManagerImpl implements ServiceManager, DataSourceListener, S
         }
     }
 
+    /**
+     * Compiles new versions of the services of a deployment without the redeploy lock, then replaces the old versions
+     * under the write lock. The write lock is acquired when all in-flight requests are finished, so the old versions
+     * are undeployed and their class loaders are released after the requests drain. If a new version of any service
+     * with the old version fails to compile, the old versions of the deployment are kept and the resources of the new
+     * versions are released. The new services which fail to compile are registered with the errors of the first
+     * compilation.
+     *
+     * @param precompiledServices services compiled in parallel or empty map if the parallel deployment is disabled
+     */
+    private void redeployBlueGreen(List<ServiceDescription> serviceDescriptions,
+            Map<ServiceDescription, OpenLService> precompiledServices) {
+        Map<ServiceDescription, OpenLService> compiledServices = new LinkedHashMap<>();
+        boolean failed = false;
+        for (ServiceDescription serviceDescription : serviceDescriptions) {
+            OpenLService newService = parallelDeployment ? precompiledServices.get(serviceDescription)
+                                                         : compileService(serviceDescription);
+            if (newService != null) {
+                compiledServices.put(serviceDescription, newService);
+            }
+            if (isFailed(newService) && services.containsKey(serviceDescription.getDeployPath())) {
+                failed = true;
+            }
+        }
+        if (failed) {
+            log.error("Failed to compile new versions of services of deployment '{}'. Old versions are kept.",
+                serviceDescriptions.get(0).getDeployment().getName());
+            compiledServices.values().forEach(ServiceManagerImpl::releaseClassLoader);
+            // The old versions are still registered, so the resources shared with them are kept
+            cleanDeploymentResources(serviceDescriptions.get(0));
+            return;
+        }
+        List<ServiceDescription> oldServices = new ArrayList<>();
+        List<OpenLService> oldOpenLServices = new ArrayList<>();
+        Lock lock = RuleServiceRedeployLock.getInstance().getWriteLock();
+        try {
+            lock.lock();
+            for (ServiceDescription serviceDescription : serviceDescriptions) {
+                String deployPath = serviceDescription.getDeployPath();
+                ServiceDescription old = services.remove(deployPath);
+                if (old != null) {
+                    oldServices.add(old);
+                    oldOpenLServices.add(getServiceByDeploy(deployPath));
+                    startDates.remove(deployPath);
+                    try {
+                        undeploy(deployPath);
+                        log.info("Old version of service '{}' has been undeployed successfully.", deployPath);
+                    } catch (RuleServiceUndeployException e) {
+                        log.error("Failed to undeploy service '{}'.", deployPath, e);
+                    }
+                }
+                OpenLService newService = compiledServices.get(serviceDescription);
+                if (isFailed(newService)) {
+                    registerFailedService(serviceDescription, newService);
+                    continue;
+                }
+                try {
+                    deploy(serviceDescription, newService);
+                } catch (RuleServiceDeployException e) {
+                    log.error("Failed to deploy service '{}'.", deployPath, e);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        oldOpenLServices.forEach(ServiceManagerImpl::releaseClassLoader);
+        // The old services usually belong to the same deployment, its resources are cleaned once
+        Map<DeploymentDescription, ServiceDescription> oldDeployments = new LinkedHashMap<>();
+        for (ServiceDescription oldService : oldServices) {
+            oldDeployments.putIfAbsent(oldService.getDeployment(), oldService);
+        }
+        oldDeployments.values().forEach(this::cleanDeploymentResources);
+    }
+
+    /**
+     * Compiles the services of the deployments in parallel. The services which are failed to compile are returned with
+     * the compilation errors and registered without compiling them again.
+     */
+    private Map<ServiceDescription, OpenLService> compileServices(List<List<ServiceDescription>> deployments) {
+        if (!parallelDeployment || deployments.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<ServiceDescription> serviceDescriptions = deployments.stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+        return new ServiceCompilationScheduler(ruleServiceInstantiationFactory,
+            RuleServiceStaticConfigurationUtil.getMaxThreadsForCompile()).compile(serviceDescriptions);
+    }
+
+    /**
+     * Compiles the service without the redeploy lock. The service in process is not changed here, because it is shared
+     * with the services which are deployed under the lock.
+     *
+     * @return compiled service, service with the compilation error or null if the service cannot be created
+     */
+    private OpenLService compileService(ServiceDescription serviceDescription) {
+        OpenLService newService = null;
+        try {
+            newService = ruleServiceInstantiationFactory.createService(serviceDescription);
+            // Initialization of the service compiles it
+            newService.getServiceBean();
+        } catch (RuleServiceInstantiationException | RuntimeException e) {
+            log.error("Failed to compile service '{}'.", serviceDescription.getDeployPath(), e);
+            if (newService != null) {
+                newService.setException(ExceptionUtils.getRootCause(e));
+            }
+        }
+        return newService;
+    }
+
+    private static boolean isFailed(OpenLService service) {
+        return service == null || service.getException() != null;
+    }
+
+    /**
+     * Registers the service which failed to compile without compiling it again. The errors of the service are reported
+     * the same way as the errors of the service which failed on deploy.
+     */
+    private void registerFailedService(ServiceDescription serviceDescription, OpenLService failedService) {
+        String servicePath = serviceDescription.getDeployPath();
+        if (failedService != null) {
+            services2.put(servicePath, failedService);
+            setUrls(failedService);
+        }
+        services.put(servicePath, serviceDescription);
+        startDates.put(servicePath, new Date());
+    }
+
+    private static void releaseClassLoader(OpenLService service) {
+        if (service != null) {
+            try {
+                OpenClassUtil.releaseClassLoader(service.getClassLoader());
+            } catch (RuleServiceInstantiationException ignored) {
+            }
+        }
+    }
+
     private boolean hasAtLeastOneToDeploy(List<ServiceDescription> serviceDescriptionsForCurrentDeployment) {
         for (ServiceDescription serviceDescription : serviceDescriptionsForCurrentDeployment) {
             ServiceDescription old = services.get(serviceDescription.getDeployPath());
@@ -244,15 +425,28 @@ public class ServiceManagerImpl implements ServiceManager, DataSourceListener, S
             throw new RuleServiceDeployException(
                 String.format("The service with path '%s' is already deployed.", servicePath));
         }
+        OpenLService newService;
         try {
             this.serviceDescriptionInProcess = serviceDescription;
-            OpenLService newService = ruleServiceInstantiationFactory.createService(serviceDescription);
+            newService = ruleServiceInstantiationFactory.createService(serviceDescription);
+        } catch (RuleServiceInstantiationException e) {
+            this.serviceDescriptionInProcess = null;
+            // Register a service even it was deployed unsuccessfully.
+            services.put(servicePath, serviceDescription);
+            startDates.put(servicePath, new Date());
+            throw new RuleServiceDeployException("Failed on deploy a service.", e);
+        }
+        deploy(serviceDescription, newService);
+    }
+
+    private void deploy(ServiceDescription serviceDescription,
+            OpenLService newService) throws RuleServiceDeployException {
+        String servicePath = serviceDescription.getDeployPath();
+        try {
             this.openLServiceInProcess = newService;
             this.serviceDescriptionInProcess = serviceDescription;
             deploy(newService);
             log.info("Service '{}' has been deployed successfully.", servicePath);
-        } catch (RuleServiceInstantiationException e) {
-            throw new RuleServiceDeployException("Failed on deploy a service.", e);
         } finally {
             this.serviceDescriptionInProcess = null;
             this.openLServiceInProcess = null;
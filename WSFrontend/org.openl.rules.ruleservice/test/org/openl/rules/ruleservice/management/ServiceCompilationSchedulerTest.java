@@ -0,0 +1,119 @@
+package org.openl.rules.ruleservice.management;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+import org.openl.rules.common.impl.CommonVersionImpl;
+import org.openl.rules.project.model.Module;
+import org.openl.rules.project.model.ProjectDependencyDescriptor;
+import org.openl.rules.project.model.ProjectDescriptor;
+import org.openl.rules.ruleservice.core.DeploymentDescription;
+import org.openl.rules.ruleservice.core.OpenLService;
+import org.openl.rules.ruleservice.core.ResourceLoader;
+import org.openl.rules.ruleservice.core.RuleServiceInstantiationException;
+import org.openl.rules.ruleservice.core.RuleServiceInstantiationFactory;
+import org.openl.rules.ruleservice.core.ServiceDescription;
+
+public class ServiceCompilationSchedulerTest {
+
+    private final DeploymentDescription deployment = new DeploymentDescription("deployment",
+        new CommonVersionImpl(1));
+
+    @Test
+    public void testDependencyGraph() {
+        ServiceDescription a = createService(deployment, "a", "b", "c");
+        ServiceDescription b = createService(deployment, "b", "c");
+        ServiceDescription c = createService(deployment, "c");
+        ServiceDescription d = createService(new DeploymentDescription("other", new CommonVersionImpl(1)), "d", "c");
+
+        Map<ServiceDescription, Set<ServiceDescription>> graph = ServiceCompilationScheduler
+            .buildDependencyGraph(Arrays.asList(a, b, c, d));
+
+        assertEquals(Arrays.asList(b, c), new ArrayList<>(graph.get(a)));
+        assertEquals(Collections.singleton(c), graph.get(b));
+        assertTrue(graph.get(c).isEmpty());
+        assertTrue(graph.get(d).isEmpty());
+        assertEquals(Arrays.asList(c, b, a, d), ServiceCompilationScheduler.sort(graph));
+    }
+
+    @Test
+    public void testCircularDependencies() {
+        ServiceDescription a = createService(deployment, "a", "b");
+        ServiceDescription b = createService(deployment, "b", "a");
+
+        Map<ServiceDescription, Set<ServiceDescription>> graph = ServiceCompilationScheduler
+            .buildDependencyGraph(Arrays.asList(a, b));
+
+        assertEquals(Arrays.asList(b, a), ServiceCompilationScheduler.sort(graph));
+    }
+
+    @Test
+    public void testCompile() throws Exception {
+        ServiceDescription a = createService(deployment, "a", "b");
+        ServiceDescription b = createService(deployment, "b");
+        ServiceDescription c = createService(deployment, "c");
+        ServiceDescription failed = createService(deployment, "failed");
+        List<String> compiled = Collections.synchronizedList(new ArrayList<>());
+
+        RuleServiceInstantiationFactory factory = mock(RuleServiceInstantiationFactory.class);
+        when(factory.createService(any(ServiceDescription.class))).thenAnswer(invocation -> {
+            ServiceDescription serviceDescription = (ServiceDescription) invocation.getArguments()[0];
+            return new OpenLService.OpenLServiceBuilder().setName(serviceDescription.getName())
+                .setDeployPath(serviceDescription.getDeployPath())
+                .setDeployment(serviceDescription.getDeployment())
+                .build(service -> {
+                    if ("failed".equals(service.getName())) {
+                        throw new RuleServiceInstantiationException("Compilation error.");
+                    }
+                    compiled.add(service.getName());
+                });
+        });
+
+        Map<ServiceDescription, OpenLService> result = new ServiceCompilationScheduler(factory, 3)
+            .compile(Arrays.asList(a, b, c, failed));
+
+        assertEquals(4, result.size());
+        assertEquals("a", result.get(a).getName());
+        assertEquals("b", result.get(b).getName());
+        assertEquals("c", result.get(c).getName());
+        assertNull(result.get(a).getException());
+        assertEquals("Compilation error.", result.get(failed).getException().getMessage());
+        assertEquals(3, compiled.size());
+        assertTrue(compiled.indexOf("b") < compiled.indexOf("a"));
+    }
+
+    private static ServiceDescription createService(DeploymentDescription deployment,
+            String name,
+            String... dependencies) {
+        ProjectDescriptor project = new ProjectDescriptor();
+        project.setName(name);
+        List<ProjectDependencyDescriptor> projectDependencies = new ArrayList<>();
+        for (String dependency : dependencies) {
+            ProjectDependencyDescriptor projectDependency = new ProjectDependencyDescriptor();
+            projectDependency.setName(dependency);
+            projectDependencies.add(projectDependency);
+        }
+        project.setDependencies(projectDependencies);
+        Module module = new Module();
+        module.setName(name);
+        module.setProject(project);
+        return new ServiceDescription.ServiceDescriptionBuilder().setName(name)
+            .setServicePath(name)
+            .setModules(Collections.singletonList(module))
+            .setDeployment(deployment)
+            .setResourceLoader(mock(ResourceLoader.class))
+            .build();
+    }
+}
@@ -0,0 +1,218 @@
+package org.openl.rules.ruleservice.management;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openl.rules.common.impl.CommonVersionImpl;
+import org.openl.rules.project.model.Module;
+import org.openl.rules.project.model.ProjectDescriptor;
+import org.openl.rules.ruleservice.conf.ServiceConfigurer;
+import org.openl.rules.ruleservice.core.DeploymentDescription;
+import org.openl.rules.ruleservice.core.OpenLService;
+import org.openl.rules.ruleservice.core.ResourceLoader;
+import org.openl.rules.ruleservice.core.RuleServiceInstantiationException;
+import org.openl.rules.ruleservice.core.RuleServiceInstantiationFactory;
+import org.openl.rules.ruleservice.core.ServiceDescription;
+import org.openl.rules.ruleservice.loader.RuleServiceLoader;
+import org.openl.rules.ruleservice.publish.RuleServicePublisher;
+
+public class ServiceManagerImplTest {
+
+    private final List<ServiceDescription> servicesToBeDeployed = new ArrayList<>();
+    private final List<DeploymentDescription> cleanedDeployments = new ArrayList<>();
+    private final Set<String> failedServices = new HashSet<>();
+    private final List<String> createdServices = new ArrayList<>();
+    private final TestPublisher publisher = new TestPublisher();
+    private ServiceManagerImpl serviceManager;
+
+    @Before
+    public void setUp() throws Exception {
+        RuleServiceInstantiationFactory factory = mock(RuleServiceInstantiationFactory.class);
+        when(factory.createService(any(ServiceDescription.class))).thenAnswer(invocation -> {
+            ServiceDescription serviceDescription = (ServiceDescription) invocation.getArguments()[0];
+            createdServices.add(serviceDescription.getDeployPath());
+            boolean failed = failedServices.contains(serviceDescription.getDeployPath());
+            return new OpenLService.OpenLServiceBuilder().setName(serviceDescription.getName())
+                .setDeployPath(serviceDescription.getDeployPath())
+                .setDeployment(serviceDescription.getDeployment())
+                .build(service -> {
+                    if (failed) {
+                        throw new RuleServiceInstantiationException("Compilation error.");
+                    }
+                });
+        });
+        doAnswer(invocation -> {
+            DeploymentDescription deployment = ((ServiceDescription) invocation.getArguments()[0]).getDeployment();
+            if (cleanedDeployments.contains(deployment)) {
+                throw new NullPointerException("Deployment is already cleaned.");
+            }
+            cleanedDeployments.add(deployment);
+            return null;
+        }).when(factory).clean(any(ServiceDescription.class));
+
+        ServiceConfigurer serviceConfigurer = mock(ServiceConfigurer.class);
+        when(serviceConfigurer.getServicesToBeDeployed(any(RuleServiceLoader.class)))
+            .thenAnswer(invocation -> new ArrayList<>(servicesToBeDeployed));
+
+        serviceManager = new ServiceManagerImpl();
+        serviceManager.setRuleServiceInstantiationFactory(factory);
+        serviceManager.setServiceConfigurer(serviceConfigurer);
+        serviceManager.setRuleServiceLoader(mock(RuleServiceLoader.class));
+        serviceManager.setSupportedPublishers(Collections.singletonMap("test", publisher));
+        serviceManager.setBlueGreenDeployment(true);
+        serviceManager.afterPropertiesSet();
+    }
+
+    @Test
+    public void testBlueGreenRedeployOfDeploymentWithSeveralServices() {
+        DeploymentDescription first1 = new DeploymentDescription("first", new CommonVersionImpl(1));
+        DeploymentDescription second1 = new DeploymentDescription("second", new CommonVersionImpl(1));
+        setServicesToBeDeployed(createService(first1, "a"),
+            createService(first1, "b"),
+            createService(first1, "c"),
+            createService(second1, "d"));
+        serviceManager.start();
+        assertEquals(4, serviceManager.getServices().size());
+        assertEquals(4, publisher.services.size());
+
+        DeploymentDescription first2 = new DeploymentDescription("first", new CommonVersionImpl(2));
+        DeploymentDescription second2 = new DeploymentDescription("second", new CommonVersionImpl(2));
+        setServicesToBeDeployed(createService(first2, "a"),
+            createService(first2, "b"),
+            createService(first2, "c"),
+            createService(second2, "d"));
+        serviceManager.onDeploymentAdded();
+
+        assertEquals(4, serviceManager.getServices().size());
+        for (String deployPath : Arrays.asList("a", "b", "c")) {
+            assertEquals(first2, serviceManager.getServiceByDeploy(deployPath).getDeployment());
+            assertSame(serviceManager.getServiceByDeploy(deployPath), publisher.services.get(deployPath));
+        }
+        assertEquals(second2, serviceManager.getServiceByDeploy("d").getDeployment());
+        assertEquals(4, publisher.services.size());
+        assertEquals(new HashSet<>(Arrays.asList(first1, second1)), new HashSet<>(cleanedDeployments));
+        assertEquals(2, cleanedDeployments.size());
+    }
+
+    @Test
+    public void testFailedBlueGreenRedeployCleansNewDeployment() {
+        DeploymentDescription first1 = new DeploymentDescription("first", new CommonVersionImpl(1));
+        setServicesToBeDeployed(createService(first1, "a"), createService(first1, "b"));
+        serviceManager.start();
+
+        DeploymentDescription first2 = new DeploymentDescription("first", new CommonVersionImpl(2));
+        failedServices.add("b");
+        setServicesToBeDeployed(createService(first2, "a"), createService(first2, "b"));
+        serviceManager.onDeploymentAdded();
+
+        for (String deployPath : Arrays.asList("a", "b")) {
+            assertEquals(first1, serviceManager.getServiceByDeploy(deployPath).getDeployment());
+            assertSame(serviceManager.getServiceByDeploy(deployPath), publisher.services.get(deployPath));
+        }
+        assertEquals(Collections.singletonList(first2), cleanedDeployments);
+    }
+
+    @Test
+    public void testNewServiceFailedToCompileIsRegisteredWithoutRecompilation() {
+        DeploymentDescription first1 = new DeploymentDescription("first", new CommonVersionImpl(1));
+        setServicesToBeDeployed(createService(first1, "a"));
+        serviceManager.start();
+
+        DeploymentDescription first2 = new DeploymentDescription("first", new CommonVersionImpl(2));
+        failedServices.add("b");
+        createdServices.clear();
+        setServicesToBeDeployed(createService(first2, "a"), createService(first2, "b"));
+        serviceManager.onDeploymentAdded();
+
+        Collections.sort(createdServices);
+        assertEquals(Arrays.asList("a", "b"), createdServices);
+        assertEquals(first2, serviceManager.getServiceByDeploy("a").getDeployment());
+        assertSame(serviceManager.getServiceByDeploy("a"), publisher.services.get("a"));
+        assertNotNull(serviceManager.getServiceByDeploy("b"));
+        assertFalse(publisher.services.containsKey("b"));
+        assertEquals(Collections.singletonList("org.openl.rules.ruleservice.core.RuleServiceInstantiationException: " +
+                "Compilation error."),
+            new ArrayList<>(serviceManager.getServiceErrors("b")));
+        assertEquals(2, serviceManager.getServicesInfo().size());
+        assertEquals(Collections.singletonList(first1), cleanedDeployments);
+    }
+
+    @Test
+    public void testServiceFailedInParallelCompilationIsRegisteredWithoutRecompilation() {
+        serviceManager.setBlueGreenDeployment(false);
+        serviceManager.setParallelDeployment(true);
+        DeploymentDescription first1 = new DeploymentDescription("first", new CommonVersionImpl(1));
+        failedServices.add("b");
+        setServicesToBeDeployed(createService(first1, "a"), createService(first1, "b"));
+        serviceManager.start();
+
+        Collections.sort(createdServices);
+        assertEquals(Arrays.asList("a", "b"), createdServices);
+        assertSame(serviceManager.getServiceByDeploy("a"), publisher.services.get("a"));
+        assertNotNull(serviceManager.getServiceByDeploy("b"));
+        assertFalse(publisher.services.containsKey("b"));
+        assertEquals(Collections.singletonList("org.openl.rules.ruleservice.core.RuleServiceInstantiationException: " +
+                "Compilation error."),
+            new ArrayList<>(serviceManager.getServiceErrors("b")));
+    }
+
+    private void setServicesToBeDeployed(ServiceDescription... serviceDescriptions) {
+        servicesToBeDeployed.clear();
+        servicesToBeDeployed.addAll(Arrays.asList(serviceDescriptions));
+    }
+
+    private static ServiceDescription createService(DeploymentDescription deployment, String name) {
+        ProjectDescriptor project = new ProjectDescriptor();
+        project.setName(name);
+        Module module = new Module();
+        module.setName(name);
+        module.setProject(project);
+        return new ServiceDescription.ServiceDescriptionBuilder().setName(name)
+            .setServicePath(name)
+            .setModules(Collections.singletonList(module))
+            .setDeployment(deployment)
+            .setResourceLoader(mock(ResourceLoader.class))
+            .build();
+    }
+
+    private static class TestPublisher implements RuleServicePublisher {
+        private final Map<String, OpenLService> services = new HashMap<>();
+
+        @Override
+        public void deploy(OpenLService service) {
+            services.put(service.getDeployPath(), service);
+        }
+
+        @Override
+        public void undeploy(OpenLService service) {
+            services.remove(service.getDeployPath());
+        }
+
+        @Override
+        public OpenLService getServiceByDeploy(String deployPath) {
+            return services.get(deployPath);
+        }
+
+        @Override
+        public String getUrl(OpenLService service) {
+            return service.getDeployPath();
+        }
+    }
+}